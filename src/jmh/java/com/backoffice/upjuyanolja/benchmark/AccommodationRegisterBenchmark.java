@@ -0,0 +1,77 @@
+package com.backoffice.upjuyanolja.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 숙소 등록 벤치마크
+ * <p>
+ * 객실이 많은 숙소 하나를 객실 별 가격, 옵션, 이미지, 쿠폰, 30일 재고와 함께 저장한다. batchSize 1 은 JDBC 배치를 끈 상태이고,
+ * 호출 당 DB 왕복 횟수(준비된 문장 수)를 보조 카운터 statements 로 함께 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccommodationRegisterBenchmark {
+
+    @Param({"50", "200"})
+    private int roomCount;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private BenchmarkFixture fixture;
+
+    private Statistics statistics;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RoundTrips {
+
+        public long statements;
+    }
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(
+            "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+            "spring.jpa.properties.hibernate.order_inserts=true",
+            "spring.jpa.properties.hibernate.generate_statistics=true");
+        fixture = new BenchmarkFixture(context);
+        statistics = context.getBean(EntityManagerFactory.class)
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearStatistics() {
+        statistics.clear();
+    }
+
+    @Benchmark
+    public void register(RoundTrips roundTrips) {
+        fixture.saveAccommodations(1, roomCount);
+        roundTrips.statements += statistics.getPrepareStatementCount();
+    }
+}
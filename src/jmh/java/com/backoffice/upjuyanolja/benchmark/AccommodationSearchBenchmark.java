@@ -0,0 +1,77 @@
+package com.backoffice.upjuyanolja.benchmark;
+
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationPageResponse;
+import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationQueryService;
+import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationSummaryService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 숙소 목록 조회 벤치마크
+ * <p>
+ * 숙소 수, 숙소 당 객실 수 만큼 H2 에 픽스처를 만든 뒤 첫 페이지 조회를 측정한다. summaryEnabled 로 요약 테이블 사용 여부를
+ * 비교할 수 있다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AccommodationSearchBenchmark {
+
+    @Param({"100", "1000"})
+    private int accommodationCount;
+
+    @Param({"5"})
+    private int roomCount;
+
+    @Param({"false", "true"})
+    private boolean summaryEnabled;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private AccommodationQueryService accommodationQueryService;
+
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(
+            "accommodation.summary.enabled=" + summaryEnabled);
+        new BenchmarkFixture(context).saveAccommodations(accommodationCount, roomCount);
+
+        if (summaryEnabled) {
+            context.getBean(AccommodationSummaryService.class).rebuildAll();
+        }
+
+        accommodationQueryService = context.getBean(AccommodationQueryService.class);
+        pageable = PageRequest.of(0, pageSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AccommodationPageResponse findAccommodations() {
+        return accommodationQueryService.findAccommodations("ALL", false, "", pageable);
+    }
+
+    @Benchmark
+    public AccommodationPageResponse findAccommodationsOnlyHasCoupon() {
+        return accommodationQueryService.findAccommodations("ALL", true, "", pageable);
+    }
+}
@@ -0,0 +1,100 @@
+package com.backoffice.upjuyanolja.benchmark;
+
+import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationQueryService;
+import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationSummaryService;
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCouponCache;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponDailyLimiter;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponService;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponStockBuckets;
+import com.backoffice.upjuyanolja.domain.member.service.MemberGetService;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationAdmissionQueue;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationSagaExecutor;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationService;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationStockService;
+import com.backoffice.upjuyanolja.domain.reservation.service.RoomInventoryEngine;
+import com.backoffice.upjuyanolja.domain.room.cache.RoomAvailabilityCache;
+import com.backoffice.upjuyanolja.domain.room.service.RoomPricingEngine;
+import com.backoffice.upjuyanolja.domain.room.service.RoomQueryService;
+import com.backoffice.upjuyanolja.global.config.QueryDslConfiguration;
+import java.util.UUID;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * <p>
+ * 외부 설정(AWS, 메일, Redis)이 필요한 빈은 제외하고 측정 대상 서비스와 JPA 구성만 H2 위에 올린다. 재고는 조건부 UPDATE
+ * 전략으로 차감하므로 Redis 서버 없이 예약 생성까지 실행할 수 있다.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({
+    DataSourceAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    TransactionAutoConfiguration.class
+})
+@EntityScan("com.backoffice.upjuyanolja.domain")
+@EnableJpaRepositories("com.backoffice.upjuyanolja.domain")
+@EnableJpaAuditing
+@Import({
+    QueryDslConfiguration.class,
+    AccommodationQueryService.class,
+    AccommodationSummaryService.class,
+    RoomQueryService.class,
+    RoomPricingEngine.class,
+    RoomAvailabilityCache.class,
+    CouponService.class,
+    RoomCouponCache.class,
+    CouponDailyLimiter.class,
+    CouponStockBuckets.class,
+    MemberGetService.class,
+    ReservationService.class,
+    ReservationAdmissionQueue.class,
+    ReservationSagaExecutor.class,
+    ReservationStockService.class,
+    RoomInventoryEngine.class
+})
+public class BenchmarkApplication {
+
+    // 재고 엔진과 예약 대기열을 끈 상태로 측정하므로 실제로 연결하지 않는다.
+    @Bean
+    public RedisTemplate<String, Object> redisTemplate() {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory();
+        connectionFactory.afterPropertiesSet();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        return redisTemplate;
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(BenchmarkApplication.class)
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:" + UUID.randomUUID()
+                    + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "spring.jpa.open-in-view=false",
+                "reservation.inventory.enabled=false",
+                "reservation.stock.strategy=GUARDED_UPDATE",
+                "logging.level.root=WARN"
+            )
+            .properties(properties)
+            .run();
+    }
+}
@@ -0,0 +1,188 @@
+package com.backoffice.upjuyanolja.benchmark;
+
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationImage;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationOption;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.member.entity.Authority;
+import com.backoffice.upjuyanolja.domain.member.entity.Member;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomImage;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomOption;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 벤치마크 픽스처 생성기
+ * <p>
+ * 숙소 수, 숙소 당 객실 수를 받아 가격, 옵션, 이미지, 쿠폰(정액, 정률), 오늘부터 30일 재고를 가진 데이터를 만든다. 예약 생성이
+ * 반복되어도 소진되지 않도록 재고는 충분히 크게 잡는다.
+ */
+public final class BenchmarkFixture {
+
+    public static final int STOCK_DAYS = 30;
+    public static final int FLAT_DISCOUNT = 5000;
+    public static final int RATE_DISCOUNT = 10;
+
+    private static final int STOCK_COUNT = 1_000_000;
+    private static final int FLUSH_SIZE = 500;
+    private static final String IMAGE_URL =
+        "http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg";
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private int pending;
+
+    public BenchmarkFixture(ConfigurableApplicationContext context) {
+        this.em = context.getBean(EntityManager.class);
+        this.transactionTemplate = new TransactionTemplate(
+            context.getBean(PlatformTransactionManager.class));
+    }
+
+    public record RoomFixture(Long roomId, int price, Long flatCouponId) {
+
+    }
+
+    public Member saveMember() {
+        return transactionTemplate.execute(status -> {
+            Member member = Member.builder()
+                .email("benchmark@mail.com")
+                .password("$10$ygrAExVYmFTkZn2d0.Pk3Ot5CNZwIBjZH5f.WW0AnUq4w4PtBi9Nm")
+                .name("benchmark")
+                .phone("010-1234-1234")
+                .imageUrl(IMAGE_URL)
+                .authority(Authority.ROLE_USER)
+                .build();
+            em.persist(member);
+            return member;
+        });
+    }
+
+    public List<RoomFixture> saveAccommodations(int accommodationCount, int roomCount) {
+        return transactionTemplate.execute(status -> {
+            Category parent = Category.builder()
+                .name("HOTEL/RESORT")
+                .build();
+            em.persist(parent);
+            Category category = Category.builder()
+                .name("TOURIST_HOTEL")
+                .parent(parent)
+                .build();
+            em.persist(category);
+
+            List<RoomFixture> rooms = new ArrayList<>();
+            for (int i = 0; i < accommodationCount; i++) {
+                Accommodation accommodation = saveAccommodation(category.getId(), i);
+                for (int j = 0; j < roomCount; j++) {
+                    rooms.add(saveRoom(accommodation, 80000 + (i + j) % 20 * 10000));
+                }
+            }
+            em.flush();
+            em.clear();
+            return rooms;
+        });
+    }
+
+    private Accommodation saveAccommodation(Long categoryId, int index) {
+        Accommodation accommodation = Accommodation.builder()
+            .name("벤치마크 숙소 " + index)
+            .address("제주특별자치도 제주시 노형동 925")
+            .detailAddress("")
+            .zipCode("63082")
+            .category(em.getReference(Category.class, categoryId))
+            .description("벤치마크 숙소")
+            .thumbnail(IMAGE_URL)
+            .rooms(new ArrayList<>())
+            .build();
+        persist(accommodation);
+        persist(AccommodationOption.builder()
+            .accommodation(accommodation)
+            .parking(true)
+            .build());
+        persist(AccommodationImage.builder()
+            .accommodation(accommodation)
+            .url(IMAGE_URL)
+            .build());
+        return accommodation;
+    }
+
+    private RoomFixture saveRoom(Accommodation accommodation, int price) {
+        Room room = Room.builder()
+            .accommodation(accommodation)
+            .name("65m² 킹룸")
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(10)
+            .status(RoomStatus.SELLING)
+            .build();
+        persist(room);
+        persist(RoomPrice.builder()
+            .room(room)
+            .offWeekDaysMinFee(price)
+            .offWeekendMinFee(price)
+            .peakWeekDaysMinFee(price)
+            .peakWeekendMinFee(price)
+            .build());
+        persist(RoomOption.builder()
+            .room(room)
+            .airCondition(true)
+            .tv(true)
+            .internet(true)
+            .build());
+        persist(RoomImage.builder()
+            .room(room)
+            .url(IMAGE_URL)
+            .build());
+
+        Coupon flatCoupon = saveCoupon(room, DiscountType.FLAT, FLAT_DISCOUNT);
+        saveCoupon(room, DiscountType.RATE, RATE_DISCOUNT);
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        for (int i = 0; i < STOCK_DAYS; i++) {
+            persist(RoomStock.builder()
+                .room(room)
+                .date(today.plusDays(i))
+                .count(STOCK_COUNT)
+                .build());
+        }
+        return new RoomFixture(room.getId(), price, flatCoupon.getId());
+    }
+
+    private Coupon saveCoupon(Room room, DiscountType discountType, int discount) {
+        Coupon coupon = Coupon.builder()
+            .room(room)
+            .couponType(CouponType.ALL_DAYS)
+            .discountType(discountType)
+            .couponStatus(CouponStatus.ENABLE)
+            .discount(discount)
+            .endDate(LocalDate.now().plusMonths(1))
+            .dayLimit(-1)
+            .stock(STOCK_COUNT)
+            .build();
+        persist(coupon);
+        return coupon;
+    }
+
+    private void persist(Object entity) {
+        em.persist(entity);
+        if (++pending % FLUSH_SIZE == 0) {
+            em.flush();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.backoffice.upjuyanolja.benchmark;
+
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCoupons;
+import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponDetailResponse;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 객실 쿠폰 정렬 벤치마크
+ * <p>
+ * 숙소 상세 조회에서 객실마다 필요한 쿠폰 정렬, 응답 변환 비용을 측정한다. 캐시를 채울 때의 정렬, 순위 생성 비용과 캐시된 목록을
+ * 응답으로 변환하는 비용, 최저가 쿠폰 조회 비용을 나누어 측정한다. 쿠폰은 미리 조회된 목록을 사용하므로 DB 접근은 포함하지 않는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CouponServiceBenchmark {
+
+    @Param({"4", "32"})
+    private int couponCount;
+
+    @Param({"100000"})
+    private int roomPrice;
+
+    private List<Coupon> coupons;
+
+    private RoomCoupons roomCoupons;
+
+    @Setup
+    public void setUp() {
+        coupons = new ArrayList<>();
+
+        Random random = new Random(42);
+        for (int i = 0; i < couponCount; i++) {
+            boolean flat = random.nextBoolean();
+            coupons.add(Coupon.builder()
+                .id((long) i)
+                .couponType(CouponType.ALL_DAYS)
+                .discountType(flat ? DiscountType.FLAT : DiscountType.RATE)
+                .couponStatus(i % 5 == 0 ? CouponStatus.DISABLE : CouponStatus.ENABLE)
+                .discount(flat ? 1000 * (1 + random.nextInt(30)) : 1 + random.nextInt(50))
+                .endDate(LocalDate.now().plusMonths(1))
+                .dayLimit(-1)
+                .stock(100)
+                .build());
+        }
+        roomCoupons = RoomCoupons.of(coupons, roomPrice);
+    }
+
+    @Benchmark
+    public RoomCoupons buildRoomCoupons() {
+        return RoomCoupons.of(coupons, roomPrice);
+    }
+
+    @Benchmark
+    public List<CouponDetailResponse> cachedDetailResponses() {
+        return roomCoupons.toDetailResponses();
+    }
+
+    @Benchmark
+    public int cachedBestPrice() {
+        return roomCoupons.getBestPrice(DiscountType.FLAT)
+            + roomCoupons.getBestDiscount(DiscountType.RATE);
+    }
+}
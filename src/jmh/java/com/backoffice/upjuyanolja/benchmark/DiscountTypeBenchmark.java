@@ -0,0 +1,54 @@
+package com.backoffice.upjuyanolja.benchmark;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 쿠폰 할인 금액 계산과 쿠폰 이름 포맷팅 벤치마크
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DiscountTypeBenchmark {
+
+    @Param({"100000"})
+    private int price;
+
+    @Param({"5000"})
+    private int flatDiscount;
+
+    @Param({"10"})
+    private int rateDiscount;
+
+    @Benchmark
+    public int flatPaymentPrice() {
+        return DiscountType.makePaymentPrice(DiscountType.FLAT, price, flatDiscount);
+    }
+
+    @Benchmark
+    public int ratePaymentPrice() {
+        return DiscountType.makePaymentPrice(DiscountType.RATE, price, rateDiscount);
+    }
+
+    @Benchmark
+    public String flatTitleName() {
+        return DiscountType.makeTitleName(DiscountType.FLAT, flatDiscount);
+    }
+
+    @Benchmark
+    public String flatDetailName() {
+        return DiscountType.makeDetailName(DiscountType.FLAT, flatDiscount);
+    }
+
+    @Benchmark
+    public String rateDetailName() {
+        return DiscountType.makeDetailName(DiscountType.RATE, rateDiscount);
+    }
+}
@@ -0,0 +1,90 @@
+package com.backoffice.upjuyanolja.benchmark;
+
+import com.backoffice.upjuyanolja.benchmark.BenchmarkFixture.RoomFixture;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.member.entity.Member;
+import com.backoffice.upjuyanolja.domain.payment.entity.PayMethod;
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.CreateReservationRequest;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationService;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 예약 생성 벤치마크
+ * <p>
+ * 조건부 UPDATE 재고 전략으로 예약을 생성한다. 호출마다 다음 객실을 순서대로 선택해 같은 재고 행에 대한 경합은 측정에서 제외하고
+ * 단일 예약의 처리 비용만 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReservationCreateBenchmark {
+
+    @Param({"100"})
+    private int accommodationCount;
+
+    @Param({"5"})
+    private int roomCount;
+
+    @Param({"1", "3"})
+    private int stayDays;
+
+    @Param({"false", "true"})
+    private boolean useCoupon;
+
+    private ConfigurableApplicationContext context;
+
+    private ReservationService reservationService;
+
+    private Member member;
+
+    private List<RoomFixture> rooms;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkFixture fixture = new BenchmarkFixture(context);
+        member = fixture.saveMember();
+        rooms = fixture.saveAccommodations(accommodationCount, roomCount);
+        reservationService = context.getBean(ReservationService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void create() {
+        RoomFixture room = rooms.get(next++ % rooms.size());
+        LocalDate startDate = LocalDate.now(ZoneId.of("Asia/Seoul")).plusDays(1);
+
+        reservationService.create(member, CreateReservationRequest.builder()
+            .roomId(room.roomId())
+            .visitorName("벤치마크")
+            .visitorPhone("010-1234-1234")
+            .startDate(startDate)
+            .endDate(startDate.plusDays(stayDays - 1))
+            .couponId(useCoupon ? room.flatCouponId() : null)
+            .totalPrice(useCoupon
+                ? DiscountType.makePaymentPrice(
+                DiscountType.FLAT, room.price() * stayDays, BenchmarkFixture.FLAT_DISCOUNT)
+                : room.price() * stayDays)
+            .payMethod(PayMethod.KAKAO_PAY)
+            .build());
+    }
+}
@@ -0,0 +1,61 @@
+package com.backoffice.upjuyanolja.benchmark;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import com.backoffice.upjuyanolja.domain.room.service.RoomPricingEngine;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 객실 숙박 가격 계산 벤치마크
+ * <p>
+ * 성수기 경계와 주말을 포함하는 숙박 기간의 가격 합계와 쿠폰 적용 비용을 측정한다. -prof gc 로 실행하면 숙박일 수와 관계없이
+ * 할당량이 늘지 않는지 확인할 수 있다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomPricingBenchmark {
+
+    @Param({"1", "7", "30"})
+    private int nights;
+
+    private RoomPricingEngine pricingEngine;
+
+    private RoomPrice roomPrice;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        pricingEngine = new RoomPricingEngine("07-15~08-31,12-24~01-01", "FRIDAY,SATURDAY");
+        roomPrice = RoomPrice.builder()
+            .offWeekDaysMinFee(100000)
+            .offWeekendMinFee(130000)
+            .peakWeekDaysMinFee(150000)
+            .peakWeekendMinFee(180000)
+            .build();
+        startDate = LocalDate.of(2024, 7, 10);
+        endDate = startDate.plusDays(nights - 1);
+    }
+
+    @Benchmark
+    public int quote() {
+        return pricingEngine.quote(roomPrice, startDate, endDate);
+    }
+
+    @Benchmark
+    public int quoteWithRateCoupon() {
+        return pricingEngine.quote(roomPrice, startDate, endDate, DiscountType.RATE, 10);
+    }
+}
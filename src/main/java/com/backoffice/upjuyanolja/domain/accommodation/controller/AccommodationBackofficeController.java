@@ -3,6 +3,8 @@ package com.backoffice.upjuyanolja.domain.accommodation.controller;
 import com.backoffice.upjuyanolja.domain.accommodation.dto.request.AccommodationRegisterRequest;
 import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationInfoResponse;
 import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationOwnershipResponse;
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationSummaryRebuildResponse;
+import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationSummaryService;
 import com.backoffice.upjuyanolja.domain.accommodation.service.usecase.AccommodationCommandUseCase;
 import com.backoffice.upjuyanolja.domain.accommodation.service.usecase.AccommodationQueryUseCase;
 import com.backoffice.upjuyanolja.global.security.SecurityUtil;
@@ -25,6 +27,7 @@ public class AccommodationBackofficeController {
 
     private final AccommodationCommandUseCase accommodationCommandUseCase;
     private final AccommodationQueryUseCase accommodationQueryUseCase;
+    private final AccommodationSummaryService accommodationSummaryService;
     private final SecurityUtil securityUtil;
 
     @PostMapping
@@ -46,4 +49,13 @@ public class AccommodationBackofficeController {
             .getAccommodationOwnership(securityUtil.getCurrentMemberId());
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
+
+    @PostMapping("/summaries/rebuild")
+    public ResponseEntity<AccommodationSummaryRebuildResponse> rebuildAccommodationSummaries() {
+        log.info("POST /backoffice-api/accommodations/summaries/rebuild");
+
+        AccommodationSummaryRebuildResponse response = AccommodationSummaryRebuildResponse
+            .of(accommodationSummaryService.rebuildAll());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
 }
@@ -0,0 +1,14 @@
+package com.backoffice.upjuyanolja.domain.accommodation.dto.response;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import lombok.Builder;
+
+@Builder
+public record AccommodationCouponQueryDto(
+    Long accommodationId,
+    Integer roomPrice,
+    Long couponId,
+    DiscountType discountType,
+    Integer discount
+) {
+}
@@ -0,0 +1,11 @@
+package com.backoffice.upjuyanolja.domain.accommodation.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record AccommodationPriceQueryDto(
+    Long accommodationId,
+    Integer lowestPrice,
+    Long roomCount
+) {
+}
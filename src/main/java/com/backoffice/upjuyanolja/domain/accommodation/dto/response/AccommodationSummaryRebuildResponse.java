@@ -0,0 +1,15 @@
+package com.backoffice.upjuyanolja.domain.accommodation.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record AccommodationSummaryRebuildResponse(
+    int rebuiltCount
+) {
+
+    public static AccommodationSummaryRebuildResponse of(int rebuiltCount) {
+        return AccommodationSummaryRebuildResponse.builder()
+            .rebuiltCount(rebuiltCount)
+            .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.backoffice.upjuyanolja.domain.accommodation.dto.response;
 
 import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationSummary;
 import lombok.Builder;
 
 @Builder
@@ -31,4 +32,11 @@ public record AccommodationSummaryResponse(
             .couponName(couponName)
             .build();
     }
+
+    public static AccommodationSummaryResponse of(AccommodationSummary summary) {
+        return AccommodationSummaryResponse.of(
+            summary.getAccommodation(), summary.getLowestPrice(),
+            summary.getDiscountPrice(), summary.getCouponName()
+        );
+    }
 }
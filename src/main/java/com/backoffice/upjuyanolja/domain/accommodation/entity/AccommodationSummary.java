@@ -0,0 +1,90 @@
+package com.backoffice.upjuyanolja.domain.accommodation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 숙소 목록 조회용 요약 정보
+ * <p>
+ * 객실 가격, 쿠폰이 변경될 때마다 숙소 단위로 다시 계산되어 저장된다. 숙소 목록 조회는 원본 테이블 대신 이 테이블을 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "accommodation_summary", indexes = {
+    @Index(name = "idx_accommodation_summary_has_coupon", columnList = "has_coupon")
+})
+public class AccommodationSummary {
+
+    @Id
+    @Comment("숙소 식별자")
+    private Long id;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "accommodation_id")
+    private Accommodation accommodation;
+
+    @Column(nullable = false, name = "lowest_price")
+    @Comment("최저 객실 가격")
+    private int lowestPrice;
+
+    @Column(nullable = false, name = "discount_price")
+    @Comment("최대 할인 쿠폰 적용 가격")
+    private int discountPrice;
+
+    @Column(nullable = false, name = "coupon_name")
+    @Comment("최대 할인 쿠폰 이름")
+    private String couponName;
+
+    @Column(nullable = false, name = "has_coupon")
+    @Comment("사용 가능 쿠폰 보유 여부")
+    private boolean hasCoupon;
+
+    @Column(nullable = false, name = "room_count")
+    @Comment("객실 수")
+    private int roomCount;
+
+    @Builder
+    public AccommodationSummary(
+        Accommodation accommodation,
+        int lowestPrice,
+        int discountPrice,
+        String couponName,
+        boolean hasCoupon,
+        int roomCount
+    ) {
+        this.accommodation = accommodation;
+        this.lowestPrice = lowestPrice;
+        this.discountPrice = discountPrice;
+        this.couponName = couponName;
+        this.hasCoupon = hasCoupon;
+        this.roomCount = roomCount;
+    }
+
+    public void update(
+        int lowestPrice,
+        int discountPrice,
+        String couponName,
+        boolean hasCoupon,
+        int roomCount
+    ) {
+        this.lowestPrice = lowestPrice;
+        this.discountPrice = discountPrice;
+        this.couponName = couponName;
+        this.hasCoupon = hasCoupon;
+        this.roomCount = roomCount;
+    }
+}
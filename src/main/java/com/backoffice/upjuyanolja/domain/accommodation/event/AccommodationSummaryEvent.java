@@ -0,0 +1,15 @@
+package com.backoffice.upjuyanolja.domain.accommodation.event;
+
+/**
+ * 숙소 목록 요약 정보에 영향을 주는 변경(객실 가격, 객실 추가/삭제, 쿠폰 변경)이 일어났음을 알린다.
+ *
+ * @param accommodationId : 변경된 숙소 식별자
+ */
+public record AccommodationSummaryEvent(
+    Long accommodationId
+) {
+
+    public static AccommodationSummaryEvent of(Long accommodationId) {
+        return new AccommodationSummaryEvent(accommodationId);
+    }
+}
@@ -1,12 +1,33 @@
 package com.backoffice.upjuyanolja.domain.accommodation.repository;
 
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationCouponQueryDto;
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationPriceQueryDto;
 import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationSummary;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface AccommodationCustomRepository {
 
     Page<Accommodation> searchPageByCategoryWithTypeAndName(
-        String category, String keyword, Pageable pageable
+        String category, boolean onlyHasCoupon, String keyword, Pageable pageable
+    );
+
+    Page<AccommodationSummary> searchSummaryPageByCategoryWithTypeAndName(
+        String category, boolean onlyHasCoupon, String keyword, Pageable pageable
+    );
+
+    List<Long> findIdsAfter(Long lastId, int size);
+
+    Optional<Accommodation> findWithCategoryAndRoomsById(Long accommodationId);
+
+    List<AccommodationPriceQueryDto> findLowestPricesByAccommodationIds(
+        List<Long> accommodationIds
+    );
+
+    List<AccommodationCouponQueryDto> findEnabledCouponsByAccommodationIds(
+        List<Long> accommodationIds
     );
 }
@@ -1,12 +1,24 @@
 package com.backoffice.upjuyanolja.domain.accommodation.repository;
 
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationCouponQueryDto;
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationPriceQueryDto;
 import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationSummary;
 import com.backoffice.upjuyanolja.domain.accommodation.entity.QAccommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.QAccommodationSummary;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.QCategory;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.QCoupon;
+import com.backoffice.upjuyanolja.domain.room.entity.QRoom;
+import com.backoffice.upjuyanolja.domain.room.entity.QRoomPrice;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.util.StringUtils;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,44 +31,161 @@ public class AccommodationCustomRepositoryImpl implements AccommodationCustomRep
 
     private final JPAQueryFactory query;
     private final QAccommodation qAccommodation = QAccommodation.accommodation;
+    private final QAccommodationSummary qSummary = QAccommodationSummary.accommodationSummary;
+    private final QCategory qCategory = QCategory.category;
+    private final QRoom qRoom = QRoom.room;
+    private final QRoomPrice qRoomPrice = QRoomPrice.roomPrice;
+    private final QCoupon qCoupon = QCoupon.coupon;
 
     @Override
     public Page<Accommodation> searchPageByCategoryWithTypeAndName(
-        String category, String keyword, Pageable pageable
+        String category, boolean onlyHasCoupon, String keyword, Pageable pageable
     ) {
         Page<Accommodation> result = getAccommodations(
-            category, keyword, pageable
+            category, onlyHasCoupon, keyword, pageable
         );
 
         return result;
     }
 
+    /**
+     * 요약 테이블 기준으로 숙소 목록을 조회한다. 가격과 쿠폰 정보가 미리 계산되어 있어 추가 쿼리가 필요 없다.
+     *
+     * @param category      : 숙소 카테고리
+     * @param onlyHasCoupon : 쿠폰 보유 숙소만 조회 여부
+     * @param keyword       : 숙소 이름 검색어
+     * @param pageable      : 페이지 정보
+     * @return 숙소 요약 정보 페이지
+     */
+    @Override
+    public Page<AccommodationSummary> searchSummaryPageByCategoryWithTypeAndName(
+        String category, boolean onlyHasCoupon, String keyword, Pageable pageable
+    ) {
+        List<AccommodationSummary> content = query.selectFrom(qSummary)
+            .join(qSummary.accommodation, qAccommodation).fetchJoin()
+            .join(qAccommodation.category, qCategory).fetchJoin()
+            .where(
+                eqCategory(category),
+                eqKeyword(keyword),
+                summaryHasCoupon(onlyHasCoupon)
+            )
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        JPAQuery<Long> countQuery = query.select(qSummary.count())
+            .from(qSummary)
+            .join(qSummary.accommodation, qAccommodation)
+            .where(
+                eqCategory(category),
+                eqKeyword(keyword),
+                summaryHasCoupon(onlyHasCoupon)
+            );
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetchFirst());
+    }
+
+    @Override
+    public List<Long> findIdsAfter(Long lastId, int size) {
+        return query.select(qAccommodation.id)
+            .from(qAccommodation)
+            .where(qAccommodation.id.gt(lastId))
+            .orderBy(qAccommodation.id.asc())
+            .limit(size)
+            .fetch();
+    }
+
+    /**
+     * 숙소 상세 조회에 필요한 카테고리와 객실 목록을 숙소와 함께 한 번에 조회한다.
+     *
+     * @param accommodationId : 숙소 식별자
+     * @return 카테고리, 객실 목록이 초기화된 숙소
+     */
+    @Override
+    public Optional<Accommodation> findWithCategoryAndRoomsById(Long accommodationId) {
+        // 컬렉션 fetch join 에 limit 이 적용되지 않도록 fetchFirst 대신 목록으로 조회
+        return query.selectFrom(qAccommodation)
+            .join(qAccommodation.category, qCategory).fetchJoin()
+            .leftJoin(qAccommodation.rooms, qRoom).fetchJoin()
+            .where(qAccommodation.id.eq(accommodationId))
+            .fetch().stream()
+            .findFirst();
+    }
+
+    /**
+     * 숙소 별 최저 객실 가격과 객실 수를 한 번의 group by 쿼리로 조회한다.
+     *
+     * @param accommodationIds : 숙소 식별자 목록
+     * @return 숙소 식별자 별 최저 객실 가격, 객실 수
+     */
+    @Override
+    public List<AccommodationPriceQueryDto> findLowestPricesByAccommodationIds(
+        List<Long> accommodationIds
+    ) {
+        return query.select(Projections.constructor(AccommodationPriceQueryDto.class,
+                qRoom.accommodation.id, qRoomPrice.offWeekDaysMinFee.min(), qRoom.id.count()
+            ))
+            .from(qRoomPrice)
+            .join(qRoomPrice.room, qRoom)
+            .where(qRoom.accommodation.id.in(accommodationIds)
+                .and(qRoom.deletedAt.isNull()))
+            .groupBy(qRoom.accommodation.id)
+            .fetch();
+    }
+
+    /**
+     * 숙소 별 모든 사용 가능 쿠폰을 객실 가격과 함께 한 번에 조회한다.
+     *
+     * @param accommodationIds : 숙소 식별자 목록
+     * @return 숙소 식별자, 객실 가격, 쿠폰 할인 정보
+     */
+    @Override
+    public List<AccommodationCouponQueryDto> findEnabledCouponsByAccommodationIds(
+        List<Long> accommodationIds
+    ) {
+        return query.select(Projections.constructor(AccommodationCouponQueryDto.class,
+                qRoom.accommodation.id, qRoomPrice.offWeekDaysMinFee, qCoupon.id,
+                qCoupon.discountType, qCoupon.discount
+            ))
+            .from(qCoupon)
+            .join(qCoupon.room, qRoom)
+            .join(qRoomPrice).on(qRoomPrice.room.eq(qRoom))
+            .where(qRoom.accommodation.id.in(accommodationIds)
+                .and(qRoom.deletedAt.isNull())
+                .and(qCoupon.deletedAt.isNull())
+                .and(qCoupon.couponStatus.eq(CouponStatus.ENABLE)))
+            .fetch();
+    }
+
     private Page<Accommodation> getAccommodations(
-        String category, String keyword, Pageable pageable
+        String category, boolean onlyHasCoupon, String keyword, Pageable pageable
     ) {
+        // 목록 응답에서 카테고리 이름을 사용하므로 함께 조회
         List<Accommodation> content = query.selectFrom(qAccommodation)
-            .leftJoin(qAccommodation)
+            .join(qAccommodation.category, qCategory).fetchJoin()
             .where(
                 eqCategory(category),
-                eqKeyword(keyword)
+                eqKeyword(keyword),
+                hasCoupon(onlyHasCoupon)
             )
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
 
-        JPAQuery<Long> countQuery = getCountQuery(category, keyword);
+        JPAQuery<Long> countQuery = getCountQuery(category, onlyHasCoupon, keyword);
 
         return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetchFirst());
     }
 
     private JPAQuery<Long> getCountQuery(
-        String category, String keyword
+        String category, boolean onlyHasCoupon, String keyword
     ) {
         return query.select(qAccommodation.count())
             .from(qAccommodation)
             .where(
                 eqCategory(category),
-                eqKeyword(keyword)
+                eqKeyword(keyword),
+                hasCoupon(onlyHasCoupon)
             );
     }
 
@@ -74,4 +203,25 @@ public class AccommodationCustomRepositoryImpl implements AccommodationCustomRep
         return qAccommodation.name.like("%" + keyword + "%");
     }
 
+    private BooleanExpression summaryHasCoupon(boolean onlyHasCoupon) {
+        if (!onlyHasCoupon) {
+            return null;
+        }
+        return qSummary.hasCoupon.isTrue();
+    }
+
+    // 페이지 총 개수가 맞도록 쿠폰 보유 여부를 조회 쿼리에서 필터링
+    private BooleanExpression hasCoupon(boolean onlyHasCoupon) {
+        if (!onlyHasCoupon) {
+            return null;
+        }
+        return JPAExpressions.selectOne()
+            .from(qCoupon)
+            .where(qCoupon.room.accommodation.id.eq(qAccommodation.id)
+                .and(qCoupon.room.deletedAt.isNull())
+                .and(qCoupon.deletedAt.isNull())
+                .and(qCoupon.couponStatus.eq(CouponStatus.ENABLE)))
+            .exists();
+    }
+
 }
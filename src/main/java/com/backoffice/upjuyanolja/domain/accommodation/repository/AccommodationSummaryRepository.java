@@ -0,0 +1,12 @@
+package com.backoffice.upjuyanolja.domain.accommodation.repository;
+
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationSummary;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AccommodationSummaryRepository extends
+    JpaRepository<AccommodationSummary, Long> {
+
+    List<AccommodationSummary> findAllByIdIn(Collection<Long> accommodationIds);
+}
@@ -17,26 +17,28 @@ import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationO
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationOwnershipRepository;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
 import com.backoffice.upjuyanolja.domain.accommodation.service.usecase.AccommodationQueryUseCase;
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCoupons;
 import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponDetailResponse;
-import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
-import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
 import com.backoffice.upjuyanolja.domain.coupon.service.CouponService;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.member.exception.MemberNotFoundException;
 import com.backoffice.upjuyanolja.domain.member.repository.MemberRepository;
+import com.backoffice.upjuyanolja.domain.room.cache.RoomAvailability;
 import com.backoffice.upjuyanolja.domain.room.dto.response.RoomResponse;
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
-import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomOption;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import com.backoffice.upjuyanolja.domain.room.service.RoomPricingEngine;
 import com.backoffice.upjuyanolja.domain.room.service.usecase.RoomQueryUseCase;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.PriorityQueue;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,14 +55,28 @@ public class AccommodationQueryService implements AccommodationQueryUseCase {
     private final MemberRepository memberRepository;
     private final CouponService couponService;
     private final RoomQueryUseCase roomQueryUseCase;
+    private final RoomPricingEngine pricingEngine;
+    private final AccommodationSummaryService accommodationSummaryService;
+
+    @Value("${accommodation.summary.enabled:false}")
+    private boolean summaryEnabled;
 
     @Override
     @Transactional(readOnly = true)
     public AccommodationPageResponse findAccommodations(
         String category, boolean onlyHasCoupon, String keyword, Pageable pageable
     ) {
+        // 요약 테이블 사용 시 가격, 쿠폰 정보를 다시 계산하지 않음
+        if (summaryEnabled) {
+            return AccommodationPageResponse.of(
+                accommodationRepository.searchSummaryPageByCategoryWithTypeAndName(
+                    category, onlyHasCoupon, keyword, pageable
+                ).map(AccommodationSummaryResponse::of)
+            );
+        }
+
         Page<Accommodation> accommodations = accommodationRepository
-            .searchPageByCategoryWithTypeAndName(category, keyword, pageable);
+            .searchPageByCategoryWithTypeAndName(category, onlyHasCoupon, keyword, pageable);
 
         if (accommodations.isEmpty()) {
             return AccommodationPageResponse.builder()
@@ -68,63 +84,92 @@ public class AccommodationQueryService implements AccommodationQueryUseCase {
                 .build();
         }
 
-        return AccommodationPageResponse.of(
-            new PageImpl<>(
-                accommodations.stream()
-                    .filter(
-                        accommodation -> !onlyHasCoupon || this.checkCouponAvailability(
-                            accommodation))
-                    .map(accommodation -> {
-                        int lowestPrice = getLowestPrice(accommodation.getId());
-                        Optional<CouponDetailResponse> discountInfo = getDiscountInfo(
-                            accommodation.getId());
-                        return AccommodationSummaryResponse.of(
-                            accommodation, lowestPrice,
-                            discountInfo.map(CouponDetailResponse::price).orElse(lowestPrice),
-                            discountInfo.map(CouponDetailResponse::name).orElse("")
+        /*
+         * 페이지 전체의 최저가와 최대 할인 쿠폰을 한 번에 조회
+         * 숙소 수와 관계없이 쿼리 수가 일정함
+         * */
+        List<Long> accommodationIds = accommodations.map(Accommodation::getId).getContent();
+        Map<Long, Integer> lowestPrices = accommodationSummaryService
+            .getLowestPrices(accommodationIds);
+        Map<Long, CouponDetailResponse> discountInfos = accommodationSummaryService
+            .getDiscountInfos(accommodationIds);
 
-                        );
-                    })
-                    .toList(),
-                pageable,
-                accommodations.getTotalElements()
-            )
+        return AccommodationPageResponse.of(
+            accommodations.map(accommodation -> {
+                int lowestPrice = lowestPrices.getOrDefault(accommodation.getId(), 0);
+                Optional<CouponDetailResponse> discountInfo = Optional.ofNullable(
+                    discountInfos.get(accommodation.getId()));
+                return AccommodationSummaryResponse.of(
+                    accommodation, lowestPrice,
+                    discountInfo.map(CouponDetailResponse::price).orElse(lowestPrice),
+                    discountInfo.map(CouponDetailResponse::name).orElse("")
+                );
+            })
         );
     }
 
+    /**
+     * 숙소 상세 정보를 조회한다. 객실 수와 관계없이 정해진 수의 일괄 조회 쿼리로 필요한 데이터를 모두 불러온 뒤, 응답은 메모리에서
+     * 조립한다.
+     *
+     * @param accommodationId : 숙소 식별자
+     * @param startDate       : 조회 시작 일자
+     * @param endDate         : 조회 종료 일자 (포함), 객실의 숙박 가격은 이 기간으로 계산
+     * @return 숙소 상세 정보
+     */
     @Override
     @Transactional(readOnly = true)
     public AccommodationDetailResponse findAccommodationWithRooms(
         Long accommodationId, LocalDate startDate, LocalDate endDate
     ) {
-        Accommodation accommodation = getAccommodationById(
-            accommodationId);
-
-        List<Room> filterRooms = getFilteredRoomsByDate(
-            accommodation.getRooms(), startDate, endDate
+        Accommodation accommodation = accommodationRepository
+            .findWithCategoryAndRoomsById(accommodationId)
+            .orElseThrow(AccommodationNotFoundException::new);
+        List<Room> rooms = accommodation.getRooms();
+
+        Map<Long, RoomPrice> roomPrices = roomQueryUseCase.findRoomPricesByRooms(rooms);
+        Map<Long, RoomOption> roomOptions = roomQueryUseCase.findRoomOptionsByRooms(rooms);
+        Map<Long, List<String>> roomImageUrls = roomQueryUseCase.getRoomImageUrlsByRooms(rooms);
+
+        // 모든 객실의 기간 재고를 캐시에서 조회 (30일 구간 밖이면 한 번의 쿼리로 조회)
+        Map<Long, RoomAvailability> availabilities = roomQueryUseCase.getRoomAvailabilities(
+            accommodationId,
+            rooms.stream().map(Room::getId).toList(),
+            startDate,
+            endDate
         );
 
+        Map<Long, Integer> basePrices = roomPrices.entrySet().stream()
+            .collect(Collectors.toMap(
+                Map.Entry::getKey, entry -> entry.getValue().getOffWeekDaysMinFee()
+            ));
+        Map<Long, RoomCoupons> roomCoupons = couponService.getRoomCoupons(basePrices);
+
         return AccommodationDetailResponse.of(
             accommodation,
-            getMainCouponName(accommodationId),
+            couponService.getMainCouponName(rooms, roomCoupons),
             getAccommodationOptionByAccommodation(accommodation),
             getAccommodationImageUrlByAccommodation(accommodation),
-            accommodation.getRooms().stream()
+            rooms.stream()
                 .map(room -> {
-                        int roomPrice = roomQueryUseCase.findRoomPriceByRoom(room)
-                            .getOffWeekDaysMinFee();
+                        int roomPrice = basePrices.get(room.getId());
+                        RoomCoupons coupons = roomCoupons.get(room.getId());
+
+                        // 조회 기간의 숙박 가격으로, 예약 결제 금액과 같은 방식으로 계산
+                        int stayPrice = pricingEngine.quote(roomPrices.get(room.getId()),
+                            startDate, endDate);
 
                         return RoomResponse.of(
                             room,
-                            roomQueryUseCase.findRoomOptionByRoom(room),
-                            roomQueryUseCase.findRoomPriceByRoom(room).getOffWeekDaysMinFee(),
-                            getDiscountPrice(room, roomPrice),
-                            !checkSoldOut(filterRooms, room),
-                            getMinFilteredRoomStock(room, startDate, endDate),
-                            roomQueryUseCase.getRoomImageUrlByRoom(room),
-                            couponService.getSortedTotalCouponResponseInRoom(
-                                room, roomPrice
-                            )
+                            roomOptions.get(room.getId()),
+                            roomPrice,
+                            coupons.getDiscountPrice(),
+                            stayPrice,
+                            coupons.getStayDiscountPrice(stayPrice),
+                            !checkSoldOut(availabilities, room, startDate, endDate),
+                            getMinFilteredRoomStock(availabilities, room, startDate, endDate),
+                            roomImageUrls.get(room.getId()),
+                            coupons.toDetailResponses()
                         );
                     }
                 )
@@ -186,98 +231,17 @@ public class AccommodationQueryService implements AccommodationQueryUseCase {
             .toList();
     }
 
-    private boolean checkCouponAvailability(Accommodation accommodation) {
-        return !couponService.findCouponResponseInAccommodation(accommodation.getId()).isEmpty();
-    }
-
-    private int getLowestPrice(Long accommodationId) {
-        List<Room> rooms = roomQueryUseCase.findByAccommodationId(accommodationId);
-
-        PriorityQueue<Integer> pq = new PriorityQueue<>();
-
-        for (Room room : rooms) {
-            pq.offer(roomQueryUseCase.findRoomPriceByRoom(room).getOffWeekDaysMinFee());
-        }
-
-        return pq.poll();
-    }
-
-    private Optional<CouponDetailResponse> getDiscountInfo(Long accommodationId) {
-        List<CouponDetailResponse> responses = new ArrayList<>();
-        List<Room> rooms = roomQueryUseCase.findByAccommodationId(accommodationId);
-        List<Coupon> coupons = new ArrayList<>();
-
-        for (Room room : rooms) {
-            coupons = couponService.getCouponInRoom(room);
-            responses.addAll(
-                couponService.getSortedDiscountTypeCouponResponseInRoom(
-                    room, roomQueryUseCase.findRoomPriceByRoom(room).getOffWeekDaysMinFee(),
-                    coupons, DiscountType.FLAT));
-            responses.addAll(
-                couponService.getSortedDiscountTypeCouponResponseInRoom(
-                    room, roomQueryUseCase.findRoomPriceByRoom(room).getOffWeekDaysMinFee(),
-                    coupons, DiscountType.RATE));
-        }
-
-        return responses.stream()
-            .min(Comparator.comparingInt(CouponDetailResponse::price));
-    }
-
-    private String getMainCouponName(Long accommodationId) {
-        List<Room> rooms = roomQueryUseCase.findByAccommodationId(accommodationId);
-
-        String flatName = couponService.getDiscountTypeMainRoomCouponName(
-            rooms, DiscountType.FLAT, roomQueryUseCase.getMinRoomPriceWithRoom(rooms)
-        );
-        String rateName = couponService.getDiscountTypeMainRoomCouponName(
-            rooms, DiscountType.RATE, roomQueryUseCase.getMinRoomPriceWithRoom(rooms)
-        );
-
-        if (flatName.isEmpty() && rateName.isEmpty()) {
-            return "";
-        }
-
-        if (flatName.isEmpty() || rateName.isEmpty()) {
-            return flatName.isEmpty() ? rateName : flatName;
-        } else {
-            return flatName + " or " + rateName;
-        }
-
-    }
-
-
-    private int getDiscountPrice(Room room, int roomPrice) {
-        return couponService.getSortedTotalCouponResponseInRoom(room, roomPrice).stream()
-            .findFirst()
-            .map(coupon -> coupon.price())
-            .orElse(roomPrice);
-    }
-
-    private List<Room> getFilteredRoomsByDate(
-        List<Room> rooms, LocalDate startDate, LocalDate endDate
-    ) {
-        List<Room> filterRoom = new ArrayList<>();
-
-        for (Room room : rooms) {
-            List<RoomStock> filteredStocks = roomQueryUseCase.getFilteredRoomStocksByDate(room,
-                startDate, endDate);
-            if (!filteredStocks.isEmpty()) {
-                filterRoom.add(room);
-            }
-        }
-        return filterRoom;
-    }
-
     private int getMinFilteredRoomStock(
-        Room room, LocalDate startDate, LocalDate endDate
+        Map<Long, RoomAvailability> availabilities, Room room,
+        LocalDate startDate, LocalDate endDate
     ) {
-        return roomQueryUseCase.getFilteredRoomStocksByDate(room, startDate, endDate).stream()
-            .mapToInt(RoomStock::getCount)
-            .min()
-            .orElse(0);
+        return availabilities.get(room.getId()).getMinStock(startDate, endDate);
     }
 
-    private boolean checkSoldOut(List<Room> rooms, Room room) {
-        return rooms.contains(room);
+    private boolean checkSoldOut(
+        Map<Long, RoomAvailability> availabilities, Room room,
+        LocalDate startDate, LocalDate endDate
+    ) {
+        return availabilities.get(room.getId()).hasStock(startDate, endDate);
     }
 }
@@ -0,0 +1,175 @@
+package com.backoffice.upjuyanolja.domain.accommodation.service;
+
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationCouponQueryDto;
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationPriceQueryDto;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationSummary;
+import com.backoffice.upjuyanolja.domain.accommodation.event.AccommodationSummaryEvent;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationSummaryRepository;
+import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponDetailResponse;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import jakarta.persistence.EntityManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class AccommodationSummaryService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final AccommodationRepository accommodationRepository;
+    private final AccommodationSummaryRepository accommodationSummaryRepository;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccommodationSummaryService(
+        AccommodationRepository accommodationRepository,
+        AccommodationSummaryRepository accommodationSummaryRepository,
+        EntityManager em,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.accommodationRepository = accommodationRepository;
+        this.accommodationSummaryRepository = accommodationSummaryRepository;
+        this.em = em;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 객실 가격, 쿠폰 변경이 커밋된 뒤 해당 숙소의 요약 정보를 다시 계산한다. 원본 트랜잭션과 분리되어 실패하더라도 원본 변경은
+     * 유지되며, 관리자 재생성 API 로 복구할 수 있다. 같은 숙소의 첫 요약 정보를 다른 요청이 먼저 저장해 식별자가 충돌하면, 새
+     * 트랜잭션에서 저장된 요약 정보를 갱신하도록 한 번 더 계산한다.
+     *
+     * @param event : 변경된 숙소 정보
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleSummaryEvent(AccommodationSummaryEvent event) {
+        List<Long> accommodationIds = List.of(event.accommodationId());
+        try {
+            transactionTemplate.executeWithoutResult(status -> refresh(accommodationIds));
+        } catch (DataIntegrityViolationException e) {
+            log.info("숙소 요약 정보 동시 생성. 다시 계산합니다. accommodationId: {}",
+                event.accommodationId());
+            transactionTemplate.executeWithoutResult(status -> refresh(accommodationIds));
+        }
+    }
+
+    /**
+     * 모든 숙소의 요약 정보를 원본 테이블 기준으로 다시 계산한다.
+     *
+     * @return 재계산한 숙소 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        int rebuilt = 0;
+        Long lastId = 0L;
+
+        while (true) {
+            List<Long> accommodationIds = accommodationRepository
+                .findIdsAfter(lastId, REBUILD_BATCH_SIZE);
+            if (accommodationIds.isEmpty()) {
+                break;
+            }
+
+            refresh(accommodationIds);
+            em.flush();
+            em.clear();
+
+            rebuilt += accommodationIds.size();
+            lastId = accommodationIds.get(accommodationIds.size() - 1);
+        }
+
+        log.info("숙소 요약 정보 재생성 완료. 숙소 수: {}", rebuilt);
+        return rebuilt;
+    }
+
+    @Transactional
+    public void refresh(List<Long> accommodationIds) {
+        Map<Long, AccommodationPriceQueryDto> prices = accommodationRepository
+            .findLowestPricesByAccommodationIds(accommodationIds).stream()
+            .collect(Collectors.toMap(AccommodationPriceQueryDto::accommodationId,
+                Function.identity()));
+        Map<Long, CouponDetailResponse> discountInfos = getDiscountInfos(accommodationIds);
+        Map<Long, AccommodationSummary> summaries = accommodationSummaryRepository
+            .findAllByIdIn(accommodationIds).stream()
+            .collect(Collectors.toMap(AccommodationSummary::getId, Function.identity()));
+
+        for (Long accommodationId : accommodationIds) {
+            AccommodationPriceQueryDto price = prices.get(accommodationId);
+            int lowestPrice = (price == null) ? 0 : price.lowestPrice();
+            int roomCount = (price == null) ? 0 : price.roomCount().intValue();
+            CouponDetailResponse discountInfo = discountInfos.get(accommodationId);
+            int discountPrice = (discountInfo == null) ? lowestPrice : discountInfo.price();
+            String couponName = (discountInfo == null) ? "" : discountInfo.name();
+
+            AccommodationSummary summary = summaries.get(accommodationId);
+            if (summary == null) {
+                accommodationSummaryRepository.save(AccommodationSummary.builder()
+                    .accommodation(accommodationRepository.getReferenceById(accommodationId))
+                    .lowestPrice(lowestPrice)
+                    .discountPrice(discountPrice)
+                    .couponName(couponName)
+                    .hasCoupon(discountInfo != null)
+                    .roomCount(roomCount)
+                    .build());
+                continue;
+            }
+
+            summary.update(
+                lowestPrice, discountPrice, couponName, discountInfo != null, roomCount
+            );
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getLowestPrices(List<Long> accommodationIds) {
+        return accommodationRepository.findLowestPricesByAccommodationIds(accommodationIds)
+            .stream()
+            .collect(Collectors.toMap(
+                AccommodationPriceQueryDto::accommodationId,
+                AccommodationPriceQueryDto::lowestPrice
+            ));
+    }
+
+    // 숙소 별로 할인 적용 가격이 가장 낮은 쿠폰을 선택하고, 선택이 끝난 쿠폰만 응답으로 변환
+    @Transactional(readOnly = true)
+    public Map<Long, CouponDetailResponse> getDiscountInfos(List<Long> accommodationIds) {
+        Map<Long, AccommodationCouponQueryDto> bestCoupons = new HashMap<>();
+        Map<Long, Integer> bestPrices = new HashMap<>();
+
+        for (AccommodationCouponQueryDto coupon : accommodationRepository
+            .findEnabledCouponsByAccommodationIds(accommodationIds)) {
+            int price = DiscountType.makePaymentPrice(
+                coupon.discountType(), coupon.roomPrice(), coupon.discount()
+            );
+
+            Integer current = bestPrices.get(coupon.accommodationId());
+            if (current == null || price < current) {
+                bestPrices.put(coupon.accommodationId(), price);
+                bestCoupons.put(coupon.accommodationId(), coupon);
+            }
+        }
+
+        Map<Long, CouponDetailResponse> discountInfos = new HashMap<>();
+        bestCoupons.forEach((accommodationId, coupon) -> discountInfos.put(accommodationId,
+            CouponDetailResponse.builder()
+                .id(coupon.couponId())
+                .name(DiscountType.makeDetailName(coupon.discountType(), coupon.discount()))
+                .price(bestPrices.get(accommodationId))
+                .build()));
+        return discountInfos;
+    }
+}
@@ -0,0 +1,129 @@
+package com.backoffice.upjuyanolja.domain.coupon.cache;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.event.RoomCouponEvent;
+import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 객실 별 사용 가능한 쿠폰 캐시
+ * <p>
+ * 객실의 사용 가능한 쿠폰과 결제 가격을 {@link RoomCoupons} 로 보관한다. 쿠폰이 발급, 수정, 삭제되거나 매진되면
+ * {@link RoomCouponEvent} 를 받아 해당 객실을 무효화하고, 다음 조회 시 빠진 객실만 한 번의 쿼리로 다시 적재한다. 객실 가격이
+ * 바뀌면 결제 가격이 달라지므로 저장된 가격과 다른 가격으로 조회하면 다시 적재한다. 적재하는 동안 무효화된 객실은 이전 쿠폰을 읽었을 수
+ * 있으므로 캐시에 넣지 않는다. 다른 서버에서 일어난 변경은 {@link RoomCouponCacheBroadcaster} 로 전달받고, 전달이 실패하더라도
+ * expireAfterWrite 로 최대 지연 시간을 제한한다.
+ */
+@Component
+public class RoomCouponCache {
+
+    private final CouponRepository couponRepository;
+    private final Cache<Long, RoomCoupons> cache;
+
+    /*
+     * 객실 별 마지막 무효화 순번. 적재를 시작할 때와 다르면 적재한 쿠폰을 캐시에 넣지 않는다.
+     * 순번은 다시 쓰이지 않으므로 캐시와 함께 만료되어도 진행 중인 적재를 잘못 통과시키지 않는다.
+     * */
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final Cache<Long, Long> generations;
+
+    public RoomCouponCache(
+        CouponRepository couponRepository,
+        @Value("${coupon.room-cache.maximum-size:10000}") long maximumSize,
+        @Value("${coupon.room-cache.expire-after-write-seconds:60}") long expireSeconds
+    ) {
+        this.couponRepository = couponRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+            .build();
+        this.generations = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+            .build();
+    }
+
+    /**
+     * 객실 별 사용 가능한 쿠폰을 조회한다. 캐시에 없는 객실만 DB 에서 조회한다.
+     *
+     * @param roomPrices : 객실 식별자 별 기본 가격
+     * @return 객실 식별자 별 사용 가능한 쿠폰
+     */
+    public Map<Long, RoomCoupons> getAll(Map<Long, Integer> roomPrices) {
+        Map<Long, RoomCoupons> roomCoupons = new HashMap<>(
+            cache.getAllPresent(roomPrices.keySet()));
+        roomCoupons.entrySet().removeIf(entry ->
+            entry.getValue().getRoomPrice() != roomPrices.get(entry.getKey()));
+
+        if (roomCoupons.size() == roomPrices.size()) {
+            return roomCoupons;
+        }
+
+        List<Long> missingRoomIds = roomPrices.keySet().stream()
+            .filter(roomId -> !roomCoupons.containsKey(roomId))
+            .toList();
+        Map<Long, Long> loadGenerations = new HashMap<>();
+        missingRoomIds.forEach(roomId -> loadGenerations.put(roomId, getGeneration(roomId)));
+        Map<Long, RoomCoupons> loaded = load(missingRoomIds, roomPrices);
+        loaded.forEach((roomId, coupons) -> putIfNotInvalidated(
+            roomId, coupons, loadGenerations.get(roomId)));
+        roomCoupons.putAll(loaded);
+        return roomCoupons;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRoomCouponEvent(RoomCouponEvent event) {
+        invalidate(event.roomId());
+    }
+
+    /**
+     * 객실의 쿠폰을 무효화한다. 무효화 전에 적재를 시작한 조회는 적재한 쿠폰을 캐시에 넣지 않는다.
+     *
+     * @param roomId : 객실 식별자
+     */
+    public void invalidate(Long roomId) {
+        generations.asMap().compute(roomId, (key, generation) -> {
+            cache.invalidate(key);
+            return invalidationSequence.incrementAndGet();
+        });
+    }
+
+    private long getGeneration(Long roomId) {
+        Long generation = generations.getIfPresent(roomId);
+        return (generation == null) ? 0L : generation;
+    }
+
+    // 무효화와 같은 키 잠금 안에서 비교하고 넣으므로 그 사이에 무효화가 끼어들지 못한다.
+    private void putIfNotInvalidated(Long roomId, RoomCoupons roomCoupons, long loadGeneration) {
+        generations.asMap().compute(roomId, (key, generation) -> {
+            if (((generation == null) ? 0L : generation) == loadGeneration) {
+                cache.put(key, roomCoupons);
+            }
+            return generation;
+        });
+    }
+
+    private Map<Long, RoomCoupons> load(List<Long> roomIds, Map<Long, Integer> roomPrices) {
+        Map<Long, List<Coupon>> coupons = couponRepository
+            .findAllByRoomIdInAndCouponStatus(roomIds, CouponStatus.ENABLE).stream()
+            .collect(Collectors.groupingBy(coupon -> coupon.getRoom().getId()));
+
+        Map<Long, RoomCoupons> roomCoupons = new HashMap<>();
+        for (Long roomId : roomIds) {
+            roomCoupons.put(roomId, RoomCoupons.of(
+                coupons.getOrDefault(roomId, List.of()), roomPrices.get(roomId)
+            ));
+        }
+        return roomCoupons;
+    }
+}
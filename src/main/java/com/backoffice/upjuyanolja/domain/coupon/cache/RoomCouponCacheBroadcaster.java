@@ -0,0 +1,63 @@
+package com.backoffice.upjuyanolja.domain.coupon.cache;
+
+import com.backoffice.upjuyanolja.domain.coupon.event.RoomCouponEvent;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 객실 쿠폰 캐시 무효화 전파기
+ * <p>
+ * {@link RoomCouponEvent} 는 변경이 일어난 서버에만 전달되므로, 커밋된 뒤 객실 식별자를 Redis 채널로 발행하고 모든 서버가 이를
+ * 구독해 자신의 {@link RoomCouponCache} 를 무효화한다. 발행한 서버도 메시지를 받지만 무효화를 한 번 더 할 뿐이다. Redis
+ * pub/sub 은 전달을 보장하지 않으므로 놓친 무효화는 캐시의 expireAfterWrite 로 정리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomCouponCacheBroadcaster implements MessageListener {
+
+    private static final String CHANNEL = "coupon:room-cache:invalidate";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final RoomCouponCache roomCouponCache;
+
+    @Value("${coupon.room-cache.broadcast.enabled:false}")
+    private boolean enabled;
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRoomCouponEvent(RoomCouponEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(event.roomId()));
+        } catch (RuntimeException e) {
+            log.warn("객실 쿠폰 캐시 무효화 발행 실패. roomId={}", event.roomId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String roomId = new String(message.getBody(), StandardCharsets.UTF_8);
+        roomCouponCache.invalidate(Long.parseLong(roomId));
+    }
+}
@@ -0,0 +1,223 @@
+package com.backoffice.upjuyanolja.domain.coupon.cache;
+
+import static com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType.makeDetailName;
+
+import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponDetailResponse;
+import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponShortResponse;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 객실의 사용 가능한 쿠폰 목록
+ * <p>
+ * 사용 가능한(ENABLE, 삭제되지 않은) 쿠폰만 객실 기본 가격으로 계산한 결제 가격과 함께 결제 가격 오름차순으로 보관한다. 할인 유형 별
+ * 순위는 쿠폰 목록의 인덱스, 결제 가격, 할인 가격(할인 율)을 담은 int 배열로 만들어 두므로 최저가 쿠폰 조회는 배열의 첫 값을 읽기만
+ * 한다. 쿠폰이나 객실 가격이 바뀌면 새로 만들고, 생성 이후 변경되지 않으므로 여러 스레드에서 동시에 읽을 수 있다.
+ */
+public final class RoomCoupons {
+
+    public static final int NO_COUPON = -1;
+
+    private static final DiscountType[] DISCOUNT_TYPES = DiscountType.values();
+
+    private final int roomPrice;
+    private final List<RoomCoupon> coupons;
+
+    // 할인 유형(ordinal) 별 결제 가격 오름차순 순위
+    private final int[][] rankedIndexes;
+    private final int[][] rankedPrices;
+    private final int[][] rankedDiscounts;
+
+    private RoomCoupons(
+        int roomPrice, List<RoomCoupon> coupons,
+        int[][] rankedIndexes, int[][] rankedPrices, int[][] rankedDiscounts
+    ) {
+        this.roomPrice = roomPrice;
+        this.coupons = coupons;
+        this.rankedIndexes = rankedIndexes;
+        this.rankedPrices = rankedPrices;
+        this.rankedDiscounts = rankedDiscounts;
+    }
+
+    /**
+     * 쿠폰 목록에서 사용 가능한 쿠폰만 골라 결제 가격 순으로 정렬하고 할인 유형 별 순위를 만든다.
+     *
+     * @param coupons   : 객실의 쿠폰 목록
+     * @param roomPrice : 객실 기본 가격
+     * @return 객실의 사용 가능한 쿠폰 목록
+     */
+    public static RoomCoupons of(List<Coupon> coupons, int roomPrice) {
+        List<RoomCoupon> rankedCoupons = coupons.stream()
+            .filter(coupon -> coupon.getCouponStatus() == CouponStatus.ENABLE
+                && !coupon.isDeleted())
+            .map(coupon -> RoomCoupon.of(coupon, roomPrice))
+            .sorted(Comparator.comparingInt(RoomCoupon::price))
+            .toList();
+
+        int[] counts = new int[DISCOUNT_TYPES.length];
+        for (RoomCoupon coupon : rankedCoupons) {
+            counts[coupon.discountType().ordinal()]++;
+        }
+
+        int[][] indexes = new int[DISCOUNT_TYPES.length][];
+        int[][] prices = new int[DISCOUNT_TYPES.length][];
+        int[][] discounts = new int[DISCOUNT_TYPES.length][];
+        for (int type = 0; type < DISCOUNT_TYPES.length; type++) {
+            indexes[type] = new int[counts[type]];
+            prices[type] = new int[counts[type]];
+            discounts[type] = new int[counts[type]];
+        }
+
+        int[] filled = new int[DISCOUNT_TYPES.length];
+        for (int i = 0; i < rankedCoupons.size(); i++) {
+            RoomCoupon coupon = rankedCoupons.get(i);
+            int type = coupon.discountType().ordinal();
+            int rank = filled[type]++;
+            indexes[type][rank] = i;
+            prices[type][rank] = coupon.price();
+            discounts[type][rank] = coupon.discount();
+        }
+        return new RoomCoupons(roomPrice, rankedCoupons, indexes, prices, discounts);
+    }
+
+    public int getRoomPrice() {
+        return roomPrice;
+    }
+
+    public List<RoomCoupon> getCoupons() {
+        return coupons;
+    }
+
+    public boolean isEmpty() {
+        return coupons.isEmpty();
+    }
+
+    /**
+     * 최저가 쿠폰을 적용한 결제 가격을 조회한다.
+     *
+     * @return 최저 결제 가격, 쿠폰이 없으면 객실 기본 가격
+     */
+    public int getDiscountPrice() {
+        return coupons.isEmpty() ? roomPrice : coupons.get(0).price();
+    }
+
+    /**
+     * 숙박 가격 합계에 쿠폰 할인을 한 번 적용했을 때 가장 낮은 결제 가격을 조회한다. 정액 할인과 정률 할인의 순위는 가격에 따라
+     * 달라지므로 1박 가격 순위를 쓰지 않고 모든 쿠폰을 적용해 본다.
+     *
+     * @param stayPrice : 숙박 가격 합계
+     * @return 최저 결제 가격, 쿠폰이 없으면 숙박 가격 합계
+     */
+    public int getStayDiscountPrice(int stayPrice) {
+        int minPrice = stayPrice;
+        for (RoomCoupon coupon : coupons) {
+            minPrice = Math.min(minPrice,
+                coupon.discountType().applyDiscount(stayPrice, coupon.discount()));
+        }
+        return minPrice;
+    }
+
+    /**
+     * 할인 유형의 쿠폰 중 결제 가격이 가장 낮은 쿠폰을 조회한다.
+     *
+     * @param discountType : 할인 유형
+     * @return 결제 가격이 가장 낮은 쿠폰, 없으면 null
+     */
+    public RoomCoupon getBest(DiscountType discountType) {
+        int[] indexes = rankedIndexes[discountType.ordinal()];
+        return (indexes.length == 0) ? null : coupons.get(indexes[0]);
+    }
+
+    /**
+     * 할인 유형의 최저가 쿠폰을 적용한 결제 가격을 조회한다.
+     *
+     * @param discountType : 할인 유형
+     * @return 최저 결제 가격, 쿠폰이 없으면 {@link #NO_COUPON}
+     */
+    public int getBestPrice(DiscountType discountType) {
+        int[] prices = rankedPrices[discountType.ordinal()];
+        return (prices.length == 0) ? NO_COUPON : prices[0];
+    }
+
+    /**
+     * 할인 유형의 최저가 쿠폰의 할인 가격(할인 율)을 조회한다.
+     *
+     * @param discountType : 할인 유형
+     * @return 할인 가격(할인 율), 쿠폰이 없으면 {@link #NO_COUPON}
+     */
+    public int getBestDiscount(DiscountType discountType) {
+        int[] discounts = rankedDiscounts[discountType.ordinal()];
+        return (discounts.length == 0) ? NO_COUPON : discounts[0];
+    }
+
+    public List<CouponDetailResponse> toDetailResponses() {
+        return coupons.stream()
+            .map(RoomCoupon::toDetailResponse)
+            .toList();
+    }
+
+    public List<CouponDetailResponse> toDetailResponses(DiscountType discountType) {
+        int[] indexes = rankedIndexes[discountType.ordinal()];
+        List<CouponDetailResponse> responses = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            responses.add(coupons.get(index).toDetailResponse());
+        }
+        return responses;
+    }
+
+    public List<CouponShortResponse> toShortResponses() {
+        return coupons.stream()
+            .map(RoomCoupon::toShortResponse)
+            .toList();
+    }
+
+    /**
+     * 객실 쿠폰
+     *
+     * @param id           : 쿠폰 식별자
+     * @param discountType : 할인 유형
+     * @param discount     : 할인 가격(할인 율)
+     * @param endDate      : 쿠폰 노출 만료일
+     * @param price        : 객실 기본 가격에 쿠폰을 적용한 결제 가격
+     */
+    public record RoomCoupon(
+        Long id,
+        DiscountType discountType,
+        int discount,
+        LocalDate endDate,
+        int price
+    ) {
+
+        public static RoomCoupon of(Coupon coupon, int roomPrice) {
+            return new RoomCoupon(
+                coupon.getId(),
+                coupon.getDiscountType(),
+                coupon.getDiscount(),
+                coupon.getEndDate(),
+                DiscountType.makePaymentPrice(
+                    coupon.getDiscountType(), roomPrice, coupon.getDiscount())
+            );
+        }
+
+        public CouponDetailResponse toDetailResponse() {
+            return CouponDetailResponse.builder()
+                .id(id)
+                .name(makeDetailName(discountType, discount))
+                .price(price)
+                .build();
+        }
+
+        public CouponShortResponse toShortResponse() {
+            return CouponShortResponse.builder()
+                .id(id)
+                .name(makeDetailName(discountType, discount))
+                .endDate(endDate)
+                .build();
+        }
+    }
+}
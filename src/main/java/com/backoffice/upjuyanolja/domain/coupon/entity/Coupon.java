@@ -16,6 +16,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -24,10 +25,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+// 재고 버킷 기록은 버전 없이 재고만 바꾸므로, 엔티티 수정은 바뀐 컬럼만 기록해 재고를 덮어쓰지 않는다.
+@DynamicUpdate
 @Table(uniqueConstraints = {
     @UniqueConstraint(
         name = "UniqueRoomIdAndDiscount",
@@ -76,6 +80,10 @@ public class Coupon extends BaseTime {
     @Comment("쿠폰 개수(재고)")
     private int stock;
 
+    @Version
+    @Comment("낙관적 락 버전")
+    private long version;
+
     @Builder
     public Coupon(
         Long id,
@@ -0,0 +1,61 @@
+package com.backoffice.upjuyanolja.domain.coupon.entity;
+
+import com.backoffice.upjuyanolja.global.common.entity.BaseTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 쿠폰 일일 사용량 통계
+ * <p>
+ * 일일 사용 한도 검사에 쓰이는 Redis 카운터를 주기적으로 옮겨 적은 값이다. 한도 검사는 Redis 카운터로만 하므로 이 값은 통계
+ * 용도로만 사용한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_coupon_daily_usage_coupon_id_usage_date",
+        columnNames = {"coupon_id", "usage_date"})
+})
+public class CouponDailyUsage extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("쿠폰 일일 사용량 식별자")
+    private Long id;
+
+    @Column(nullable = false, name = "coupon_id")
+    @Comment("쿠폰 식별자")
+    private Long couponId;
+
+    @Column(nullable = false, name = "usage_date")
+    @Comment("사용일")
+    private LocalDate usageDate;
+
+    @Column(nullable = false, name = "used")
+    @Comment("사용 수")
+    private long used;
+
+    @Builder
+    public CouponDailyUsage(Long id, Long couponId, LocalDate usageDate, long used) {
+        this.id = id;
+        this.couponId = couponId;
+        this.usageDate = usageDate;
+        this.used = used;
+    }
+
+    public void updateUsed(long used) {
+        this.used = used;
+    }
+}
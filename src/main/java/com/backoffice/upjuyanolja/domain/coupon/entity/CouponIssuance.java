@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -27,7 +28,8 @@ import org.hibernate.annotations.Comment;
 public class CouponIssuance extends BaseTime {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coupon_issuance_seq")
+    @SequenceGenerator(name = "coupon_issuance_seq", allocationSize = 50)
     @Comment("쿠폰 발급 내역 식별자")
     private Long id;
 
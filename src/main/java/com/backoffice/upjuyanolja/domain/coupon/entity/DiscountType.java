@@ -5,6 +5,7 @@ import static com.backoffice.upjuyanolja.domain.coupon.entity.DiscountRestrictio
 import com.backoffice.upjuyanolja.domain.coupon.exception.InvalidCouponInfoException;
 import java.text.DecimalFormat;
 import java.util.function.BiFunction;
+import java.util.function.IntBinaryOperator;
 import java.util.function.Predicate;
 import lombok.Getter;
 
@@ -47,7 +48,7 @@ public enum DiscountType {
             }
             throw new InvalidCouponInfoException();
         },
-        (price, discount) -> price.intValue() - discount.intValue()
+        (price, discount) -> price - discount
     ),
 
     RATE(
@@ -83,9 +84,8 @@ public enum DiscountType {
             throw new InvalidCouponInfoException();
         },
         (price, discount) -> {
-            int p = price.intValue();
-            double d = 1 - (discount.intValue() * 0.01);
-            return (int) (p * d);
+            double d = 1 - (discount * 0.01);
+            return (int) (price * d);
         }
     );
 
@@ -98,7 +98,7 @@ public enum DiscountType {
     private final BiFunction<String, Integer, String> makeShortFormat;
     private final BiFunction<String, Integer, String> makeDetailFormat;
     private final Predicate<Integer> discountValidate;
-    private final BiFunction<Integer, Integer, Integer> calcAmount;
+    private final IntBinaryOperator calcAmount;
 
     DiscountType(
         final String titleName,
@@ -110,7 +110,7 @@ public enum DiscountType {
         final BiFunction<String, Integer, String> makeShortFormat,
         final BiFunction<String, Integer, String> makeDetailFormat,
         final Predicate<Integer> discountValidate,
-        final BiFunction<Integer, Integer, Integer> calcAmount
+        final IntBinaryOperator calcAmount
     ) {
         this.titleName = titleName;
         this.listName = listName;
@@ -147,10 +147,15 @@ public enum DiscountType {
     // 쿠폰 할인이 적용된 객실 가격을 반환한다.
     public static int makePaymentPrice(
         final DiscountType discountType,
-        final Integer price,
-        final Integer discount
+        final int price,
+        final int discount
     ) {
-        return discountType.calcAmount.apply(price, discount);
+        return discountType.applyDiscount(price, discount);
+    }
+
+    // 박싱 없이 가격에 할인을 적용한다.
+    public int applyDiscount(final int price, final int discount) {
+        return calcAmount.applyAsInt(price, discount);
     }
 
     // X% 할인율을 정액으로 얼마 할인되는지 보여준다.
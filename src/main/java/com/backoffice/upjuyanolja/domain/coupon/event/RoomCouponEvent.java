@@ -0,0 +1,15 @@
+package com.backoffice.upjuyanolja.domain.coupon.event;
+
+/**
+ * 객실의 쿠폰 목록에 영향을 주는 변경(쿠폰 발급, 추가 구매, 수정, 삭제, 매진)이 일어났음을 알린다.
+ *
+ * @param roomId : 쿠폰이 변경된 객실 식별자
+ */
+public record RoomCouponEvent(
+    Long roomId
+) {
+
+    public static RoomCouponEvent of(Long roomId) {
+        return new RoomCouponEvent(roomId);
+    }
+}
@@ -0,0 +1,11 @@
+package com.backoffice.upjuyanolja.domain.coupon.exception;
+
+import com.backoffice.upjuyanolja.global.exception.ApplicationException;
+import com.backoffice.upjuyanolja.global.exception.ErrorCode;
+
+public class CouponDayLimitExceededException extends ApplicationException {
+
+    public CouponDayLimitExceededException() {
+        super(ErrorCode.COUPON_DAY_LIMIT_EXCEEDED);
+    }
+}
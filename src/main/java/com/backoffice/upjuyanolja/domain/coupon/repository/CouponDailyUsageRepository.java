@@ -0,0 +1,13 @@
+package com.backoffice.upjuyanolja.domain.coupon.repository;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponDailyUsage;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CouponDailyUsageRepository extends JpaRepository<CouponDailyUsage, Long> {
+
+    List<CouponDailyUsage> findAllByUsageDateAndCouponIdIn(
+        LocalDate usageDate, Collection<Long> couponIds);
+}
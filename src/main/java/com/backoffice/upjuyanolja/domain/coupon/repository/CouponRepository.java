@@ -1,11 +1,16 @@
 package com.backoffice.upjuyanolja.domain.coupon.repository;
 
 import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
 import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponRepositoryCustom {
 
@@ -13,8 +18,46 @@ public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponRep
 
     List<Coupon> findByRoom(Room room);
 
+    List<Coupon> findAllByRoomIn(Collection<Room> rooms);
+
+    List<Coupon> findAllByRoomIdInAndCouponStatus(Collection<Long> roomIds, CouponStatus status);
+
     List<Coupon> findByRoomAndDiscountTypeOrderByDiscountDesc(Room room, DiscountType discountType);
 
     Optional<Coupon> findByRoomIdAndDiscount(Long roomId, int discount);
 
+    // 재고가 quantity 이상일 때만 차감된다. 반환값으로 차감 여부를 확인해야 한다.
+    @Modifying
+    @Query("update Coupon c set c.stock = c.stock - :quantity, c.version = c.version + 1 "
+        + "where c.id = :id and c.stock >= :quantity")
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Coupon c set c.stock = c.stock + :quantity, c.version = c.version + 1 "
+        + "where c.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /*
+     * 재고 버킷의 판매 수를 반영한다. 주기적으로 실행되므로 버전을 올리지 않아,
+     * 같은 쿠폰을 엔티티로 수정하는 백오피스 요청이 낙관적 락 충돌로 실패하지 않는다.
+     * */
+    @Modifying
+    @Query("update Coupon c set c.stock = c.stock - :quantity where c.id = :id")
+    int subtractStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Coupon c set c.couponStatus = :status, c.version = c.version + 1 "
+        + "where c.id = :id and c.stock = 0")
+    int updateStatusIfEmpty(@Param("id") Long id, @Param("status") CouponStatus status);
+
+    // 재고를 다시 채운 매진 쿠폰을 판매 상태로 되돌린다.
+    @Modifying
+    @Query("update Coupon c set c.couponStatus = :status, c.version = c.version + 1 "
+        + "where c.id = :id and c.couponStatus = :soldOut and c.stock > 0")
+    int updateStatusIfRestocked(
+        @Param("id") Long id,
+        @Param("soldOut") CouponStatus soldOut,
+        @Param("status") CouponStatus status
+    );
+
 }
@@ -5,6 +5,7 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 
+import com.backoffice.upjuyanolja.domain.accommodation.event.AccommodationSummaryEvent;
 import com.backoffice.upjuyanolja.domain.accommodation.exception.AccommodationNotFoundException;
 import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationQueryService;
 import com.backoffice.upjuyanolja.domain.coupon.dto.request.backoffice.CouponAddInfos;
@@ -23,7 +24,9 @@ import com.backoffice.upjuyanolja.domain.coupon.dto.response.backoffice.CouponMa
 import com.backoffice.upjuyanolja.domain.coupon.dto.response.backoffice.CouponRoomsResponse;
 import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
 import com.backoffice.upjuyanolja.domain.coupon.entity.CouponIssuance;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
 import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.coupon.event.RoomCouponEvent;
 import com.backoffice.upjuyanolja.domain.coupon.exception.InvalidCouponInfoException;
 import com.backoffice.upjuyanolja.domain.coupon.repository.CouponIssuanceRepository;
 import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
@@ -32,6 +35,7 @@ import com.backoffice.upjuyanolja.domain.point.service.PointService;
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
 import com.backoffice.upjuyanolja.global.exception.NotOwnerException;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -39,6 +43,7 @@ import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,6 +59,8 @@ public class CouponBackofficeService {
 
     private final AccommodationQueryService accommodationQueryService;
     private final PointService pointService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager em;
 
     // 쿠폰 만들기 View Response
     public CouponMakeViewResponse getRoomsByAccommodation(Long accommodationId) {
@@ -131,6 +138,9 @@ public class CouponBackofficeService {
         couponRepository.saveAll(coupons);
         // 7. 생성된 쿠폰 발급 내역 저장
         couponIssuanceRepository.saveAll(couponIssuances);
+        eventPublisher.publishEvent(
+            AccommodationSummaryEvent.of(couponMakeRequest.accommodationId()));
+        publishRoomCouponChanged(coupons);
 
         // 8. 포인트 사용 이력 전달
         // Todo: 포인트 사용 내역 Point 도메인에 전달하기
@@ -193,6 +203,9 @@ public class CouponBackofficeService {
         }
         couponRepository.saveAll(addCoupons);
         couponIssuanceRepository.saveAll(addCouponIssuances);
+        eventPublisher.publishEvent(
+            AccommodationSummaryEvent.of(couponAddRequest.accommodationId()));
+        publishRoomCouponChanged(addCoupons);
 
         log.info("쿠폰 추가 발급 성공. 금액: {}", totalPoints);
     }
@@ -207,6 +220,8 @@ public class CouponBackofficeService {
             }
         }
         couponRepository.saveAll(modifyCoupons);
+        eventPublisher.publishEvent(AccommodationSummaryEvent.of(modifyRequest.accommodationId()));
+        publishRoomCouponChanged(modifyCoupons);
         log.info("쿠폰 수정 성공.");
     }
 
@@ -220,9 +235,19 @@ public class CouponBackofficeService {
             }
         }
         couponRepository.saveAll(deleteCoupons);
+        eventPublisher.publishEvent(AccommodationSummaryEvent.of(request.accommodationId()));
+        publishRoomCouponChanged(deleteCoupons);
         log.info("쿠폰 삭제 처리 성공.");
     }
 
+    // 변경된 쿠폰이 속한 객실의 쿠폰 캐시 무효화 요청. 커밋 이후에 처리된다.
+    private void publishRoomCouponChanged(List<Coupon> coupons) {
+        coupons.stream()
+            .map(coupon -> coupon.getRoom().getId())
+            .distinct()
+            .forEach(roomId -> eventPublisher.publishEvent(RoomCouponEvent.of(roomId)));
+    }
+
     private Coupon setupDelete(Long couponId) {
         Coupon coupon = couponRepository.findById(couponId).orElseThrow(
             InvalidCouponInfoException::new);
@@ -231,11 +256,9 @@ public class CouponBackofficeService {
     }
 
     private Coupon increaseCouponStock(final CouponAddInfos addCoupons) {
-        long couponId = addCoupons.couponId();
-        Coupon coupon = couponRepository.findById(couponId).orElseThrow(
+        Coupon coupon = couponRepository.findById(addCoupons.couponId()).orElseThrow(
             InvalidCouponInfoException::new);
-        coupon.increaseCouponStock(addCoupons.buyQuantity());
-        return coupon;
+        return updateCouponStock(coupon, addCoupons.buyQuantity());
     }
 
     private Coupon modifyCoupon(final CouponModifyInfos modifyCoupons, LocalDate endDate) {
@@ -298,9 +321,19 @@ public class CouponBackofficeService {
         }
     }
 
-    // 발행 이력이 있는 쿠폰이라면 재고 수량을 업데이트 한다.
+    /*
+     * 발행 이력이 있는 쿠폰이라면 재고 수량을 업데이트 한다.
+     * 재고 버킷의 판매 수 기록과 겹쳐도 덮어쓰지 않도록 조건 없는 UPDATE 로 더하며,
+     * 추가된 재고는 다음 기록 주기에 버킷에 반영된다.
+     * 매진된 쿠폰은 다시 판매 상태로 바꾸고, UPDATE 로 바뀐 재고와 버전을 엔티티에 다시 읽어
+     * 이후 엔티티 변경이 이전 버전으로 낙관적 락 충돌을 일으키지 않게 한다.
+     * */
     private Coupon updateCouponStock(final Coupon coupon, final int quantity) {
-        return coupon.increaseCouponStock(quantity);
+        couponRepository.increaseStock(coupon.getId(), quantity);
+        couponRepository.updateStatusIfRestocked(
+            coupon.getId(), CouponStatus.SOLD_OUT, CouponStatus.ENABLE);
+        em.refresh(coupon);
+        return coupon;
     }
 
     private CouponIssuance createCouponIssuance(
@@ -0,0 +1,308 @@
+package com.backoffice.upjuyanolja.domain.coupon.service;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponDailyUsage;
+import com.backoffice.upjuyanolja.domain.coupon.exception.CouponDayLimitExceededException;
+import com.backoffice.upjuyanolja.domain.coupon.repository.CouponDailyUsageRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쿠폰 일일 사용 한도 검사기
+ * <p>
+ * 쿠폰-날짜 별 사용 수를 여러 Redis 카운터(샤드)에 나누어 세고, 일일 사용 한도도 샤드 수만큼 나누어 각 샤드에 할당한다. 예약
+ * 요청은 임의의 샤드에서 시작해 할당량이 남은 샤드 하나를 단일 키 Lua 스크립트로 확인하고 증가시키므로, 인기 쿠폰의 요청이 한
+ * 키에 몰리지 않고 클러스터의 여러 슬롯으로 흩어진다. 날짜가 키에 포함되므로 서울 기준 자정에 새 카운터로 넘어가며, 지난 날짜의
+ * 카운터는 마지막 집계를 위한 유예 시간 뒤에 만료된다. 사용 수는 {@link #flush(LocalDate)} 를 통해 coupon_daily_usage
+ * 테이블에 주기적으로 기록되며, 예약마다 DB 를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponDailyLimiter {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 샤드 키에는 해시 태그를 두지 않아 같은 쿠폰의 샤드가 여러 슬롯에 나뉘도록 한다.
+    private static final String COUNTER_KEY_FORMAT = "coupon:day-limit:%s:%d:%d";
+    private static final String COUPONS_KEY_FORMAT = "coupon:day-limit:%s:coupons";
+    private static final String FLUSH_LOCK_KEY = "coupon:day-limit:flush-lock";
+
+    private static final long EXHAUSTED = 0L;
+
+    /*
+     * KEYS[1] = 샤드 카운터
+     * ARGV[1] = 샤드 할당량, ARGV[2] = 만료 시각(epoch seconds)
+     * 할당량이 남았으면 증가시킨 사용 수, 남지 않았으면 0 반환
+     * */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+        local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+        if count >= tonumber(ARGV[1]) then
+            return 0
+        end
+        count = redis.call('INCR', KEYS[1])
+        if count == 1 then
+            redis.call('EXPIREAT', KEYS[1], ARGV[2])
+        end
+        return count
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 샤드 카운터
+     * 만료되지 않은 카운터만 0 아래로 내려가지 않도록 감소
+     * */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+        if count > 0 then
+            return redis.call('DECR', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 락
+     * ARGV[1] = 락을 획득한 토큰
+     * */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CouponDailyUsageRepository couponDailyUsageRepository;
+
+    @Value("${coupon.day-limit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${coupon.day-limit.shards:8}")
+    private int shards;
+
+    // 자정 이후 지난 날짜 카운터를 마지막으로 기록할 수 있도록 남겨두는 시간
+    @Value("${coupon.day-limit.retention-seconds:3600}")
+    private long retentionSeconds;
+
+    @Value("${coupon.day-limit.flush-lock-ms:10000}")
+    private long flushLockMillis;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 오늘 쿠폰 사용 수를 하나 늘린다. 트랜잭션 안에서 호출하면 트랜잭션이 롤백될 때 사용 수를 되돌린다. 예약이 커밋된 뒤의 취소나
+     * 선점 만료는 사용 수를 되돌리지 않는다.
+     *
+     * @param coupon : 사용 쿠폰
+     * @throws CouponDayLimitExceededException 오늘 사용 한도가 모두 소진된 경우
+     */
+    public void acquire(Coupon coupon) {
+        // 한도가 0 보다 작으면 무제한
+        if (!enabled || coupon.getDayLimit() < 0) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now(ZONE_ID);
+        String counterKey = tryAcquire(coupon.getId(), coupon.getDayLimit(), today);
+        if (counterKey == null) {
+            log.info("쿠폰 일일 사용 한도 초과. couponId: {}, dayLimit: {}",
+                coupon.getId(), coupon.getDayLimit());
+            throw new CouponDayLimitExceededException();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            release(counterKey);
+                        }
+                    }
+                });
+        }
+    }
+
+    /**
+     * 날짜의 쿠폰 별 사용 수를 샤드 합계로 구해 coupon_daily_usage 테이블에 덮어쓴다. 같은 날짜를 여러 번 기록해도 마지막
+     * 합계만 남는다. 여러 인스턴스가 같은 쿠폰의 첫 행을 동시에 추가해 유니크 제약에 걸리지 않도록, 한 번에 한 인스턴스만
+     * 기록하고 트랜잭션이 끝난 뒤 락을 해제한다.
+     *
+     * @param date : 사용일
+     * @return 기록한 쿠폰 수
+     */
+    @Transactional
+    public int flush(LocalDate date) {
+        Set<Object> members = redisTemplate.opsForSet().members(couponsKey(date));
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(FLUSH_LOCK_KEY, token,
+            Duration.ofMillis(flushLockMillis)))) {
+            return 0;
+        }
+
+        boolean unlockAfterCompletion = unlockAfterCompletion(token);
+        try {
+            return write(date, members);
+        } finally {
+            if (!unlockAfterCompletion) {
+                unlock(token);
+            }
+        }
+    }
+
+    private int write(LocalDate date, Set<Object> members) {
+        Map<Long, Long> usages = new HashMap<>();
+        for (Object member : members) {
+            Long couponId = Long.parseLong((String) member);
+            usages.put(couponId, sumCounters(couponId, date));
+        }
+
+        List<CouponDailyUsage> dailyUsages = new ArrayList<>();
+        for (CouponDailyUsage dailyUsage : couponDailyUsageRepository
+            .findAllByUsageDateAndCouponIdIn(date, usages.keySet())) {
+            dailyUsage.updateUsed(usages.remove(dailyUsage.getCouponId()));
+            dailyUsages.add(dailyUsage);
+        }
+        usages.forEach((couponId, used) -> dailyUsages.add(CouponDailyUsage.builder()
+            .couponId(couponId)
+            .usageDate(date)
+            .used(used)
+            .build()));
+
+        couponDailyUsageRepository.saveAll(dailyUsages);
+        return dailyUsages.size();
+    }
+
+    /*
+     * 커밋되거나 롤백된 뒤에 락을 해제해, 다음 인스턴스가 기록되지 않은 행을 다시 추가하지 않게 한다.
+     * 트랜잭션 밖에서 호출되어 등록하지 못하면 false 반환
+     * */
+    private boolean unlockAfterCompletion(String token) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    unlock(token);
+                }
+            });
+        return true;
+    }
+
+    private void unlock(String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+        } catch (RuntimeException e) {
+            // 해제하지 못한 락은 만료 시간이 지나면 풀림
+            log.warn("쿠폰 일일 사용 수 기록 락 해제 실패.", e);
+        }
+    }
+
+    /*
+     * 임의의 샤드에서 시작해 할당량이 남은 샤드를 찾을 때까지 다음 샤드로 넘어간다.
+     * 샤드 할당량 합계가 일일 한도와 같으므로 모든 샤드가 소진되면 한도가 소진된 것이다.
+     * */
+    private String tryAcquire(Long couponId, int dayLimit, LocalDate date) {
+        int shardCount = getShardCount(dayLimit);
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        Instant expireAt = date.plusDays(1).atStartOfDay(ZONE_ID)
+            .plusSeconds(retentionSeconds).toInstant();
+
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (start + i) % shardCount;
+            String counterKey = counterKey(couponId, date, shard);
+            Long count = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(counterKey),
+                String.valueOf(getShardQuota(dayLimit, shardCount, shard)),
+                String.valueOf(expireAt.getEpochSecond()));
+
+            if (count == null || count == EXHAUSTED) {
+                continue;
+            }
+            // 샤드의 첫 사용일 때만 기록 대상 쿠폰으로 등록
+            if (count == 1) {
+                registerCoupon(couponId, date, expireAt);
+            }
+            return counterKey;
+        }
+        return null;
+    }
+
+    private void release(String counterKey) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(counterKey));
+        } catch (RuntimeException e) {
+            // 되돌리지 못한 사용 수는 다음 날 카운터가 바뀌면 정리됨
+            log.warn("쿠폰 일일 사용 수 복구 실패. key={}", counterKey, e);
+        }
+    }
+
+    private void registerCoupon(Long couponId, LocalDate date, Instant expireAt) {
+        String couponsKey = couponsKey(date);
+        redisTemplate.opsForSet().add(couponsKey, String.valueOf(couponId));
+        redisTemplate.expireAt(couponsKey, expireAt);
+    }
+
+    private long sumCounters(Long couponId, LocalDate date) {
+        List<String> keys = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            keys.add(counterKey(couponId, date, shard));
+        }
+
+        List<Object> counts = redisTemplate.opsForValue().multiGet(keys);
+        long sum = 0;
+        if (counts != null) {
+            for (Object count : counts) {
+                if (count != null) {
+                    sum += Long.parseLong((String) count);
+                }
+            }
+        }
+        return sum;
+    }
+
+    // 샤드마다 할당량이 1 이상이 되도록 한도보다 많이 나누지 않음
+    private int getShardCount(int dayLimit) {
+        return Math.max(1, Math.min(shards, dayLimit));
+    }
+
+    private int getShardQuota(int dayLimit, int shardCount, int shard) {
+        return dayLimit / shardCount + ((shard < dayLimit % shardCount) ? 1 : 0);
+    }
+
+    private String counterKey(Long couponId, LocalDate date, int shard) {
+        return String.format(COUNTER_KEY_FORMAT, date.format(DATE_FORMAT), couponId, shard);
+    }
+
+    private String couponsKey(LocalDate date) {
+        return String.format(COUPONS_KEY_FORMAT, date.format(DATE_FORMAT));
+    }
+}
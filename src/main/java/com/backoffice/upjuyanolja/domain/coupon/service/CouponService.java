@@ -1,20 +1,16 @@
 package com.backoffice.upjuyanolja.domain.coupon.service;
 
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCouponCache;
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCoupons;
 import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponAccommodationResponse;
-import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponDetailResponse;
-import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponShortResponse;
-import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
-import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
 import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
-import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomPriceRepository;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,139 +20,74 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CouponService {
 
-    private final CouponRepository couponRepository;
     private final RoomRepository roomRepository;
+    private final RoomPriceRepository roomPriceRepository;
+    private final RoomCouponCache roomCouponCache;
 
     @Transactional(readOnly = true)
     public List<CouponAccommodationResponse> findCouponResponseInAccommodation(
         Long accommodationId) {
         List<CouponAccommodationResponse> responses = new ArrayList<>();
         List<Room> rooms = roomRepository.findByAccommodationId(accommodationId);
+        Map<Long, RoomCoupons> roomCoupons = getRoomCoupons(
+            roomPriceRepository.findAllByRoomIn(rooms).stream()
+                .collect(Collectors.toMap(
+                    price -> price.getRoom().getId(), RoomPrice::getOffWeekDaysMinFee)));
 
         for (Room room : rooms) {
-            List<CouponShortResponse> coupons = couponRepository.findByRoom(room).stream()
-                .filter(coupon -> coupon.getCouponStatus().equals(CouponStatus.ENABLE))
-                .map(coupon -> CouponShortResponse.of(coupon))
-                .toList();
-
-            if (!coupons.isEmpty()) {
-                responses.add(CouponAccommodationResponse.of(room, coupons));
+            RoomCoupons coupons = roomCoupons.get(room.getId());
+            if (coupons != null && !coupons.isEmpty()) {
+                responses.add(CouponAccommodationResponse.of(room, coupons.toShortResponses()));
             }
         }
 
         return responses;
     }
 
-    public List<CouponDetailResponse> getSortedDiscountTypeCouponResponseInRoom(
-        Room room, int roomPrice, List<Coupon> coupons, DiscountType discountType
-    ) {
-        List<CouponDetailResponse> responses = new ArrayList<>();
-        List<Coupon> discountTypeCouponInRoom =
-            getDiscountTypeCouponInRoom(coupons, discountType);
-        List<Coupon> resultCoupons = new ArrayList<>();
-
-        if (discountTypeCouponInRoom.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        resultCoupons = sortDiscountTypeCouponInRoom(discountTypeCouponInRoom, roomPrice);
-
-        for (Coupon coupon : resultCoupons) {
-            responses.add(CouponDetailResponse.of(
-                coupon,
-                DiscountType.makePaymentPrice(coupon.getDiscountType(), roomPrice,
-                    coupon.getDiscount()
-                ))
-            );
-        }
-
-        return responses;
+    /**
+     * 객실 목록의 사용 가능한 쿠폰을 조회한다. 캐시에 없는 객실만 한 번의 쿼리로 조회하며, 쿠폰이 없는 객실은 빈 목록을 가진다.
+     *
+     * @param roomPrices : 객실 식별자 별 기본 가격
+     * @return 객실 식별자 별 사용 가능한 쿠폰
+     */
+    public Map<Long, RoomCoupons> getRoomCoupons(Map<Long, Integer> roomPrices) {
+        return roomCouponCache.getAll(roomPrices);
     }
 
-    @Transactional(readOnly = true)
-    public List<Coupon> getCouponInRoom(Room room) {
-        return couponRepository.findByRoom(room);
+    public RoomCoupons getRoomCoupons(Room room, int roomPrice) {
+        return roomCouponCache.getAll(Map.of(room.getId(), roomPrice)).get(room.getId());
     }
 
-    @Transactional(readOnly = true)
-    public List<CouponDetailResponse> getSortedTotalCouponResponseInRoom(Room room, int roomPrice) {
-        List<Coupon> roomCoupons = couponRepository.findByRoom(room);
-
-        if (roomCoupons.isEmpty()) {
-            return new ArrayList<>();
+    /**
+     * 미리 조회한 객실 쿠폰으로 숙소 대표 쿠폰 이름을 만든다. 정액, 정률 쿠폰이 모두 있으면 "정액 or 정률" 형태로 반환한다.
+     *
+     * @param rooms       : 숙소의 객실 목록
+     * @param roomCoupons : 객실 식별자 별 사용 가능한 쿠폰
+     * @return 숙소 대표 쿠폰 이름, 쿠폰이 없으면 빈 문자열
+     */
+    public String getMainCouponName(List<Room> rooms, Map<Long, RoomCoupons> roomCoupons) {
+        String flatName = getDiscountTypeMainCouponName(rooms, DiscountType.FLAT, roomCoupons);
+        String rateName = getDiscountTypeMainCouponName(rooms, DiscountType.RATE, roomCoupons);
+
+        if (flatName.isEmpty() || rateName.isEmpty()) {
+            return flatName.isEmpty() ? rateName : flatName;
         }
-
-        roomCoupons.sort(Comparator.comparingInt(coupon -> DiscountType.makePaymentPrice(
-                coupon.getDiscountType(), roomPrice, coupon.getDiscount()
-            ))
-        );
-
-        return roomCoupons.stream()
-            .filter(coupon -> coupon.getCouponStatus().equals(CouponStatus.ENABLE))
-            .map(coupon -> {
-                int discountedPrice = DiscountType.makePaymentPrice(
-                    coupon.getDiscountType(), roomPrice, coupon.getDiscount()
-                );
-                return CouponDetailResponse.of(coupon, discountedPrice);
-            })
-            .collect(Collectors.toList());
+        return flatName + " or " + rateName;
     }
 
-    @Transactional(readOnly = true)
-    public String getDiscountTypeMainRoomCouponName(
-        List<Room> rooms, DiscountType discountType, Map<Room, Integer> priceRoomMap
+    // 객실 별 최저가 쿠폰 중 할인 가격(할인 율)이 가장 큰 쿠폰의 이름
+    private String getDiscountTypeMainCouponName(
+        List<Room> rooms, DiscountType discountType, Map<Long, RoomCoupons> roomCoupons
     ) {
-        TreeMap<Integer, String> result = new TreeMap<>(Comparator.reverseOrder());
-
+        int maxDiscount = RoomCoupons.NO_COUPON;
         for (Room room : rooms) {
-            int roomPrice = priceRoomMap.get(room);
-            List<Coupon> coupons = getDiscountTypeCouponInRoom(
-                getCouponInRoom(room), discountType
-            );
-
-            if (coupons.isEmpty()) {
-                continue;
-            }
-
-            coupons = sortDiscountTypeCouponInRoom(coupons, roomPrice);
-
-            result.put(
-                coupons.get(0).getDiscount(),
-                DiscountType.makeDetailName(discountType, coupons.get(0).getDiscount())
-            );
-
+            maxDiscount = Math.max(maxDiscount,
+                roomCoupons.get(room.getId()).getBestDiscount(discountType));
         }
 
-        if (result.isEmpty()) {
+        if (maxDiscount == RoomCoupons.NO_COUPON) {
             return "";
         }
-
-        return result.firstEntry().getValue();
-    }
-
-    private List<Coupon> sortDiscountTypeCouponInRoom(
-        List<Coupon> discountTypeCoupon, int roomPrice
-    ) {
-        List<Coupon> result = new ArrayList<>();
-        result.addAll(discountTypeCoupon);
-
-        Collections.sort(result,
-            Comparator.comparingInt(coupon -> DiscountType.makePaymentPrice(
-                    coupon.getDiscountType(), roomPrice, coupon.getDiscount()
-                )
-            )
-        );
-
-        return result;
-
-    }
-
-    private List<Coupon> getDiscountTypeCouponInRoom(
-        List<Coupon> coupons, DiscountType discountType
-    ) {
-        return coupons.stream()
-            .filter(coupon -> coupon.getDiscountType() == discountType &&
-                coupon.getCouponStatus() == CouponStatus.ENABLE)
-            .toList();
+        return DiscountType.makeDetailName(discountType, maxDiscount);
     }
 }
@@ -0,0 +1,388 @@
+package com.backoffice.upjuyanolja.domain.coupon.service;
+
+import com.backoffice.upjuyanolja.domain.accommodation.event.AccommodationSummaryEvent;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.event.RoomCouponEvent;
+import com.backoffice.upjuyanolja.domain.coupon.exception.InsufficientCouponStockException;
+import com.backoffice.upjuyanolja.domain.coupon.exception.InvalidCouponInfoException;
+import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis 쿠폰 재고 버킷
+ * <p>
+ * 쿠폰 재고를 여러 Redis 해시(버킷)에 나누어 두고, 차감은 임의의 버킷에서 시작해 재고가 남은 버킷 하나를 단일 키 Lua 스크립트로
+ * 차감한다. 쿠폰 재고 락 하나에 모든 예약이 줄을 서지 않으므로 인기 쿠폰의 처리량이 버킷 수에 비례해 늘어난다. 버킷은 남은 재고와
+ * 마지막 기록 이후 판매 수를 함께 세고, 처음 사용할 때 coupon.stock 으로 채워진다. {@link #merge()} 는 판매 수만큼
+ * coupon.stock 을 줄이고, 추가 발급처럼 DB 에서만 바뀐 재고는 그 차이를 버킷에 더해 맞춘다. 적재된 버킷이 있는 동안 버킷 수를
+ * 바꾸면 합계를 구할 수 없으므로 버킷 키를 지운 뒤 바꿔야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponStockBuckets {
+
+    // 버킷 키에는 해시 태그를 두지 않아 같은 쿠폰의 버킷이 여러 슬롯에 나뉘도록 한다.
+    private static final String BUCKET_KEY_FORMAT = "coupon-stock:%d:%d";
+    private static final String LOADED_KEY = "coupon-stock:loaded";
+    private static final String MERGE_LOCK_KEY = "coupon-stock:merge-lock";
+    private static final String STOCK_FIELD = "stock";
+
+    private static final long SUCCESS = 1L;
+    private static final long NOT_LOADED = -1L;
+
+    /*
+     * KEYS[1] = 버킷
+     * 적재되지 않았으면 -1, 재고가 없으면 0, 차감했으면 1 반환
+     * */
+    private static final RedisScript<Long> DECREASE_SCRIPT = new DefaultRedisScript<>("""
+        local stock = redis.call('HGET', KEYS[1], 'stock')
+        if not stock then
+            return -1
+        end
+        if tonumber(stock) < 1 then
+            return 0
+        end
+        redis.call('HINCRBY', KEYS[1], 'stock', -1)
+        redis.call('HINCRBY', KEYS[1], 'sold', 1)
+        return 1
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 버킷
+     * 적재되지 않았으면 -1, 복구했으면 1 반환
+     * */
+    private static final RedisScript<Long> INCREASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -1
+        end
+        redis.call('HINCRBY', KEYS[1], 'stock', 1)
+        redis.call('HINCRBY', KEYS[1], 'sold', -1)
+        return 1
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 버킷
+     * 남은 재고와 마지막 기록 이후 판매 수를 반환하고 판매 수를 0 으로 되돌린다.
+     * 적재되지 않았으면 빈 목록 반환
+     * */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return {}
+        end
+        local stock = tonumber(redis.call('HGET', KEYS[1], 'stock') or '0')
+        local sold = tonumber(redis.call('HGET', KEYS[1], 'sold') or '0')
+        redis.call('HSET', KEYS[1], 'sold', 0)
+        return {stock, sold}
+        """, List.class);
+
+    /*
+     * KEYS[1] = 버킷
+     * ARGV[1] = 판매 수
+     * 기록하지 못한 판매 수를 되돌린다.
+     * */
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+        return redis.call('HINCRBY', KEYS[1], 'sold', ARGV[1])
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 버킷
+     * ARGV[1] = 변경량
+     * 재고가 0 보다 작아지지 않는 만큼만 더하고, 실제로 더한 양을 반환
+     * */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 0
+        end
+        local stock = tonumber(redis.call('HGET', KEYS[1], 'stock') or '0')
+        local delta = math.max(tonumber(ARGV[1]), -stock)
+        redis.call('HINCRBY', KEYS[1], 'stock', delta)
+        return delta
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 락
+     * ARGV[1] = 락을 획득한 토큰
+     * */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${coupon.stock-buckets.enabled:false}")
+    private boolean enabled;
+
+    @Value("${coupon.stock-buckets.count:8}")
+    private int bucketCount;
+
+    // 한 번의 기록보다 길게 잡아, 기록 중에 다른 인스턴스가 같은 차이를 보정하지 않도록 한다.
+    @Value("${coupon.stock-buckets.merge-lock-ms:10000}")
+    private long mergeLockMillis;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 쿠폰 재고를 하나 차감한다. 임의의 버킷에서 시작해 재고가 남은 버킷을 찾을 때까지 다음 버킷으로 넘어간다.
+     *
+     * @param couponId : 쿠폰 식별자
+     * @throws InsufficientCouponStockException 모든 버킷의 재고가 없는 경우
+     */
+    public void decrease(Long couponId) {
+        int start = ThreadLocalRandom.current().nextInt(bucketCount);
+
+        for (int i = 0; i < bucketCount; i++) {
+            if (executeWithLoad(DECREASE_SCRIPT, couponId, (start + i) % bucketCount)
+                == SUCCESS) {
+                return;
+            }
+        }
+        log.info("쿠폰 재고 부족. couponId: {}", couponId);
+        throw new InsufficientCouponStockException();
+    }
+
+    /**
+     * 쿠폰 재고를 하나 복구한다. 적재되지 않은 쿠폰은 먼저 coupon.stock 으로 버킷을 채운다.
+     *
+     * @param couponId : 쿠폰 식별자
+     * @throws InvalidCouponInfoException 버킷을 채우지 못한 경우
+     */
+    public void increase(Long couponId) {
+        int bucket = ThreadLocalRandom.current().nextInt(bucketCount);
+
+        if (executeWithLoad(INCREASE_SCRIPT, couponId, bucket) != SUCCESS) {
+            throw new InvalidCouponInfoException();
+        }
+    }
+
+    /**
+     * 적재된 쿠폰의 버킷 판매 수만큼 coupon.stock 을 줄이고, 재고가 0 이면 쿠폰을 매진 처리한다. 차감 결과가 버킷의 남은 재고와
+     * 다르면, 추가 발급처럼 DB 에서만 바뀐 재고이므로 커밋된 뒤 그 차이를 버킷에 더한다. 보정이 실패해도 다음 주기에 다시 계산된다.
+     * 여러 인스턴스가 같은 차이를 두 번 보정하지 않도록 한 번에 한 인스턴스만 기록한다.
+     *
+     * @return 재고를 기록한 쿠폰 수
+     */
+    @Transactional
+    public int merge() {
+        Set<Object> members = redisTemplate.opsForSet().members(LOADED_KEY);
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(MERGE_LOCK_KEY, token,
+            Duration.ofMillis(mergeLockMillis)))) {
+            return 0;
+        }
+
+        Map<Long, long[]> solds = new HashMap<>();
+        try {
+            Map<Long, Integer> stocks = new HashMap<>();
+            int merged = 0;
+            for (Object member : members) {
+                Long couponId = Long.parseLong((String) member);
+                long[] sold = new long[bucketCount];
+                Integer stock = drain(couponId, sold);
+                solds.put(couponId, sold);
+                if (stock != null) {
+                    stocks.put(couponId, stock);
+                }
+
+                long totalSold = sum(sold);
+                if (totalSold != 0) {
+                    merged += couponRepository.subtractStock(couponId,
+                        Math.toIntExact(totalSold));
+                }
+            }
+
+            // 판매 수를 반영한 뒤 다시 읽은 재고를 기준으로 버킷을 보정
+            Map<Long, Integer> corrections = new HashMap<>();
+            for (Coupon coupon : couponRepository.findAllById(solds.keySet())) {
+                Integer stock = stocks.get(coupon.getId());
+                if (stock != null && stock != coupon.getStock()) {
+                    corrections.put(coupon.getId(), coupon.getStock() - stock);
+                }
+                if (coupon.getStock() <= 0 && coupon.getCouponStatus() != CouponStatus.SOLD_OUT) {
+                    soldOut(coupon);
+                }
+            }
+
+            afterCompletion(token, solds, corrections);
+            return merged;
+        } catch (RuntimeException e) {
+            restore(solds);
+            unlock(token);
+            throw e;
+        }
+    }
+
+    private long executeWithLoad(
+        RedisScript<Long> script, Long couponId, int bucket, Object... args
+    ) {
+        Long result = redisTemplate.execute(script, List.of(toKey(couponId, bucket)), args);
+
+        if (result != null && result == NOT_LOADED) {
+            load(couponId);
+            result = redisTemplate.execute(script, List.of(toKey(couponId, bucket)), args);
+        }
+        return (result == null) ? NOT_LOADED : result;
+    }
+
+    /*
+     * coupon.stock 을 버킷 수로 나누어 채운다. 이미 있는 버킷은 덮어쓰지 않는다.
+     * 동시에 적재해 버킷마다 다른 재고로 채워져도 merge 가 DB 재고와의 차이를 보정한다.
+     * */
+    private void load(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+            .orElseThrow(InvalidCouponInfoException::new);
+
+        int stock = coupon.getStock();
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            int quota = stock / bucketCount + ((bucket < stock % bucketCount) ? 1 : 0);
+            redisTemplate.opsForHash().putIfAbsent(toKey(couponId, bucket), STOCK_FIELD,
+                String.valueOf(quota));
+        }
+        redisTemplate.opsForSet().add(LOADED_KEY, String.valueOf(couponId));
+    }
+
+    /*
+     * 버킷마다 판매 수를 꺼내 sold 에 담고 남은 재고 합계를 반환
+     * 적재되지 않은 버킷이 있으면 합계를 구할 수 없으므로 null 반환
+     * */
+    private Integer drain(Long couponId, long[] sold) {
+        boolean complete = true;
+        long total = 0;
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            List<?> result = redisTemplate.execute(DRAIN_SCRIPT,
+                List.of(toKey(couponId, bucket)));
+            if (result == null || result.size() != 2) {
+                complete = false;
+                continue;
+            }
+            total += ((Number) result.get(0)).longValue();
+            sold[bucket] = ((Number) result.get(1)).longValue();
+        }
+        return complete ? Math.toIntExact(total) : null;
+    }
+
+    private void afterCompletion(
+        String token, Map<Long, long[]> solds, Map<Long, Integer> corrections
+    ) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            corrections.forEach(this::adjust);
+            unlock(token);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        corrections.forEach(CouponStockBuckets.this::adjust);
+                    } else {
+                        restore(solds);
+                    }
+                    unlock(token);
+                }
+            });
+    }
+
+    /*
+     * 차이만큼 버킷 재고를 더하거나 뺀다.
+     * 빼는 경우 버킷 재고가 0 보다 작아지지 않도록 여러 버킷에서 나누어 뺀다.
+     * */
+    private void adjust(Long couponId, int delta) {
+        try {
+            int start = ThreadLocalRandom.current().nextInt(bucketCount);
+            long remaining = delta;
+            for (int i = 0; i < bucketCount && remaining != 0; i++) {
+                Long adjusted = redisTemplate.execute(ADJUST_SCRIPT,
+                    List.of(toKey(couponId, (start + i) % bucketCount)),
+                    String.valueOf(remaining));
+                remaining -= (adjusted == null) ? 0 : adjusted;
+            }
+        } catch (RuntimeException e) {
+            // 보정하지 못한 차이는 다음 주기에 다시 계산됨
+            log.warn("쿠폰 재고 버킷 보정 실패. couponId={}, delta={}", couponId, delta, e);
+        }
+    }
+
+    // 기록하지 못한 판매 수를 버킷에 되돌려 다음 주기에 다시 기록되도록 한다.
+    private void restore(Map<Long, long[]> solds) {
+        solds.forEach((couponId, sold) -> {
+            for (int bucket = 0; bucket < sold.length; bucket++) {
+                if (sold[bucket] == 0) {
+                    continue;
+                }
+                try {
+                    redisTemplate.execute(RESTORE_SCRIPT, List.of(toKey(couponId, bucket)),
+                        String.valueOf(sold[bucket]));
+                } catch (RuntimeException e) {
+                    log.error("쿠폰 재고 버킷 판매 수 복구 실패. couponId={}, bucket={}, sold={}",
+                        couponId, bucket, sold[bucket], e);
+                }
+            }
+        });
+    }
+
+    private void unlock(String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(MERGE_LOCK_KEY), token);
+        } catch (RuntimeException e) {
+            // 해제하지 못한 락은 만료 시간이 지나면 풀림
+            log.warn("쿠폰 재고 기록 락 해제 실패.", e);
+        }
+    }
+
+    private long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    private void soldOut(Coupon coupon) {
+        if (couponRepository.updateStatusIfEmpty(coupon.getId(), CouponStatus.SOLD_OUT) == 1) {
+            publishSoldOut(coupon);
+        }
+    }
+
+    // 매진된 쿠폰은 객실 쿠폰 목록과 숙소 목록의 쿠폰 정보에서 빠지므로 캐시 무효화와 요약 정보 갱신을 요청
+    private void publishSoldOut(Coupon coupon) {
+        eventPublisher.publishEvent(RoomCouponEvent.of(coupon.getRoom().getId()));
+        eventPublisher.publishEvent(
+            AccommodationSummaryEvent.of(coupon.getRoom().getAccommodation().getId()));
+    }
+
+    private String toKey(Long couponId, int bucket) {
+        return String.format(BUCKET_KEY_FORMAT, couponId, bucket);
+    }
+}
@@ -5,6 +5,7 @@ import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationImage
 import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationOption;
 import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationOwnership;
 import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.accommodation.event.AccommodationSummaryEvent;
 import com.backoffice.upjuyanolja.domain.accommodation.exception.WrongCategoryException;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationImageRepository;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationOptionRepository;
@@ -41,6 +42,7 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -76,6 +78,7 @@ public class OpenApiService {
     private final RoomPriceRepository roomPriceRepository;
     private final RoomImageRepository roomImageRepository;
     private final RoomStockRepository roomStockRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final RestTemplate restTemplate = new RestTemplate();
 
@@ -120,6 +123,9 @@ public class OpenApiService {
                     saveAccommodationOption(accommodation, introItem);
                     saveAccommodationImages(accommodation, images);
                     saveRooms(accommodation, introItem, rooms);
+                    // 커밋된 뒤 요약 정보를 만들어 숙소 목록에 노출
+                    eventPublisher.publishEvent(
+                        AccommodationSummaryEvent.of(accommodation.getId()));
                 } catch (InvalidDataException | WrongCategoryException e) {
                     log.info("[OpenAPI] {}", e.getMessage());
                 }
@@ -8,6 +8,7 @@ import com.backoffice.upjuyanolja.domain.point.dto.response.PointTotalBalanceRes
 import com.backoffice.upjuyanolja.domain.point.dto.response.PointTotalPageResponse;
 import com.backoffice.upjuyanolja.domain.point.dto.response.PointUsagePageResponse;
 import com.backoffice.upjuyanolja.domain.point.service.PointService;
+import com.backoffice.upjuyanolja.global.idempotency.annotation.Idempotent;
 import com.backoffice.upjuyanolja.global.security.SecurityUtil;
 import jakarta.validation.Valid;
 import java.time.YearMonth;
@@ -115,6 +116,7 @@ public class PointController {
     }
 
     @PostMapping("/charges")
+    @Idempotent(name = "point-charge")
     public ResponseEntity<PointChargeResponse> chargePoint(
         @Valid @RequestBody PointChargeRequest request
     ) {
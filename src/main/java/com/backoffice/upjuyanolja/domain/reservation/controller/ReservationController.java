@@ -3,16 +3,24 @@ package com.backoffice.upjuyanolja.domain.reservation.controller;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.member.service.MemberGetService;
 import com.backoffice.upjuyanolja.domain.reservation.dto.request.CreateReservationRequest;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetReservationCursorResponse;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetReservationResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationAdmissionResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHoldResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationQuoteResponse;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
 import com.backoffice.upjuyanolja.domain.reservation.service.ReservationService;
+import com.backoffice.upjuyanolja.global.idempotency.annotation.Idempotent;
 import com.backoffice.upjuyanolja.global.security.SecurityUtil;
 import com.backoffice.upjuyanolja.global.validator.ValidId;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -34,6 +42,7 @@ public class ReservationController {
     private final ReservationService reservationService;
 
     @PostMapping()
+    @Idempotent(name = "reservation")
     public ResponseEntity<Object> create(
         @Valid @RequestBody CreateReservationRequest request
     ) {
@@ -43,6 +52,73 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(null);
     }
 
+    @PostMapping("/holds")
+    @Idempotent(name = "reservation-hold")
+    public ResponseEntity<ReservationHoldResponse> hold(
+        @Valid @RequestBody CreateReservationRequest request
+    ) {
+        Member currentMember = getCurrentMember();
+        ReservationHoldResponse response = reservationService.hold(currentMember, request);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    @Idempotent(name = "reservation-hold-confirm")
+    public ResponseEntity<Object> confirm(
+        @ValidId @PathVariable(name = "holdId") Long holdId
+    ) {
+        Member currentMember = getCurrentMember();
+        reservationService.confirm(currentMember, holdId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(null);
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<Object> cancelHold(
+        @ValidId @PathVariable(name = "holdId") Long holdId
+    ) {
+        Member currentMember = getCurrentMember();
+        reservationService.cancelHold(currentMember, holdId);
+
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).body(null);
+    }
+
+    @GetMapping("/quote")
+    public ResponseEntity<ReservationQuoteResponse> quote(
+        @ValidId @RequestParam(name = "roomId") Long roomId,
+        @RequestParam(name = "startDate") @DateTimeFormat(iso = ISO.DATE) LocalDate startDate,
+        @RequestParam(name = "endDate") @DateTimeFormat(iso = ISO.DATE) LocalDate endDate,
+        @RequestParam(name = "couponId", required = false) Long couponId
+    ) {
+        ReservationQuoteResponse response = reservationService.quote(roomId, startDate, endDate,
+            couponId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PostMapping("/queue")
+    public ResponseEntity<ReservationAdmissionResponse> enterQueue(
+        @ValidId @RequestParam(name = "roomId") Long roomId
+    ) {
+        Member currentMember = getCurrentMember();
+        ReservationAdmissionResponse response = reservationService.enterQueue(currentMember,
+            roomId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @GetMapping("/queue")
+    public ResponseEntity<ReservationAdmissionResponse> getQueueStatus(
+        @ValidId @RequestParam(name = "roomId") Long roomId
+    ) {
+        Member currentMember = getCurrentMember();
+        ReservationAdmissionResponse response = reservationService.getQueueStatus(
+            currentMember, roomId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @DeleteMapping("/{reservationId}")
     public ResponseEntity<Object> cancel(
         @ValidId @PathVariable(name = "reservationId") Long reservationId
@@ -73,6 +149,19 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<GetReservationCursorResponse> getReservationsByCursor(
+        @RequestParam(name = "status", defaultValue = "RESERVED") ReservationStatus status,
+        @RequestParam(name = "cursor", required = false) String cursor,
+        @RequestParam(name = "size", defaultValue = "3") int size
+    ) {
+        Member currentMember = getCurrentMember();
+        GetReservationCursorResponse response = reservationService.getReservationsByCursor(
+            currentMember, status, cursor, size);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     private Member getCurrentMember() {
         Long memberId = securityUtil.getCurrentMemberId();
         return memberGetService.getMemberById(memberId);
@@ -0,0 +1,36 @@
+package com.backoffice.upjuyanolja.domain.reservation.dto.request;
+
+import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidReservationCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 예약 내역 커서. 마지막으로 조회한 예약의 (생성 일시, 식별자)
+ */
+public record ReservationCursor(
+    LocalDateTime createdAt,
+    Long id
+) {
+
+    private static final String DELIMITER = "_";
+
+    public static ReservationCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            return new ReservationCursor(LocalDateTime.parse(values[0]),
+                Long.parseLong(values[1]));
+        } catch (IllegalArgumentException | DateTimeParseException
+                 | ArrayIndexOutOfBoundsException e) {
+            throw new InvalidReservationCursorException();
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((createdAt + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
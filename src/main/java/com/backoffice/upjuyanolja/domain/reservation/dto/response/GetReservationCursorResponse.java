@@ -0,0 +1,37 @@
+package com.backoffice.upjuyanolja.domain.reservation.dto.response;
+
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.ReservationCursor;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class GetReservationCursorResponse {
+
+    private final Integer pageSize;
+    private final Boolean hasNext;
+    private final String nextCursor;
+
+    private final List<GetReservationResponse.ReservationDTO> reservations;
+
+    /**
+     * @param histories : pageSize + 1 건까지 조회한 예약 내역. 초과분이 있으면 다음 페이지가 있다.
+     * @param pageSize  : 페이지 크기
+     */
+    public GetReservationCursorResponse(List<ReservationHistoryQueryDto> histories,
+        int pageSize) {
+        this.pageSize = pageSize;
+        this.hasNext = histories.size() > pageSize;
+
+        List<ReservationHistoryQueryDto> content = hasNext
+            ? histories.subList(0, pageSize) : histories;
+        if (hasNext) {
+            ReservationHistoryQueryDto last = content.get(content.size() - 1);
+            this.nextCursor = new ReservationCursor(last.createdAt(), last.id()).encode();
+        } else {
+            this.nextCursor = null;
+        }
+        this.reservations = content.stream()
+            .map(GetReservationResponse.ReservationDTO::new)
+            .toList();
+    }
+}
@@ -1,16 +1,11 @@
 package com.backoffice.upjuyanolja.domain.reservation.dto.response;
 
-import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
-import com.backoffice.upjuyanolja.domain.payment.entity.Payment;
-import com.backoffice.upjuyanolja.domain.reservation.entity.Reservation;
-import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationRoom;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
+import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationRoomException;
-import com.backoffice.upjuyanolja.domain.room.entity.Room;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -27,7 +22,7 @@ public class GetReservationResponse {
 
     private final List<GetReservationResponse.ReservationDTO> reservations;
 
-    public GetReservationResponse(Page<Reservation> reservations, List<Payment> payments) {
+    public GetReservationResponse(Page<ReservationHistoryQueryDto> reservations) {
         if (reservations == null) {
             this.pageNum = null;
             this.pageSize = null;
@@ -42,18 +37,14 @@ public class GetReservationResponse {
             this.totalPages = reservations.getTotalPages();
             this.totalElements = reservations.getTotalElements();
             this.isLast = reservations.isLast();
-
-            List<GetReservationResponse.ReservationDTO> reservationDTOList = new ArrayList<>();
-            for (int i = 0; i < reservations.getContent().size(); i++) {
-                reservationDTOList.add(
-                    new ReservationDTO(reservations.getContent().get(i), payments.get(i)));
-            }
-            this.reservations = reservationDTOList;
+            this.reservations = reservations.getContent().stream()
+                .map(ReservationDTO::new)
+                .toList();
         }
     }
 
     @Getter
-    public class ReservationDTO {
+    public static class ReservationDTO {
 
         private final Long id;
         private final LocalDate date;
@@ -72,35 +63,34 @@ public class GetReservationResponse {
         private final LocalDate endDate;
         private final ReservationStatus status;
 
-        public ReservationDTO(Reservation reservation, Payment payment) {
-            LocalDateTime createdAt = reservation.getCreatedAt();
-
-            this.id = reservation.getId();
-            this.date = createdAt == null ? null : createdAt.toLocalDate();
-            this.isCouponUsed = reservation.getIsCouponUsed();
-            this.roomPrice = payment.getRoomPrice();
-            this.totalAmount = payment.getTotalAmount();
-            this.status = reservation.getStatus();
-
-            try {
-                ReservationRoom reservationRoom = reservation.getReservationRoom();
-                Room room = reservationRoom.getRoom();
-                Accommodation accommodation = room.getAccommodation();
-
-                this.accommodationId = accommodation.getId();
-                this.accommodationName = accommodation.getName();
-                this.roomId = room.getId();
-                this.roomName = room.getName();
-                this.checkInTime = room.getCheckInTime();
-                this.checkOutTime = room.getCheckOutTime();
-                this.defaultCapacity = room.getDefaultCapacity();
-                this.maxCapacity = room.getMaxCapacity();
-                this.startDate = reservationRoom.getStartDate();
-                this.endDate = reservationRoom.getEndDate();
-
-            } catch (NullPointerException e) {
+        public ReservationDTO(ReservationHistoryQueryDto history) {
+            // 결제 정보가 없는 예약
+            if (history.roomPrice() == null || history.totalAmount() == null) {
+                throw new NoSuchReservationException();
+            }
+            // 예약 객실, 객실, 숙소 정보가 없는 예약
+            if (history.roomId() == null || history.accommodationId() == null
+                || history.startDate() == null || history.endDate() == null) {
                 throw new NoSuchReservationRoomException();
             }
+            LocalDateTime createdAt = history.createdAt();
+
+            this.id = history.id();
+            this.date = createdAt == null ? null : createdAt.toLocalDate();
+            this.isCouponUsed = history.isCouponUsed();
+            this.roomPrice = history.roomPrice();
+            this.totalAmount = history.totalAmount();
+            this.status = history.status();
+            this.accommodationId = history.accommodationId();
+            this.accommodationName = history.accommodationName();
+            this.roomId = history.roomId();
+            this.roomName = history.roomName();
+            this.checkInTime = history.checkInTime();
+            this.checkOutTime = history.checkOutTime();
+            this.defaultCapacity = history.defaultCapacity();
+            this.maxCapacity = history.maxCapacity();
+            this.startDate = history.startDate();
+            this.endDate = history.endDate();
         }
     }
 }
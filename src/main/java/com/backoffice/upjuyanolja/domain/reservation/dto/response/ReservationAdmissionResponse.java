@@ -0,0 +1,24 @@
+package com.backoffice.upjuyanolja.domain.reservation.dto.response;
+
+import lombok.Builder;
+
+/**
+ * 예약 대기열 상태
+ *
+ * @param roomId               : 객실 식별자
+ * @param status               : 대기 상태
+ * @param position             : 대기 순번 (1부터 시작, 대기 중이 아니면 null)
+ * @param estimatedWaitSeconds : 예상 대기 시간(초)
+ */
+@Builder
+public record ReservationAdmissionResponse(
+    Long roomId,
+    AdmissionStatus status,
+    Long position,
+    Long estimatedWaitSeconds
+) {
+
+    public enum AdmissionStatus {
+        WAITING, ADMITTED, NOT_IN_QUEUE
+    }
+}
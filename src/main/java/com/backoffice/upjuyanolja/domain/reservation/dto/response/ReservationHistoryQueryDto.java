@@ -0,0 +1,29 @@
+package com.backoffice.upjuyanolja.domain.reservation.dto.response;
+
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import lombok.Builder;
+
+@Builder
+public record ReservationHistoryQueryDto(
+    Long id,
+    LocalDateTime createdAt,
+    Boolean isCouponUsed,
+    ReservationStatus status,
+    Integer roomPrice,
+    Integer totalAmount,
+    Long accommodationId,
+    String accommodationName,
+    Long roomId,
+    String roomName,
+    LocalTime checkInTime,
+    LocalTime checkOutTime,
+    Integer defaultCapacity,
+    Integer maxCapacity,
+    LocalDate startDate,
+    LocalDate endDate
+) {
+
+}
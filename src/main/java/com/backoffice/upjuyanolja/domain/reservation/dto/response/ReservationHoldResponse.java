@@ -0,0 +1,25 @@
+package com.backoffice.upjuyanolja.domain.reservation.dto.response;
+
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationHold;
+import java.time.LocalDateTime;
+import lombok.Builder;
+
+@Builder
+public record ReservationHoldResponse(
+    Long holdId,
+    Long roomId,
+    int roomPrice,
+    int totalAmount,
+    LocalDateTime expiresAt
+) {
+
+    public static ReservationHoldResponse of(ReservationHold hold) {
+        return ReservationHoldResponse.builder()
+            .holdId(hold.getId())
+            .roomId(hold.getRoomId())
+            .roomPrice(hold.getRoomPrice())
+            .totalAmount(hold.getTotalAmount())
+            .expiresAt(hold.getExpiresAt())
+            .build();
+    }
+}
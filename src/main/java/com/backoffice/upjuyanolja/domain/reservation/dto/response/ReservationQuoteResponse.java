@@ -0,0 +1,16 @@
+package com.backoffice.upjuyanolja.domain.reservation.dto.response;
+
+import java.time.LocalDate;
+import lombok.Builder;
+
+@Builder
+public record ReservationQuoteResponse(
+    Long roomId,
+    Long couponId,
+    LocalDate startDate,
+    LocalDate endDate,
+    int roomPrice,
+    int totalAmount
+) {
+
+}
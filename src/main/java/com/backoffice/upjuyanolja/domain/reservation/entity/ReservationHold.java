@@ -0,0 +1,141 @@
+package com.backoffice.upjuyanolja.domain.reservation.entity;
+
+import com.backoffice.upjuyanolja.domain.payment.entity.PayMethod;
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.CreateReservationRequest;
+import com.backoffice.upjuyanolja.global.common.entity.BaseTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 결제 전 재고 선점
+ * <p>
+ * 재고 차감은 {@link ReservationSaga} 로 기록되고, 선점을 확정하면 저장해 둔 예약 정보로 예약과 결제를 저장한다. 만료 일시까지 확정되지
+ * 않은 선점은 사가 보상으로 재고가 복구된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_reservation_hold_status_expires_at", columnList = "status, expires_at")
+})
+public class ReservationHold extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("재고 선점 식별자")
+    private Long id;
+
+    @Column(nullable = false, name = "member_id")
+    @Comment("회원 식별자")
+    private Long memberId;
+
+    @Column(nullable = false, name = "saga_id")
+    @Comment("예약 사가 식별자")
+    private Long sagaId;
+
+    @Column(nullable = false, name = "room_id")
+    @Comment("객실 식별자")
+    private Long roomId;
+
+    @Column(nullable = false, name = "start_date")
+    @Comment("숙박 시작일")
+    private LocalDate startDate;
+
+    @Column(nullable = false, name = "end_date")
+    @Comment("숙박 종료일")
+    private LocalDate endDate;
+
+    @Column(name = "coupon_id")
+    @Comment("쿠폰 식별자")
+    private Long couponId;
+
+    @Column(nullable = false, name = "visitor_name")
+    @Comment("방문자 이름")
+    private String visitorName;
+
+    @Column(nullable = false, name = "visitor_phone")
+    @Comment("방문자 전화번호")
+    private String visitorPhone;
+
+    @Column(nullable = false, name = "pay_method")
+    @Enumerated(value = EnumType.STRING)
+    @Comment("결제 수단")
+    private PayMethod payMethod;
+
+    @Column(nullable = false, name = "room_price")
+    @Comment("객실 가격")
+    private int roomPrice;
+
+    @Column(nullable = false, name = "total_amount")
+    @Comment("결제 금액")
+    private int totalAmount;
+
+    @Column(nullable = false, name = "status")
+    @Enumerated(value = EnumType.STRING)
+    @Comment("선점 상태")
+    private ReservationHoldStatus status;
+
+    @Column(nullable = false, name = "expires_at")
+    @Comment("선점 만료 일시")
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public ReservationHold(
+        Long id,
+        Long memberId,
+        Long sagaId,
+        Long roomId,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long couponId,
+        String visitorName,
+        String visitorPhone,
+        PayMethod payMethod,
+        int roomPrice,
+        int totalAmount,
+        ReservationHoldStatus status,
+        LocalDateTime expiresAt
+    ) {
+        this.id = id;
+        this.memberId = memberId;
+        this.sagaId = sagaId;
+        this.roomId = roomId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.couponId = couponId;
+        this.visitorName = visitorName;
+        this.visitorPhone = visitorPhone;
+        this.payMethod = payMethod;
+        this.roomPrice = roomPrice;
+        this.totalAmount = totalAmount;
+        this.status = status;
+        this.expiresAt = expiresAt;
+    }
+
+    public CreateReservationRequest toRequest() {
+        return CreateReservationRequest.builder()
+            .roomId(roomId)
+            .visitorName(visitorName)
+            .visitorPhone(visitorPhone)
+            .startDate(startDate)
+            .endDate(endDate)
+            .couponId(couponId)
+            .totalPrice(totalAmount)
+            .payMethod(payMethod)
+            .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.backoffice.upjuyanolja.domain.reservation.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum ReservationHoldStatus {
+    HOLDING("재고 선점 중"),
+    CONFIRMED("예약 확정"),
+    CANCELLED("선점 취소"),
+    EXPIRED("선점 만료");
+
+    private final String label;
+
+    ReservationHoldStatus(String label) {
+        this.label = label;
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,7 +24,8 @@ import org.hibernate.annotations.Comment;
 public class ReservationRoom extends BaseTime {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_room_seq")
+    @SequenceGenerator(name = "reservation_room_seq", allocationSize = 50)
     @Comment("예약 객실 식별자")
     private Long id;
 
@@ -0,0 +1,104 @@
+package com.backoffice.upjuyanolja.domain.reservation.entity;
+
+import com.backoffice.upjuyanolja.global.common.entity.BaseTime;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 예약 사가 아웃박스
+ * <p>
+ * 예약 생성 중 커밋된 재고 차감 단계를 기록한다. 예약 저장이 실패하거나 서버가 중단되어도 이 기록을 기준으로 차감된 만큼만 보상(재고
+ * 복구)한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_reservation_saga_status_next_retry_at",
+        columnList = "status, next_retry_at")
+})
+public class ReservationSaga extends BaseTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("예약 사가 식별자")
+    private Long id;
+
+    @Column(nullable = false, name = "room_id")
+    @Comment("객실 식별자")
+    private Long roomId;
+
+    @Column(nullable = false, name = "start_date")
+    @Comment("숙박 시작일")
+    private LocalDate startDate;
+
+    @Column(nullable = false, name = "end_date")
+    @Comment("숙박 종료일")
+    private LocalDate endDate;
+
+    @Column(name = "coupon_id")
+    @Comment("쿠폰 식별자")
+    private Long couponId;
+
+    @Column(nullable = false, name = "reserved_nights")
+    @Comment("재고가 차감된 숙박 일수 (시작일부터)")
+    private int reservedNights;
+
+    @Column(nullable = false, name = "coupon_reserved")
+    @Comment("쿠폰 재고 차감 여부")
+    private boolean couponReserved;
+
+    @Column(nullable = false, name = "status")
+    @Enumerated(value = EnumType.STRING)
+    @Comment("사가 상태")
+    private ReservationSagaStatus status;
+
+    @Column(name = "expires_at")
+    @Comment("재고 선점 만료 일시 (선점이 아니면 null)")
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, name = "attempts")
+    @Comment("보상 시도 횟수")
+    private int attempts;
+
+    @Column(name = "next_retry_at")
+    @Comment("다음 보상 시도 일시")
+    private LocalDateTime nextRetryAt;
+
+    @Column(name = "last_error", length = 500)
+    @Comment("마지막 보상 실패 사유")
+    private String lastError;
+
+    @Builder
+    public ReservationSaga(
+        Long id,
+        Long roomId,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long couponId,
+        ReservationSagaStatus status,
+        LocalDateTime expiresAt
+    ) {
+        this.id = id;
+        this.roomId = roomId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.couponId = couponId;
+        this.status = status;
+        this.expiresAt = expiresAt;
+    }
+}
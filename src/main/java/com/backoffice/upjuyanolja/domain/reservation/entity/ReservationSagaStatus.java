@@ -0,0 +1,18 @@
+package com.backoffice.upjuyanolja.domain.reservation.entity;
+
+import lombok.Getter;
+
+@Getter
+public enum ReservationSagaStatus {
+    PENDING("재고 차감 후 예약 저장 대기"),
+    COMPLETED("예약 완료"),
+    COMPENSATING("보상 처리 중"),
+    COMPENSATED("보상 완료"),
+    FAILED("보상 실패");
+
+    private final String label;
+
+    ReservationSagaStatus(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,12 @@
+package com.backoffice.upjuyanolja.domain.reservation.exception;
+
+import static com.backoffice.upjuyanolja.global.exception.ErrorCode.INVALID_RESERVATION_CURSOR;
+
+import com.backoffice.upjuyanolja.global.exception.ApplicationException;
+
+public class InvalidReservationCursorException extends ApplicationException {
+
+    public InvalidReservationCursorException() {
+        super(INVALID_RESERVATION_CURSOR);
+    }
+}
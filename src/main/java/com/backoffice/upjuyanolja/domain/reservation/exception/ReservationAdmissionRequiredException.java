@@ -0,0 +1,12 @@
+package com.backoffice.upjuyanolja.domain.reservation.exception;
+
+import static com.backoffice.upjuyanolja.global.exception.ErrorCode.RESERVATION_ADMISSION_REQUIRED;
+
+import com.backoffice.upjuyanolja.global.exception.ApplicationException;
+
+public class ReservationAdmissionRequiredException extends ApplicationException {
+
+    public ReservationAdmissionRequiredException() {
+        super(RESERVATION_ADMISSION_REQUIRED);
+    }
+}
@@ -0,0 +1,12 @@
+package com.backoffice.upjuyanolja.domain.reservation.exception;
+
+import static com.backoffice.upjuyanolja.global.exception.ErrorCode.RESERVATION_HOLD_EXPIRED;
+
+import com.backoffice.upjuyanolja.global.exception.ApplicationException;
+
+public class ReservationHoldExpiredException extends ApplicationException {
+
+    public ReservationHoldExpiredException() {
+        super(RESERVATION_HOLD_EXPIRED);
+    }
+}
@@ -0,0 +1,21 @@
+package com.backoffice.upjuyanolja.domain.reservation.repository;
+
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.ReservationCursor;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHistoryQueryDto;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ReservationCustomRepository {
+
+    Page<ReservationHistoryQueryDto> findHistories(
+        Long memberId, Collection<ReservationStatus> statuses, Pageable pageable
+    );
+
+    List<ReservationHistoryQueryDto> findHistoriesByCursor(
+        Long memberId, Collection<ReservationStatus> statuses, ReservationCursor cursor,
+        int limit
+    );
+}
@@ -0,0 +1,120 @@
+package com.backoffice.upjuyanolja.domain.reservation.repository;
+
+import static com.backoffice.upjuyanolja.domain.accommodation.entity.QAccommodation.accommodation;
+import static com.backoffice.upjuyanolja.domain.payment.entity.QPayment.payment;
+import static com.backoffice.upjuyanolja.domain.reservation.entity.QReservation.reservation;
+import static com.backoffice.upjuyanolja.domain.reservation.entity.QReservationRoom.reservationRoom;
+import static com.backoffice.upjuyanolja.domain.room.entity.QRoom.room;
+
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.ReservationCursor;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHistoryQueryDto;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
+import com.backoffice.upjuyanolja.global.util.QueryDslUtil;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ReservationCustomRepositoryImpl implements ReservationCustomRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 예약, 결제, 예약 객실, 객실, 숙소를 한 번의 조인으로 조회해 페이지로 반환한다.
+     *
+     * @param memberId : 회원 식별자
+     * @param statuses : 조회할 예약 상태
+     * @param pageable : 페이지 정보. 정렬 조건은 예약 필드 기준
+     * @return 예약 내역 페이지
+     */
+    @Override
+    public Page<ReservationHistoryQueryDto> findHistories(
+        Long memberId, Collection<ReservationStatus> statuses, Pageable pageable
+    ) {
+        List<ReservationHistoryQueryDto> content = selectHistories()
+            .where(reservation.member.id.eq(memberId), reservation.status.in(statuses))
+            .orderBy(getOrderSpecifiers(pageable.getSort()))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+            .select(reservation.count())
+            .from(reservation)
+            .where(reservation.member.id.eq(memberId), reservation.status.in(statuses));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * (생성 일시, 식별자) 내림차순으로 커서 다음의 예약 내역을 조회한다. OFFSET 없이 인덱스 범위 조건으로 이어서 읽는다.
+     *
+     * @param memberId : 회원 식별자
+     * @param statuses : 조회할 예약 상태
+     * @param cursor   : 마지막으로 조회한 예약 (첫 페이지는 null)
+     * @param limit    : 최대 조회 건수
+     * @return 예약 내역
+     */
+    @Override
+    public List<ReservationHistoryQueryDto> findHistoriesByCursor(
+        Long memberId, Collection<ReservationStatus> statuses, ReservationCursor cursor,
+        int limit
+    ) {
+        return selectHistories()
+            .where(reservation.member.id.eq(memberId), reservation.status.in(statuses),
+                afterCursor(cursor))
+            .orderBy(reservation.createdAt.desc(), reservation.id.desc())
+            .limit(limit)
+            .fetch();
+    }
+
+    // 예약 객실, 결제 정보가 없는 예약도 조회해 서비스에서 예외로 처리
+    private JPAQuery<ReservationHistoryQueryDto> selectHistories() {
+        return queryFactory
+            .select(Projections.constructor(ReservationHistoryQueryDto.class,
+                reservation.id, reservation.createdAt, reservation.isCouponUsed,
+                reservation.status, payment.roomPrice, payment.totalAmount,
+                accommodation.id, accommodation.name, room.id, room.name,
+                room.checkInTime, room.checkOutTime, room.defaultCapacity, room.maxCapacity,
+                reservationRoom.startDate, reservationRoom.endDate
+            ))
+            .from(reservation)
+            .leftJoin(reservation.reservationRoom, reservationRoom)
+            .leftJoin(reservationRoom.room, room)
+            .leftJoin(room.accommodation, accommodation)
+            .leftJoin(payment).on(payment.reservation.eq(reservation));
+    }
+
+    private BooleanExpression afterCursor(ReservationCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return reservation.createdAt.lt(cursor.createdAt())
+            .or(reservation.createdAt.eq(cursor.createdAt())
+                .and(reservation.id.lt(cursor.id())));
+    }
+
+    private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            orders.add(QueryDslUtil.getSortedColumn(
+                order.isAscending() ? Order.ASC : Order.DESC, reservation, order.getProperty()));
+        }
+        // 같은 정렬 값 사이의 순서를 고정
+        orders.add(reservation.id.desc());
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+}
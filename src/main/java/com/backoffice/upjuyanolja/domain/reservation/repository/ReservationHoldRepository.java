@@ -0,0 +1,49 @@
+package com.backoffice.upjuyanolja.domain.reservation.repository;
+
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationHold;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationHoldStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReservationHoldRepository extends JpaRepository<ReservationHold, Long> {
+
+    Optional<ReservationHold> findByIdAndMemberId(Long id, Long memberId);
+
+    @Query("select h from ReservationHold h where h.status = :status "
+        + "and h.expiresAt < :now order by h.expiresAt")
+    List<ReservationHold> findAllByStatusAndExpiresAtBefore(
+        @Param("status") ReservationHoldStatus status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    /*
+     * 확정은 만료 전 선점 중인 경우에만 성공
+     * 확정과 만료 처리가 경합하면 행 락을 먼저 잡은 쪽만 성공한다.
+     * */
+    @Modifying
+    @Query("update ReservationHold h set h.status = :to "
+        + "where h.id = :id and h.status = :from and h.expiresAt > :now")
+    int updateStatusBeforeExpiry(
+        @Param("id") Long id,
+        @Param("from") ReservationHoldStatus from,
+        @Param("to") ReservationHoldStatus to,
+        @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query("update ReservationHold h set h.status = :to "
+        + "where h.id in :ids and h.status = :from and h.expiresAt < :now")
+    int updateStatusAfterExpiry(
+        @Param("ids") List<Long> ids,
+        @Param("from") ReservationHoldStatus from,
+        @Param("to") ReservationHoldStatus to,
+        @Param("now") LocalDateTime now
+    );
+}
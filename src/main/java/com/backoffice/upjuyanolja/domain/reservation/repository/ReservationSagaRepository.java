@@ -0,0 +1,79 @@
+package com.backoffice.upjuyanolja.domain.reservation.repository;
+
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationSaga;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationSagaStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReservationSagaRepository extends JpaRepository<ReservationSaga, Long> {
+
+    long countByStatusIn(Collection<ReservationSagaStatus> statuses);
+
+    // 선점 사가는 만료 일시, 그 외 사가는 생성 일시 기준으로 완료되지 못한 사가를 조회
+    @Query("select s.id from ReservationSaga s where s.status = :status "
+        + "and (s.expiresAt < :now or (s.expiresAt is null and s.createdAt < :createdBefore)) "
+        + "order by s.id")
+    List<Long> findIdsByStatusAndExpired(
+        @Param("status") ReservationSagaStatus status,
+        @Param("now") LocalDateTime now,
+        @Param("createdBefore") LocalDateTime createdBefore,
+        Pageable pageable
+    );
+
+    @Query("select s.id from ReservationSaga s where s.status = :status "
+        + "and s.nextRetryAt <= :now order by s.nextRetryAt")
+    List<Long> findIdsByStatusAndNextRetryAtBefore(
+        @Param("status") ReservationSagaStatus status,
+        @Param("now") LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Modifying
+    @Query("update ReservationSaga s set s.reservedNights = :reservedNights where s.id = :id")
+    int updateReservedNights(@Param("id") Long id, @Param("reservedNights") int reservedNights);
+
+    @Modifying
+    @Query("update ReservationSaga s set s.couponReserved = :couponReserved where s.id = :id")
+    int updateCouponReserved(@Param("id") Long id, @Param("couponReserved") boolean reserved);
+
+    /*
+     * 상태 전이는 현재 상태를 조건으로 한 UPDATE 로 처리
+     * 예약 커밋과 보상 시작이 경합하면 행 락을 먼저 잡은 쪽만 성공한다.
+     * */
+    @Modifying
+    @Query("update ReservationSaga s set s.status = :to, s.nextRetryAt = :nextRetryAt "
+        + "where s.id = :id and s.status = :from")
+    int updateStatus(
+        @Param("id") Long id,
+        @Param("from") ReservationSagaStatus from,
+        @Param("to") ReservationSagaStatus to,
+        @Param("nextRetryAt") LocalDateTime nextRetryAt
+    );
+
+    // 보상 작업 점유. nextRetryAt 을 임대 만료 시각으로 미뤄 다른 워커가 중복 처리하지 않도록 한다.
+    @Modifying
+    @Query("update ReservationSaga s set s.nextRetryAt = :leaseUntil "
+        + "where s.id = :id and s.status = :status and s.nextRetryAt <= :now")
+    int claim(
+        @Param("id") Long id,
+        @Param("status") ReservationSagaStatus status,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    @Modifying
+    @Query("update ReservationSaga s set s.status = :status, s.attempts = s.attempts + 1, "
+        + "s.nextRetryAt = :nextRetryAt, s.lastError = :lastError where s.id = :id")
+    int updateFailure(
+        @Param("id") Long id,
+        @Param("status") ReservationSagaStatus status,
+        @Param("nextRetryAt") LocalDateTime nextRetryAt,
+        @Param("lastError") String lastError
+    );
+}
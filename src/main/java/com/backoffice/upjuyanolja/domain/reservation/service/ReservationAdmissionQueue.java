@@ -0,0 +1,308 @@
+package com.backoffice.upjuyanolja.domain.reservation.service;
+
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationAdmissionResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationAdmissionResponse.AdmissionStatus;
+import com.backoffice.upjuyanolja.domain.reservation.exception.ReservationAdmissionRequiredException;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 객실 별 예약 대기열
+ * <p>
+ * 인기 객실의 예약 요청이 재고 락에 한꺼번에 몰리지 않도록, 회원을 객실 별 Redis sorted set 에 도착 순서대로 세우고
+ * {@link #admit()} 주기마다 정해진 수만큼만 입장시킨다. 입장한 회원만 일정 시간 안에 예약을 요청할 수 있다. 모든 서버가 같은
+ * 주기로 {@link #admit()} 을 호출하므로, 객실 별 마지막 입장 시각을 Redis 서버 시간으로 남기고 그 뒤로 지난 시간만큼만 입장시켜
+ * 서버 수와 관계없이 객실마다 초당 입장 수를 지킨다. 입장 만료 시각도 Redis 서버 시간으로 기록하고 비교해, 서버 간 시계가
+ * 어긋나도 입장 시간이 늘거나 줄지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationAdmissionQueue {
+
+    // {roomId} 해시 태그로 같은 객실의 키가 같은 슬롯에 위치하도록 한다.
+    private static final String WAITING_KEY_FORMAT = "admission:room:{%d}:waiting";
+    private static final String ADMITTED_KEY_FORMAT = "admission:room:{%d}:admitted";
+    private static final String SEQUENCE_KEY_FORMAT = "admission:room:{%d}:sequence";
+    private static final String LAST_ADMIT_KEY_FORMAT = "admission:room:{%d}:last-admit";
+    private static final String ROOMS_KEY = "admission:rooms";
+
+    private static final long ADMITTED = 0L;
+
+    /*
+     * KEYS[1] = 입장 zset
+     * ARGV[1] = 회원 식별자
+     * 입장 만료 시각이 Redis 서버 시간보다 뒤이면 1, 아니면 0 반환
+     * */
+    private static final RedisScript<Long> IS_ADMITTED_SCRIPT = new DefaultRedisScript<>("""
+        local admittedUntil = redis.call('ZSCORE', KEYS[1], ARGV[1])
+        if not admittedUntil then
+            return 0
+        end
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        if tonumber(admittedUntil) > now then
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 대기 zset, KEYS[2] = 입장 zset, KEYS[3] = 순번 카운터
+     * ARGV[1] = 회원 식별자
+     * 입장한 회원이면 0, 아니면 대기열에 없을 때만 줄을 세우고 대기 순번을 반환
+     * */
+    private static final RedisScript<Long> ENTER_SCRIPT = new DefaultRedisScript<>("""
+        local admittedUntil = redis.call('ZSCORE', KEYS[2], ARGV[1])
+        if admittedUntil then
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            if tonumber(admittedUntil) > now then
+                return 0
+            end
+        end
+        if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+            redis.call('ZADD', KEYS[1], redis.call('INCR', KEYS[3]), ARGV[1])
+        end
+        return redis.call('ZRANK', KEYS[1], ARGV[1]) + 1
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 대기 zset, KEYS[2] = 입장 zset, KEYS[3] = 순번 카운터, KEYS[4] = 마지막 입장 시각
+     * ARGV[1] = 입장 시간(ms), ARGV[2] = 주기 당 입장 수, ARGV[3] = 최대 입장 인원, ARGV[4] = 초당 입장 수
+     * 만료된 입장을 정리한 뒤 마지막 입장 이후 지난 시간만큼(주기 당 입장 수 이하) 남은 자리 안에서 대기열 앞부터 입장시키고,
+     * 대기와 입장이 모두 비면 -1 반환
+     * 여러 서버가 같은 객실을 입장시켜도 Redis 서버 시간 기준이라 초당 입장 수를 넘지 않음
+     * */
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+        local quota = tonumber(ARGV[2])
+        local last = redis.call('GET', KEYS[4])
+        if last then
+            quota = math.min(quota,
+                math.floor((now - tonumber(last)) * tonumber(ARGV[4]) / 1000))
+        end
+        local count = math.min(quota, tonumber(ARGV[3]) - redis.call('ZCARD', KEYS[2]))
+        local admitted = 0
+        if count > 0 then
+            local members = redis.call('ZRANGE', KEYS[1], 0, count - 1)
+            for i = 1, #members do
+                redis.call('ZADD', KEYS[2], now + tonumber(ARGV[1]), members[i])
+                redis.call('ZREM', KEYS[1], members[i])
+            end
+            admitted = #members
+        end
+        if admitted > 0 then
+            redis.call('SET', KEYS[4], now, 'PX', 60000)
+        end
+        if redis.call('ZCARD', KEYS[1]) == 0 and redis.call('ZCARD', KEYS[2]) == 0 then
+            redis.call('DEL', KEYS[3], KEYS[4])
+            return -1
+        end
+        return admitted
+        """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${reservation.admission.enabled:false}")
+    private boolean enabled;
+
+    // 객실 별 초당 입장 수. 서버 수와 관계없이 전체 서버를 합친 값이다.
+    @Value("${reservation.admission.admit-per-second:50}")
+    private int admitPerSecond;
+
+    @Value("${reservation.admission.max-active:200}")
+    private int maxActive;
+
+    @Value("${reservation.admission.admitted-ttl-seconds:60}")
+    private long admittedTtlSeconds;
+
+    @Value("${reservation.admission.admit-interval-ms:1000}")
+    private long admitIntervalMillis;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 객실 대기열에 회원을 세운다. 이미 대기 중이면 순번을 유지한다.
+     *
+     * @param roomId   : 객실 식별자
+     * @param memberId : 회원 식별자
+     * @return 대기열 상태
+     */
+    public ReservationAdmissionResponse enter(Long roomId, Long memberId) {
+        if (!enabled) {
+            return toResponse(roomId, ADMITTED);
+        }
+
+        Long position = redisTemplate.execute(ENTER_SCRIPT,
+            List.of(waitingKey(roomId), admittedKey(roomId), sequenceKey(roomId)),
+            String.valueOf(memberId));
+        // 줄을 세운 뒤 등록해야 비어 있는 대기열로 판단되어 목록에서 빠지지 않음
+        registerRoom(roomId);
+
+        return toResponse(roomId, position);
+    }
+
+    /**
+     * 객실 대기열에서 회원의 상태를 조회한다.
+     *
+     * @param roomId   : 객실 식별자
+     * @param memberId : 회원 식별자
+     * @return 대기열 상태
+     */
+    public ReservationAdmissionResponse getStatus(Long roomId, Long memberId) {
+        if (!enabled || isAdmitted(roomId, memberId)) {
+            return toResponse(roomId, ADMITTED);
+        }
+
+        Long rank = redisTemplate.opsForZSet()
+            .rank(waitingKey(roomId), String.valueOf(memberId));
+        if (rank == null) {
+            return toResponse(roomId, null);
+        }
+        // 정리 주기와 겹쳐 목록에서 빠진 객실도 대기자가 조회하면 다시 등록
+        registerRoom(roomId);
+        return toResponse(roomId, rank + 1);
+    }
+
+    /**
+     * 예약 요청 전 입장 여부를 검증한다.
+     *
+     * @param roomId   : 객실 식별자
+     * @param memberId : 회원 식별자
+     * @throws ReservationAdmissionRequiredException 입장하지 않았거나 입장 시간이 만료된 경우
+     */
+    public void checkAdmitted(Long roomId, Long memberId) {
+        if (enabled && !isAdmitted(roomId, memberId)) {
+            throw new ReservationAdmissionRequiredException();
+        }
+    }
+
+    /**
+     * 예약을 마친 회원을 퇴장시켜 다음 대기자에게 자리를 넘긴다. 트랜잭션 안에서 호출하면 커밋된 뒤에 퇴장시켜, 예약이 롤백되면
+     * 입장 시간 안에 다시 시도할 수 있다.
+     *
+     * @param roomId   : 객실 식별자
+     * @param memberId : 회원 식별자
+     */
+    public void leave(Long roomId, Long memberId) {
+        if (!enabled) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        removeAdmitted(roomId, memberId);
+                    }
+                });
+        } else {
+            removeAdmitted(roomId, memberId);
+        }
+    }
+
+    /**
+     * 대기 중인 모든 객실에서 초당 입장 수에 맞춰 대기자를 입장시킨다. 다른 서버가 먼저 입장시킨 객실은 그 뒤로 지난 시간만큼만
+     * 입장시키며, 최대 입장 인원을 넘지 않는다. 비어 있는 객실은 대기열 목록에서 제거한다.
+     *
+     * @return 입장시킨 인원
+     */
+    public int admit() {
+        Set<Object> roomIds = redisTemplate.opsForSet().members(ROOMS_KEY);
+        if (roomIds == null || roomIds.isEmpty()) {
+            return 0;
+        }
+
+        long admitCount = Math.max(1, admitPerSecond * admitIntervalMillis / 1000);
+        int total = 0;
+        for (Object value : roomIds) {
+            long roomId = Long.parseLong((String) value);
+            Long admitted = redisTemplate.execute(ADMIT_SCRIPT,
+                List.of(waitingKey(roomId), admittedKey(roomId), sequenceKey(roomId),
+                    lastAdmitKey(roomId)),
+                String.valueOf(admittedTtlSeconds * 1000), String.valueOf(admitCount),
+                String.valueOf(maxActive), String.valueOf(admitPerSecond));
+
+            if (admitted == null) {
+                continue;
+            }
+            if (admitted < 0) {
+                redisTemplate.opsForSet().remove(ROOMS_KEY, value);
+            } else {
+                total += admitted.intValue();
+            }
+        }
+        return total;
+    }
+
+    private void registerRoom(Long roomId) {
+        redisTemplate.opsForSet().add(ROOMS_KEY, String.valueOf(roomId));
+    }
+
+    private boolean isAdmitted(Long roomId, Long memberId) {
+        Long admitted = redisTemplate.execute(IS_ADMITTED_SCRIPT,
+            List.of(admittedKey(roomId)), String.valueOf(memberId));
+        return admitted != null && admitted == 1L;
+    }
+
+    private void removeAdmitted(Long roomId, Long memberId) {
+        try {
+            redisTemplate.opsForZSet().remove(admittedKey(roomId), String.valueOf(memberId));
+        } catch (RuntimeException e) {
+            // 퇴장하지 못한 자리는 입장 시간이 만료되면 정리됨
+            log.warn("예약 대기열 퇴장 실패. roomId={}, memberId={}", roomId, memberId, e);
+        }
+    }
+
+    private ReservationAdmissionResponse toResponse(Long roomId, Long position) {
+        if (position == null) {
+            return ReservationAdmissionResponse.builder()
+                .roomId(roomId)
+                .status(AdmissionStatus.NOT_IN_QUEUE)
+                .build();
+        }
+        if (position == ADMITTED) {
+            return ReservationAdmissionResponse.builder()
+                .roomId(roomId)
+                .status(AdmissionStatus.ADMITTED)
+                .build();
+        }
+        return ReservationAdmissionResponse.builder()
+            .roomId(roomId)
+            .status(AdmissionStatus.WAITING)
+            .position(position)
+            .estimatedWaitSeconds((position + admitPerSecond - 1) / admitPerSecond)
+            .build();
+    }
+
+    private String waitingKey(Long roomId) {
+        return String.format(WAITING_KEY_FORMAT, roomId);
+    }
+
+    private String admittedKey(Long roomId) {
+        return String.format(ADMITTED_KEY_FORMAT, roomId);
+    }
+
+    private String sequenceKey(Long roomId) {
+        return String.format(SEQUENCE_KEY_FORMAT, roomId);
+    }
+
+    private String lastAdmitKey(Long roomId) {
+        return String.format(LAST_ADMIT_KEY_FORMAT, roomId);
+    }
+}
@@ -0,0 +1,502 @@
+package com.backoffice.upjuyanolja.domain.reservation.service;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.exception.InsufficientCouponStockException;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponStockBuckets;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationSaga;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationSagaStatus;
+import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidCouponException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidReservationInfoException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationRoomException;
+import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationSagaRepository;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.domain.room.service.usecase.RoomQueryUseCase;
+import com.backoffice.upjuyanolja.global.concurrency.annotation.ConcurrencyStrategy;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예약 생성 사가 실행기
+ * <p>
+ * 객실 재고, 쿠폰 재고 차감 단계마다 차감 결과를 {@link ReservationSaga} 에 기록하고, 예약 저장 트랜잭션이 커밋되지 않으면 기록된
+ * 단계만큼 워커 풀에서 비동기로 보상한다. 보상이 실패하거나 서버가 중단되어 남은 사가는 {@link #recover(int)} 가 재시도한다.
+ */
+@Slf4j
+@Component
+public class ReservationSagaExecutor {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int MAX_BACKOFF_SHIFT = 10;
+
+    private final ReservationSagaRepository sagaRepository;
+    private final RoomRepository roomRepository;
+    private final RoomQueryUseCase roomQueryUseCase;
+    private final ReservationStockService stockService;
+    private final RoomInventoryEngine inventoryEngine;
+    private final CouponStockBuckets couponStockBuckets;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor workers;
+    private final long pendingTimeoutSeconds;
+    private final long leaseSeconds;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    // 재고 차감 동시성 전략 (REDISSON, OPTIMISTIC_VERSION, GUARDED_UPDATE)
+    @Value("${reservation.stock.strategy:REDISSON}")
+    private ConcurrencyStrategy stockStrategy = ConcurrencyStrategy.REDISSON;
+
+    public ReservationSagaExecutor(
+        ReservationSagaRepository sagaRepository,
+        RoomRepository roomRepository,
+        RoomQueryUseCase roomQueryUseCase,
+        ReservationStockService stockService,
+        RoomInventoryEngine inventoryEngine,
+        CouponStockBuckets couponStockBuckets,
+        PlatformTransactionManager transactionManager,
+        @Value("${reservation.saga.worker-pool-size:4}") int workerPoolSize,
+        @Value("${reservation.saga.pending-timeout-seconds:60}") long pendingTimeoutSeconds,
+        @Value("${reservation.saga.lease-seconds:30}") long leaseSeconds,
+        @Value("${reservation.saga.max-attempts:10}") int maxAttempts,
+        @Value("${reservation.saga.retry-backoff-millis:1000}") long retryBackoffMillis
+    ) {
+        this.sagaRepository = sagaRepository;
+        this.roomRepository = roomRepository;
+        this.roomQueryUseCase = roomQueryUseCase;
+        this.stockService = stockService;
+        this.inventoryEngine = inventoryEngine;
+        this.couponStockBuckets = couponStockBuckets;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pendingTimeoutSeconds = pendingTimeoutSeconds;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+
+        // 큐가 가득 차 버려진 보상은 사가 테이블에 남아 있으므로 recover 에서 다시 처리된다.
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(workerPoolSize);
+        this.workers.setMaxPoolSize(workerPoolSize);
+        this.workers.setQueueCapacity(1000);
+        this.workers.setThreadNamePrefix("reservation-saga-");
+        this.workers.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        this.workers.setWaitForTasksToCompleteOnShutdown(true);
+        this.workers.setAwaitTerminationSeconds(10);
+        this.workers.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * 사가를 기록한 뒤 객실 재고와 쿠폰 재고를 차감한다. DB 재고는 차감과 단계 기록을 하나의 새 트랜잭션으로 커밋하고, Redis
+     * 재고는 단계를 먼저 기록한 뒤 차감하므로, 호출한 트랜잭션이 롤백되어도 차감된 재고는 사가 기록을 통해 보상된다.
+     *
+     * @param room       : 예약 객실
+     * @param roomStocks : 날짜 순으로 정렬된 숙박 기간의 객실 재고
+     * @param coupon     : 사용 쿠폰 (미사용 시 null)
+     * @return 사가 식별자. 예약 저장과 같은 트랜잭션에서 {@link #complete(Long)} 를 호출해야 한다.
+     */
+    public Long reserve(Room room, List<RoomStock> roomStocks, Coupon coupon) {
+        return start(room, roomStocks, coupon, null);
+    }
+
+    /**
+     * 결제 전 재고를 선점한다. 선점 사가는 만료 일시까지 완료되지 않으면 {@link #recover(int)} 에서 보상된다.
+     *
+     * @param room       : 예약 객실
+     * @param roomStocks : 날짜 순으로 정렬된 숙박 기간의 객실 재고
+     * @param coupon     : 사용 쿠폰 (미사용 시 null)
+     * @param expiresAt  : 선점 만료 일시
+     * @return 사가 식별자. 선점 확정 시 예약 저장과 같은 트랜잭션에서 {@link #complete(Long)} 를 호출해야 한다.
+     */
+    public Long hold(Room room, List<RoomStock> roomStocks, Coupon coupon,
+        LocalDateTime expiresAt) {
+        return start(room, roomStocks, coupon, expiresAt);
+    }
+
+    /**
+     * 완료되지 않은 사가의 재고를 복구한다. 트랜잭션 안에서 호출하면 커밋된 뒤에 보상을 등록한다. 이미 완료된 사가는 보상되지 않는다.
+     *
+     * @param sagaId : 사가 식별자
+     */
+    public void cancel(Long sagaId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        compensateLater(sagaId);
+                    }
+                });
+            return;
+        }
+        compensateLater(sagaId);
+    }
+
+    private Long start(Room room, List<RoomStock> roomStocks, Coupon coupon,
+        LocalDateTime expiresAt) {
+        Long sagaId = inNewTransaction(() -> sagaRepository.save(ReservationSaga.builder()
+            .roomId(room.getId())
+            .startDate(roomStocks.get(0).getDate())
+            .endDate(roomStocks.get(roomStocks.size() - 1).getDate())
+            .couponId((coupon == null) ? null : coupon.getId())
+            .status(ReservationSagaStatus.PENDING)
+            .expiresAt(expiresAt)
+            .build()).getId());
+
+        // 예약 저장 트랜잭션이 롤백되면 요청 스레드를 막지 않고 보상
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            compensateLater(sagaId);
+                        }
+                    }
+                });
+        }
+
+        try {
+            decreaseStocks(sagaId, room, roomStocks, coupon);
+        } catch (RuntimeException e) {
+            compensateLater(sagaId);
+            throw e;
+        }
+        return sagaId;
+    }
+
+    /**
+     * 예약 저장 트랜잭션 안에서 사가를 완료 처리한다. 보상이 먼저 시작된 사가는 재고가 복구되었으므로 예약을 실패시킨다.
+     *
+     * @param sagaId : 사가 식별자
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(Long sagaId) {
+        int updated = sagaRepository.updateStatus(sagaId, ReservationSagaStatus.PENDING,
+            ReservationSagaStatus.COMPLETED, null);
+
+        if (updated != 1) {
+            throw new InvalidReservationInfoException();
+        }
+    }
+
+    /**
+     * 예약 취소로 객실 재고와 쿠폰 재고를 복구한다.
+     *
+     * @param room       : 예약 객실
+     * @param roomStocks : 숙박 기간의 객실 재고
+     * @param coupon     : 사용 쿠폰 (미사용 시 null)
+     */
+    public void release(Room room, List<RoomStock> roomStocks, Coupon coupon) {
+        if (!inventoryEngine.isEnabled() && stockStrategy == ConcurrencyStrategy.REDISSON) {
+            stockService.increaseStocks(getStockIds(roomStocks), getLockedCouponId(coupon));
+        } else {
+            increaseRoomStocks(room.getId(), roomStocks);
+        }
+
+        if (coupon != null && getLockedCouponId(coupon) == null) {
+            increaseCouponStock(coupon.getId());
+        }
+    }
+
+    /**
+     * 완료되지 못한 사가를 보상 대상으로 전환하고, 재시도 시각이 지난 보상을 워커 풀에 다시 등록한다. 서버 재시작 후 첫 실행에서 중단된
+     * 보상이 재개된다.
+     *
+     * @param batchSize : 한 번에 처리할 최대 사가 수
+     * @return 보상을 등록한 사가 수
+     */
+    public int recover(int batchSize) {
+        LocalDateTime now = now();
+        List<Long> abandoned = sagaRepository.findIdsByStatusAndExpired(
+            ReservationSagaStatus.PENDING, now, now.minusSeconds(pendingTimeoutSeconds),
+            PageRequest.of(0, batchSize));
+        List<Long> retryable = sagaRepository.findIdsByStatusAndNextRetryAtBefore(
+            ReservationSagaStatus.COMPENSATING, now, PageRequest.of(0, batchSize));
+
+        abandoned.forEach(this::compensateLater);
+        retryable.forEach(this::compensateLater);
+        return abandoned.size() + retryable.size();
+    }
+
+    private void compensateLater(Long sagaId) {
+        try {
+            workers.execute(() -> compensate(sagaId));
+        } catch (TaskRejectedException e) {
+            log.warn("예약 사가 보상 등록 실패. 다음 복구 주기에 재시도합니다. sagaId={}", sagaId);
+        }
+    }
+
+    private void compensate(Long sagaId) {
+        LocalDateTime now = now();
+        inNewTransaction(() -> sagaRepository.updateStatus(sagaId,
+            ReservationSagaStatus.PENDING, ReservationSagaStatus.COMPENSATING, now));
+
+        int claimed = inNewTransaction(() -> sagaRepository.claim(sagaId,
+            ReservationSagaStatus.COMPENSATING, now, now.plusSeconds(leaseSeconds)));
+        if (claimed != 1) {
+            return;
+        }
+
+        ReservationSaga saga = sagaRepository.findById(sagaId).orElse(null);
+        if (saga == null) {
+            return;
+        }
+
+        try {
+            // 차감의 역순으로 복구
+            if (saga.isCouponReserved()) {
+                releaseCouponStep(saga);
+            }
+            if (saga.getReservedNights() > 0) {
+                releaseRoomStep(saga);
+            }
+            inNewTransaction(() -> sagaRepository.updateStatus(sagaId,
+                ReservationSagaStatus.COMPENSATING, ReservationSagaStatus.COMPENSATED, null));
+        } catch (RuntimeException e) {
+            recordFailure(saga, e);
+        }
+    }
+
+    /*
+     * 단계 기록을 먼저 지우고 재고를 복구
+     * 락 AOP 가 재고 복구를 별도 트랜잭션으로 커밋하므로, 그 사이 중단되면 중복 복구(초과 판매) 대신 복구 누락 쪽으로 남긴다.
+     * 복구가 실패하면 단계 기록을 되돌려 재시도 대상으로 남긴다.
+     * */
+    private void releaseCouponStep(ReservationSaga saga) {
+        inNewTransaction(() -> sagaRepository.updateCouponReserved(saga.getId(), false));
+        try {
+            increaseCouponStock(saga.getCouponId());
+        } catch (RuntimeException e) {
+            inNewTransaction(() -> sagaRepository.updateCouponReserved(saga.getId(), true));
+            throw e;
+        }
+    }
+
+    private void releaseRoomStep(ReservationSaga saga) {
+        inNewTransaction(() -> sagaRepository.updateReservedNights(saga.getId(), 0));
+        try {
+            LocalDate lastDate = saga.getStartDate().plusDays(saga.getReservedNights() - 1);
+            List<RoomStock> roomStocks = roomQueryUseCase.getFilteredRoomStocksByDate(
+                roomRepository.getReferenceById(saga.getRoomId()), saga.getStartDate(),
+                lastDate);
+
+            if (roomStocks.size() != saga.getReservedNights()) {
+                throw new NoSuchReservationRoomException();
+            }
+            increaseRoomStocks(saga.getRoomId(), roomStocks);
+        } catch (RuntimeException e) {
+            inNewTransaction(() -> sagaRepository.updateReservedNights(
+                saga.getId(), saga.getReservedNights()));
+            throw e;
+        }
+    }
+
+    private void recordFailure(ReservationSaga saga, RuntimeException e) {
+        int attempts = saga.getAttempts() + 1;
+        String message = String.valueOf(e.getMessage());
+        String lastError = message.length() > MAX_ERROR_LENGTH
+            ? message.substring(0, MAX_ERROR_LENGTH) : message;
+
+        if (attempts >= maxAttempts) {
+            log.error("예약 사가 보상 실패. 수동 처리가 필요합니다. sagaId={}", saga.getId(), e);
+            inNewTransaction(() -> sagaRepository.updateFailure(saga.getId(),
+                ReservationSagaStatus.FAILED, null, lastError));
+            return;
+        }
+
+        long backoffMillis = retryBackoffMillis << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+        log.warn("예약 사가 보상 재시도 예정. sagaId={}, attempts={}", saga.getId(), attempts);
+        inNewTransaction(() -> sagaRepository.updateFailure(saga.getId(),
+            ReservationSagaStatus.COMPENSATING, now().plus(backoffMillis, ChronoUnit.MILLIS),
+            lastError));
+    }
+
+    private void decreaseStocks(
+        Long sagaId, Room room, List<RoomStock> roomStocks, Coupon coupon
+    ) {
+        /*
+         * 락 전략 사용 시 객실 재고와 쿠폰 재고 락을 정렬된 순서로 한 번에 획득
+         * 전체 기간과 쿠폰이 하나의 단계로 차감되고, 락 AOP 의 트랜잭션에서 단계가 함께 기록됨
+         * */
+        Long lockedCouponId = getLockedCouponId(coupon);
+        if (!inventoryEngine.isEnabled() && stockStrategy == ConcurrencyStrategy.REDISSON) {
+            stockService.decreaseStocks(getStockIds(roomStocks), lockedCouponId, sagaId);
+        } else {
+            /*
+             * 객실 재고 차감
+             * */
+            decreaseRoomStocks(sagaId, room, roomStocks);
+        }
+
+        /*
+         * 쿠폰 재고 차감
+         * 쿠폰 재고 버킷 사용 시 락 없이 버킷에서 차감
+         * */
+        if (coupon != null && lockedCouponId == null) {
+            decreaseCouponStock(sagaId, coupon.getId());
+        }
+    }
+
+    /*
+     * DB 재고는 재고 서비스가 차감과 같은 트랜잭션에서 단계를 기록한다.
+     * 재고 서비스의 락 AOP 가 새 트랜잭션을 열므로 여기서 트랜잭션을 한 겹 더 열지 않는다.
+     * */
+    private void decreaseRoomStocks(Long sagaId, Room room, List<RoomStock> roomStocks) {
+        // 재고 엔진 사용 시 숙박 기간 전체를 한 번에 차감
+        if (inventoryEngine.isEnabled()) {
+            reserveInventory(sagaId, room.getId(), roomStocks);
+            return;
+        }
+
+        // 조건부 UPDATE 한 번으로 전체 기간 차감
+        if (stockStrategy == ConcurrencyStrategy.GUARDED_UPDATE) {
+            stockService.decreaseRoomStocks(room.getId(), getStockIds(roomStocks), sagaId);
+            return;
+        }
+
+        // 하루씩 차감하며 차감된 일수를 기록
+        for (int i = 0; i < roomStocks.size(); i++) {
+            decreaseRoomStock(roomStocks.get(i).getId(), sagaId, i + 1);
+        }
+    }
+
+    /*
+     * Redis 차감은 DB 트랜잭션으로 되돌릴 수 없으므로 단계를 먼저 기록한 뒤 차감
+     * 차감이 실패하면 기록을 지우고, 결과를 알 수 없는 실패도 중복 복구(초과 판매) 대신 복구 누락 쪽으로 남긴다.
+     * */
+    private void reserveInventory(Long sagaId, Long roomId, List<RoomStock> roomStocks) {
+        runInNewTransaction(() -> sagaRepository.updateReservedNights(sagaId, roomStocks.size()));
+        try {
+            inventoryEngine.reserve(roomId, getStockDates(roomStocks));
+        } catch (RuntimeException e) {
+            runInNewTransaction(() -> sagaRepository.updateReservedNights(sagaId, 0));
+            throw e;
+        }
+    }
+
+    private void increaseRoomStocks(Long roomId, List<RoomStock> roomStocks) {
+        if (inventoryEngine.isEnabled()) {
+            inventoryEngine.release(roomId, getStockDates(roomStocks));
+            return;
+        }
+
+        // 재고 증가는 조건 없는 UPDATE 로 충분하므로 락 전략에서만 락을 사용
+        if (stockStrategy != ConcurrencyStrategy.REDISSON) {
+            stockService.increaseRoomStocks(roomId, getStockIds(roomStocks));
+            return;
+        }
+
+        stockService.increaseStocks(getStockIds(roomStocks), null); //lock
+    }
+
+    private void decreaseRoomStock(Long roomStockId, Long sagaId, int reservedNights) {
+        if (stockStrategy == ConcurrencyStrategy.OPTIMISTIC_VERSION) {
+            stockService.decreaseRoomStockWithVersion(roomStockId, sagaId, reservedNights);
+            return;
+        }
+
+        stockService.decreaseRoomStock(roomStockId, sagaId, reservedNights); //lock
+    }
+
+    private void decreaseCouponStock(Long sagaId, Long couponId) {
+        if (couponStockBuckets.isEnabled()) {
+            decreaseCouponBucket(sagaId, couponId);
+            return;
+        }
+
+        switch (stockStrategy) {
+            case OPTIMISTIC_VERSION ->
+                stockService.decreaseCouponStockWithVersion(couponId, sagaId);
+            case GUARDED_UPDATE -> stockService.decreaseCouponStockByCondition(couponId, sagaId);
+            default -> stockService.decreaseCouponStock(couponId, sagaId); //lock
+        }
+    }
+
+    // 재고 엔진과 같이 단계를 먼저 기록한 뒤 Redis 버킷에서 차감하고, 차감이 실패하면 기록을 지운다.
+    private void decreaseCouponBucket(Long sagaId, Long couponId) {
+        runInNewTransaction(() -> sagaRepository.updateCouponReserved(sagaId, true));
+        try {
+            couponStockBuckets.decrease(couponId);
+        } catch (RuntimeException e) {
+            runInNewTransaction(() -> sagaRepository.updateCouponReserved(sagaId, false));
+            if (e instanceof InsufficientCouponStockException) {
+                throw new InvalidCouponException();
+            }
+            throw e;
+        }
+    }
+
+    private void increaseCouponStock(Long couponId) {
+        if (couponStockBuckets.isEnabled()) {
+            couponStockBuckets.increase(couponId);
+            return;
+        }
+
+        if (stockStrategy != ConcurrencyStrategy.REDISSON) {
+            stockService.increaseCouponStockByCondition(couponId);
+            return;
+        }
+
+        stockService.increaseCouponStock(couponId); //lock
+    }
+
+    // 락 전략에서 객실 재고와 함께 락으로 처리할 쿠폰. 쿠폰 재고 버킷 사용 시 null
+    private Long getLockedCouponId(Coupon coupon) {
+        if (coupon == null || couponStockBuckets.isEnabled()
+            || inventoryEngine.isEnabled() || stockStrategy != ConcurrencyStrategy.REDISSON) {
+            return null;
+        }
+        return coupon.getId();
+    }
+
+    private List<Long> getStockIds(List<RoomStock> roomStocks) {
+        return roomStocks.stream()
+            .map(RoomStock::getId)
+            .toList();
+    }
+
+    private List<LocalDate> getStockDates(List<RoomStock> roomStocks) {
+        return roomStocks.stream()
+            .map(RoomStock::getDate)
+            .toList();
+    }
+
+    private <T> T inNewTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private void runInNewTransaction(Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(ZONE_ID);
+    }
+}
@@ -3,16 +3,24 @@ package com.backoffice.upjuyanolja.domain.reservation.service;
 import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
 import com.backoffice.upjuyanolja.domain.coupon.entity.CouponRedeem;
 import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
-import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
 import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRedeemRepository;
 import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponDailyLimiter;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.payment.entity.Payment;
 import com.backoffice.upjuyanolja.domain.payment.repository.PaymentRepository;
 import com.backoffice.upjuyanolja.domain.reservation.dto.request.CreateReservationRequest;
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.ReservationCursor;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetCanceledResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetReservationCursorResponse;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetReservedResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationAdmissionResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHistoryQueryDto;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHoldResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationQuoteResponse;
 import com.backoffice.upjuyanolja.domain.reservation.entity.Reservation;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationHold;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationHoldStatus;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationRoom;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
 import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidCouponException;
@@ -20,21 +28,27 @@ import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidReservatio
 import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationRoomException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.PaymentFailureException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.ReservationHoldExpiredException;
+import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationHoldRepository;
 import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationRepository;
 import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationRoomRepository;
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.domain.room.service.RoomPricingEngine;
 import com.backoffice.upjuyanolja.domain.room.service.usecase.RoomQueryUseCase;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.Period;
+import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -43,6 +57,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ReservationService {
 
+    private static final List<ReservationStatus> RESERVED_STATUSES = List.of(
+        ReservationStatus.RESERVED, ReservationStatus.SERVICED);
+    private static final List<ReservationStatus> CANCELED_STATUSES = List.of(
+        ReservationStatus.CANCELLED);
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
     private final RoomRepository roomRepository;
     private final CouponRepository couponRepository;
 
@@ -50,14 +71,26 @@ public class ReservationService {
     private final PaymentRepository paymentRepository;
     private final ReservationRoomRepository reservationRoomRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationHoldRepository reservationHoldRepository;
 
     private final RoomQueryUseCase roomQueryUseCase;
-    private final ReservationStockService stockService;
+    private final RoomPricingEngine pricingEngine;
+    private final RoomInventoryEngine inventoryEngine;
+    private final ReservationSagaExecutor sagaExecutor;
+    private final ReservationAdmissionQueue admissionQueue;
+    private final CouponDailyLimiter couponDailyLimiter;
+
+    // 결제 전 재고 선점 유지 시간
+    @Value("${reservation.hold.ttl-minutes:10}")
+    private long holdTtlMinutes = 10;
 
     @Transactional
     public void create(Member currentMember, CreateReservationRequest request) {
+        // 대기열 사용 시 입장한 회원만 예약 가능
+        admissionQueue.checkAdmitted(request.getRoomId(), currentMember.getId());
+
         // 객실 id 검증
-        Room room = getValidRoom(request);
+        Room room = getValidRoom(request.getRoomId());
 
         // 객실 재고 검증
         List<RoomStock> roomStocks = getRoomStock(room, request.getStartDate(),
@@ -67,49 +100,227 @@ public class ReservationService {
          * 쿠폰 유효성 및 재고 검증
          * request.getCouponId() = null 인 경우 스킵
          * */
-        Coupon coupon = (request.getCouponId() == null) ? null : getValidCoupon(request, room);
+        Coupon coupon = (request.getCouponId() == null) ? null
+            : getValidCoupon(request.getCouponId(), room);
 
-        // 할인 금액 계산
-        int roomPrice = roomQueryUseCase.findRoomPriceByRoom(room).getOffWeekDaysMinFee();
+        // 숙박 기간의 가격 구간 별 요금 합계와 할인 금액 계산
+        int roomPrice = getStayPrice(room, request.getStartDate(), request.getEndDate());
         int totalAmount = getValidTotalAmount(request.getTotalPrice(), roomPrice, coupon);
 
         /*
-         * 객실 재고 차감
+         * 쿠폰 일일 사용 한도 검사
+         * 이 트랜잭션이 롤백되면 사용 수가 복구됨
          * */
-        decreaseRoomStocks(roomStocks);
+        if (coupon != null) {
+            couponDailyLimiter.acquire(coupon);
+        }
 
         /*
-         * 쿠폰 재고 차감
+         * 객실 재고 및 쿠폰 재고 차감
+         * 차감된 단계는 사가에 기록되고, 이 트랜잭션이 롤백되면 비동기로 보상됨
          * */
+        Long sagaId = sagaExecutor.reserve(room, roomStocks, coupon);
+
+        /*
+         * 예약 및 결제 저장
+         * 같은 트랜잭션에서 사가를 완료 처리
+         * */
+        createOrder(currentMember, request, room, coupon, roomPrice, totalAmount);
+        sagaExecutor.complete(sagaId);
+
+        // 예약이 커밋되면 대기열에서 퇴장
+        admissionQueue.leave(room.getId(), currentMember.getId());
+    }
+
+    /**
+     * 결제 전 객실 재고와 쿠폰 재고를 선점한다. 예약 정보는 선점에 저장되고, 만료 전에 {@link #confirm(Member, Long)} 을
+     * 호출하면 예약이 확정된다.
+     *
+     * @param currentMember : 현재 회원
+     * @param request       : 예약 요청
+     * @return 선점 정보
+     */
+    @Transactional
+    public ReservationHoldResponse hold(Member currentMember, CreateReservationRequest request) {
+        admissionQueue.checkAdmitted(request.getRoomId(), currentMember.getId());
+
+        Room room = getValidRoom(request.getRoomId());
+        List<RoomStock> roomStocks = getRoomStock(room, request.getStartDate(),
+            request.getEndDate());
+        Coupon coupon = (request.getCouponId() == null) ? null
+            : getValidCoupon(request.getCouponId(), room);
+
+        int roomPrice = getStayPrice(room, request.getStartDate(), request.getEndDate());
+        int totalAmount = getValidTotalAmount(request.getTotalPrice(), roomPrice, coupon);
+
         if (coupon != null) {
-            try {
-                stockService.decreaseCouponStock(coupon.getId()); //lock
-            } catch (Exception e) {
-                for (RoomStock roomStock : roomStocks) {
-                    stockService.increaseRoomStock(roomStock.getId()); //lock
-                }
-            }
+            couponDailyLimiter.acquire(coupon);
         }
 
+        /*
+         * 객실 재고 및 쿠폰 재고 선점
+         * 만료 일시까지 확정되지 않으면 사가 복구에서 재고가 복구됨
+         * */
+        LocalDateTime expiresAt = LocalDateTime.now(ZONE_ID).plusMinutes(holdTtlMinutes);
+        Long sagaId = sagaExecutor.hold(room, roomStocks, coupon, expiresAt);
+
+        ReservationHold hold = reservationHoldRepository.save(ReservationHold.builder()
+            .memberId(currentMember.getId())
+            .sagaId(sagaId)
+            .roomId(room.getId())
+            .startDate(request.getStartDate())
+            .endDate(request.getEndDate())
+            .couponId(request.getCouponId())
+            .visitorName(request.getVisitorName())
+            .visitorPhone(request.getVisitorPhone())
+            .payMethod(request.getPayMethod())
+            .roomPrice(roomPrice)
+            .totalAmount(totalAmount)
+            .status(ReservationHoldStatus.HOLDING)
+            .expiresAt(expiresAt)
+            .build());
+
+        // 재고를 선점했으므로 대기열에서 퇴장
+        admissionQueue.leave(room.getId(), currentMember.getId());
+
+        return ReservationHoldResponse.of(hold);
+    }
+
+    /**
+     * 선점한 재고로 예약과 결제를 저장한다.
+     *
+     * @param currentMember : 현재 회원
+     * @param holdId        : 선점 식별자
+     * @throws ReservationHoldExpiredException 선점이 만료되었거나 이미 확정, 취소된 경우
+     */
+    @Transactional
+    public void confirm(Member currentMember, Long holdId) {
+        ReservationHold hold = reservationHoldRepository
+            .findByIdAndMemberId(holdId, currentMember.getId())
+            .orElseThrow(NoSuchReservationException::new);
+
+        int updated = reservationHoldRepository.updateStatusBeforeExpiry(holdId,
+            ReservationHoldStatus.HOLDING, ReservationHoldStatus.CONFIRMED,
+            LocalDateTime.now(ZONE_ID));
+        if (updated != 1) {
+            throw new ReservationHoldExpiredException();
+        }
+
+        Room room = roomRepository.findById(hold.getRoomId())
+            .orElseThrow(InvalidReservationInfoException::new);
+        Coupon coupon = (hold.getCouponId() == null) ? null
+            : couponRepository.findById(hold.getCouponId())
+                .orElseThrow(InvalidCouponException::new);
+
         /*
          * 예약 및 결제 저장
-         * 예외 발생 시 보상트랜잭션(재고 롤백) 수행
+         * 같은 트랜잭션에서 사가를 완료 처리. 만료 보상이 먼저 시작되었으면 예약 실패
          * */
-        try {
-            createOrder(currentMember, request, room, coupon, roomPrice, totalAmount);
-        } catch (Exception e) {
-            for (RoomStock roomStock : roomStocks) {
-                stockService.increaseRoomStock(roomStock.getId()); //lock
-            }
-
-            if (coupon != null) {
-                stockService.increaseCouponStock(coupon.getId()); //lock
-            }
+        createOrder(currentMember, hold.toRequest(), room, coupon, hold.getRoomPrice(),
+            hold.getTotalAmount());
+        sagaExecutor.complete(hold.getSagaId());
+    }
+
+    /**
+     * 선점을 취소하고 재고를 복구한다.
+     *
+     * @param currentMember : 현재 회원
+     * @param holdId        : 선점 식별자
+     */
+    @Transactional
+    public void cancelHold(Member currentMember, Long holdId) {
+        ReservationHold hold = reservationHoldRepository
+            .findByIdAndMemberId(holdId, currentMember.getId())
+            .orElseThrow(NoSuchReservationException::new);
+
+        int updated = reservationHoldRepository.updateStatusBeforeExpiry(holdId,
+            ReservationHoldStatus.HOLDING, ReservationHoldStatus.CANCELLED,
+            LocalDateTime.now(ZONE_ID));
+        if (updated != 1) {
+            throw new ReservationHoldExpiredException();
+        }
+
+        // 커밋 후 사가 보상으로 재고 복구
+        sagaExecutor.cancel(hold.getSagaId());
+    }
+
+    /**
+     * 만료된 선점을 만료 처리하고 재고 복구를 등록한다.
+     *
+     * @param batchSize : 한 번에 처리할 최대 선점 수
+     * @return 조회한 만료 선점 수
+     */
+    @Transactional
+    public int expireHolds(int batchSize) {
+        LocalDateTime now = LocalDateTime.now(ZONE_ID);
+        List<ReservationHold> holds = reservationHoldRepository.findAllByStatusAndExpiresAtBefore(
+            ReservationHoldStatus.HOLDING, now, PageRequest.of(0, batchSize));
+        if (holds.isEmpty()) {
+            return 0;
+        }
+
+        reservationHoldRepository.updateStatusAfterExpiry(
+            holds.stream().map(ReservationHold::getId).toList(),
+            ReservationHoldStatus.HOLDING, ReservationHoldStatus.EXPIRED, now);
+
+        // 확정된 선점의 사가는 완료 상태이므로 보상되지 않음
+        holds.forEach(hold -> sagaExecutor.cancel(hold.getSagaId()));
+        return holds.size();
+    }
+
+    /**
+     * 객실 예약 대기열에 입장을 요청한다.
+     *
+     * @param currentMember : 현재 회원
+     * @param roomId        : 객실 식별자
+     * @return 대기열 상태
+     */
+    @Transactional(readOnly = true)
+    public ReservationAdmissionResponse enterQueue(Member currentMember, Long roomId) {
+        Room room = roomRepository.findById(roomId)
+            .orElseThrow(InvalidReservationInfoException::new);
+
+        return admissionQueue.enter(room.getId(), currentMember.getId());
+    }
+
+    public ReservationAdmissionResponse getQueueStatus(Member currentMember, Long roomId) {
+        return admissionQueue.getStatus(roomId, currentMember.getId());
+    }
+
+    /**
+     * 숙박 기간의 결제 금액을 조회한다. 숙박일마다 가격 구간 별 요금을 합산하고 쿠폰 할인은 합계에 한 번 적용하므로, 예약 요청의
+     * 결제 금액은 이 금액과 같아야 한다.
+     *
+     * @param roomId    : 객실 식별자
+     * @param startDate : 첫 숙박일
+     * @param endDate   : 마지막 숙박일 (포함)
+     * @param couponId  : 쿠폰 식별자, null 이면 쿠폰을 적용하지 않음
+     * @return 숙박 가격과 결제 금액
+     */
+    @Transactional(readOnly = true)
+    public ReservationQuoteResponse quote(
+        Long roomId, LocalDate startDate, LocalDate endDate, Long couponId
+    ) {
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidReservationInfoException();
         }
+
+        Room room = getValidRoom(roomId);
+        Coupon coupon = (couponId == null) ? null : getValidCoupon(couponId, room);
+
+        int roomPrice = getStayPrice(room, startDate, endDate);
+        return ReservationQuoteResponse.builder()
+            .roomId(room.getId())
+            .couponId(couponId)
+            .startDate(startDate)
+            .endDate(endDate)
+            .roomPrice(roomPrice)
+            .totalAmount(getTotalAmount(roomPrice, coupon))
+            .build();
     }
 
-    private Room getValidRoom(CreateReservationRequest request) {
-        Room room = roomRepository.findById(request.getRoomId())
+    private Room getValidRoom(Long roomId) {
+        Room room = roomRepository.findById(roomId)
             .orElseThrow(InvalidReservationInfoException::new);
 
         if (room.getStatus() != RoomStatus.SELLING) {
@@ -119,8 +330,8 @@ public class ReservationService {
         return room;
     }
 
-    private Coupon getValidCoupon(CreateReservationRequest request, Room room) {
-        Coupon coupon = couponRepository.findByIdAndRoom(request.getCouponId(), room)
+    private Coupon getValidCoupon(Long couponId, Room room) {
+        Coupon coupon = couponRepository.findByIdAndRoom(couponId, room)
             .orElseThrow(InvalidCouponException::new);
 
         if (coupon.getCouponStatus() != CouponStatus.ENABLE || coupon.getStock() < 1) {
@@ -137,7 +348,12 @@ public class ReservationService {
         List<RoomStock> roomStocks = roomQueryUseCase.getFilteredRoomStocksByDate(room,
             startDate, endDate);
 
-        if (roomStocks.size() != daysCount ||
+        if (roomStocks.size() != daysCount) {
+            throw new InvalidReservationInfoException();
+        }
+
+        // 재고 엔진 사용 시 Redis 카운터가 기준이므로 DB 재고 사전 검증은 생략
+        if (!inventoryEngine.isEnabled() &&
             !roomStocks.stream().allMatch(r -> r.getCount() >= 1)) {
             throw new InvalidReservationInfoException();
         }
@@ -147,10 +363,14 @@ public class ReservationService {
         return modifiableRoomStocks;
     }
 
+    private int getStayPrice(Room room, LocalDate startDate, LocalDate endDate) {
+        return pricingEngine.quote(roomQueryUseCase.findRoomPriceByRoom(room), startDate,
+            endDate);
+    }
+
+    // 쿠폰 할인은 숙박 기간 합계에 한 번 적용
     private int getValidTotalAmount(int totalAmountRequest, int roomPrice, Coupon coupon) {
-        int totalAmount = (coupon == null) ? roomPrice
-            : DiscountType.makePaymentPrice(coupon.getDiscountType(), roomPrice,
-                coupon.getDiscount());
+        int totalAmount = getTotalAmount(roomPrice, coupon);
 
         if (totalAmountRequest != totalAmount) {
             throw new PaymentFailureException();
@@ -159,18 +379,9 @@ public class ReservationService {
         return totalAmount;
     }
 
-    private void decreaseRoomStocks(List<RoomStock> roomStocks) {
-        int index = 0;
-        try {
-            for (RoomStock roomStock : roomStocks) {
-                stockService.decreaseRoomStock(roomStock.getId()); //lock
-                index++;
-            }
-        } catch (Exception e) {
-            for (int i = 0; i < index; i++) {
-                stockService.increaseRoomStock(roomStocks.get(i).getId());
-            }
-        }
+    private int getTotalAmount(int roomPrice, Coupon coupon) {
+        return (coupon == null) ? roomPrice
+            : coupon.getDiscountType().applyDiscount(roomPrice, coupon.getDiscount());
     }
 
     private void createOrder(
@@ -258,18 +469,18 @@ public class ReservationService {
         reservationRepository.save(reservation);
 
         /*
-         * 쿠폰 사용 내역 제거 & 쿠폰 재고 증가
+         * 쿠폰 사용 내역 제거
          * - 쿠폰 미사용 예약 내역 시 스킵
          * */
+        Coupon coupon = null;
         if (Boolean.TRUE.equals(reservation.getIsCouponUsed())) {
-            Coupon coupon = deleteCouponRedeem(reservation);
-            stockService.increaseCouponStock(coupon.getId());
+            coupon = deleteCouponRedeem(reservation);
         }
 
         /*
-         * 객실 재고 증가
+         * 객실 재고 & 쿠폰 재고 증가
          * */
-        increaseRoomStock(reservation.getReservationRoom());
+        increaseStocks(reservation.getReservationRoom(), coupon);
     }
 
     private Coupon deleteCouponRedeem(Reservation reservation) {
@@ -281,16 +492,14 @@ public class ReservationService {
         return couponRedeem.getCoupon();
     }
 
-    private void increaseRoomStock(ReservationRoom reservationRoom) {
+    private void increaseStocks(ReservationRoom reservationRoom, Coupon coupon) {
         List<RoomStock> roomStocks = getReservationRoomStock(
             reservationRoom.getRoom(),
             reservationRoom.getStartDate(),
             reservationRoom.getEndDate()
         );
 
-        for (RoomStock roomStock : roomStocks) {
-            stockService.increaseRoomStock(roomStock.getId()); //lock
-        }
+        sagaExecutor.release(reservationRoom.getRoom(), roomStocks, coupon);
     }
 
     private List<RoomStock> getReservationRoomStock(Room room, LocalDate startDate,
@@ -311,35 +520,44 @@ public class ReservationService {
 
     @Transactional(readOnly = true)
     public GetReservedResponse getReserved(Member currentMember, Pageable pageable) {
-        Page<Reservation> reservations = reservationRepository.findAllByMemberAndStatusIn(
-            currentMember,
-            Arrays.asList(ReservationStatus.RESERVED, ReservationStatus.SERVICED),
-            pageable
-        );
+        Page<ReservationHistoryQueryDto> reservations = reservationRepository.findHistories(
+            currentMember.getId(), RESERVED_STATUSES, pageable);
 
-        List<Payment> payments = new ArrayList<>();
-        for (Reservation reservation : reservations) {
-            Payment payment = paymentRepository.findByReservation(reservation)
-                .orElseThrow(NoSuchReservationException::new);
-            payments.add(payment);
-        }
-        return new GetReservedResponse(reservations, payments);
+        return new GetReservedResponse(reservations);
     }
 
     @Transactional(readOnly = true)
     public GetCanceledResponse getCanceled(Member currentMember, Pageable pageable) {
-        Page<Reservation> reservations = reservationRepository.findAllByMemberAndStatusIn(
-            currentMember,
-            List.of(ReservationStatus.CANCELLED),
-            pageable
-        );
+        Page<ReservationHistoryQueryDto> reservations = reservationRepository.findHistories(
+            currentMember.getId(), CANCELED_STATUSES, pageable);
 
-        List<Payment> payments = new ArrayList<>();
-        for (Reservation reservation : reservations) {
-            Payment payment = paymentRepository.findByReservation(reservation)
-                .orElseThrow(NoSuchReservationException::new);
-            payments.add(payment);
-        }
-        return new GetCanceledResponse(reservations, payments);
+        return new GetCanceledResponse(reservations);
+    }
+
+    /**
+     * 예약 내역을 (생성 일시, 식별자) 내림차순 커서 방식으로 조회한다. 페이지가 깊어져도 OFFSET 만큼 건너뛰지 않는다.
+     *
+     * @param currentMember : 현재 회원
+     * @param status        : 예약 상태. RESERVED, SERVICED 는 예약 내역, CANCELLED 는 취소 내역
+     * @param cursor        : 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size          : 페이지 크기
+     * @return 예약 내역과 다음 커서
+     */
+    @Transactional(readOnly = true)
+    public GetReservationCursorResponse getReservationsByCursor(
+        Member currentMember, ReservationStatus status, String cursor, int size
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        ReservationCursor reservationCursor = (cursor == null || cursor.isBlank()) ? null
+            : ReservationCursor.decode(cursor);
+        List<ReservationStatus> statuses = (status == ReservationStatus.CANCELLED)
+            ? CANCELED_STATUSES : RESERVED_STATUSES;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ReservationHistoryQueryDto> histories = reservationRepository
+            .findHistoriesByCursor(currentMember.getId(), statuses, reservationCursor,
+                pageSize + 1);
+
+        return new GetReservationCursorResponse(histories, pageSize);
     }
 }
@@ -1,42 +1,168 @@
 package com.backoffice.upjuyanolja.domain.reservation.service;
 
+import static com.backoffice.upjuyanolja.global.concurrency.annotation.ConcurrencyStrategy.GUARDED_UPDATE;
+import static com.backoffice.upjuyanolja.global.concurrency.annotation.ConcurrencyStrategy.OPTIMISTIC_VERSION;
+
+import com.backoffice.upjuyanolja.domain.accommodation.event.AccommodationSummaryEvent;
 import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.event.RoomCouponEvent;
 import com.backoffice.upjuyanolja.domain.coupon.exception.InsufficientCouponStockException;
 import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
 import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidCouponException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidReservationInfoException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationException;
+import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationSagaRepository;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.event.RoomStockEvent;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
 import com.backoffice.upjuyanolja.global.concurrency.annotation.ConcurrencyControl;
+import com.backoffice.upjuyanolja.global.concurrency.annotation.LockKey;
+import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReservationStockService {
 
     private final RoomStockRepository roomStockRepository;
     private final CouponRepository couponRepository;
+    private final RoomInventoryEngine inventoryEngine;
+    private final ReservationSagaRepository sagaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @ConcurrencyControl(lockName = "roomStock")
     public RoomStock increaseRoomStock(Long id) {
         RoomStock roomStock = roomStockRepository.findById(id)
             .orElseThrow(NoSuchReservationException::new);
         roomStock.increase(1);
+        publishRoomStockChanged(roomStock);
         return roomStockRepository.save(roomStock);
     }
 
     @ConcurrencyControl(lockName = "roomStock")
     public RoomStock decreaseRoomStock(Long id) {
-        try {
-            RoomStock roomStock = roomStockRepository.findById(id)
-                .orElseThrow(InvalidReservationInfoException::new);
-            roomStock.decrease(1);
-            return roomStockRepository.save(roomStock);
-        } catch (IllegalArgumentException e) {
+        return decrease(id);
+    }
+
+    @ConcurrencyControl(lockName = "roomStock", strategy = OPTIMISTIC_VERSION)
+    public RoomStock decreaseRoomStockWithVersion(Long id) {
+        return decrease(id);
+    }
+
+    /*
+     * 예약 사가의 객실 재고 차감 단계
+     * 락 AOP 가 여는 트랜잭션 안에서 차감된 일수를 함께 기록하므로, 차감과 단계 기록이 함께 커밋되거나 함께 롤백됨
+     * */
+    @ConcurrencyControl(lockName = "roomStock")
+    public RoomStock decreaseRoomStock(Long id, Long sagaId, int reservedNights) {
+        RoomStock roomStock = decrease(id);
+        sagaRepository.updateReservedNights(sagaId, reservedNights);
+        return roomStock;
+    }
+
+    @ConcurrencyControl(lockName = "roomStock", strategy = OPTIMISTIC_VERSION)
+    public RoomStock decreaseRoomStockWithVersion(Long id, Long sagaId, int reservedNights) {
+        RoomStock roomStock = decrease(id);
+        sagaRepository.updateReservedNights(sagaId, reservedNights);
+        return roomStock;
+    }
+
+    /*
+     * 숙박 기간의 모든 재고를 하나의 조건부 UPDATE 로 차감
+     * 차감된 행 수가 요청 수와 다르면 예외를 던져 트랜잭션 전체를 롤백
+     * */
+    @Transactional
+    @ConcurrencyControl(lockName = "roomStock", strategy = GUARDED_UPDATE)
+    public void decreaseRoomStocks(Long roomId, List<Long> ids) {
+        int updated = roomStockRepository.decreaseCountByIdIn(ids, 1);
+
+        if (updated != ids.size()) {
             throw new InvalidReservationInfoException();
         }
+        eventPublisher.publishEvent(RoomStockEvent.of(roomId));
+    }
+
+    // 예약 사가의 객실 재고 차감 단계. 같은 트랜잭션에서 차감된 일수를 기록
+    @Transactional
+    @ConcurrencyControl(lockName = "roomStock", strategy = GUARDED_UPDATE)
+    public void decreaseRoomStocks(Long roomId, List<Long> ids, Long sagaId) {
+        decreaseRoomStocks(roomId, ids);
+        sagaRepository.updateReservedNights(sagaId, ids.size());
+    }
+
+    @Transactional
+    @ConcurrencyControl(lockName = "roomStock", strategy = GUARDED_UPDATE)
+    public void increaseRoomStocks(Long roomId, List<Long> ids) {
+        int updated = roomStockRepository.increaseCountByIdIn(ids, 1);
+
+        if (updated != ids.size()) {
+            throw new NoSuchReservationException();
+        }
+        eventPublisher.publishEvent(RoomStockEvent.of(roomId));
+    }
+
+    /*
+     * 객실 재고와 쿠폰 재고 락을 MultiLock 으로 한 번에 획득한 뒤 차감
+     * 하나라도 부족하면 예외를 던져 전체 롤백
+     * couponId = null 인 경우 객실 재고만 차감
+     * */
+    @Transactional
+    @ConcurrencyControl(lockName = "roomStock")
+    public void decreaseStocks(
+        @LockKey("roomStock") List<Long> roomStockIds,
+        @LockKey("couponStock") Long couponId
+    ) {
+        for (Long roomStockId : roomStockIds) {
+            decrease(roomStockId);
+        }
+
+        if (couponId != null) {
+            decreaseCoupon(couponId);
+        }
+    }
+
+    // 예약 사가의 객실 재고, 쿠폰 재고 차감 단계. 같은 트랜잭션에서 차감된 일수와 쿠폰 차감 여부를 기록
+    @Transactional
+    @ConcurrencyControl(lockName = "roomStock")
+    public void decreaseStocks(
+        @LockKey("roomStock") List<Long> roomStockIds,
+        @LockKey("couponStock") Long couponId,
+        Long sagaId
+    ) {
+        decreaseStocks(roomStockIds, couponId);
+        sagaRepository.updateReservedNights(sagaId, roomStockIds.size());
+        if (couponId != null) {
+            sagaRepository.updateCouponReserved(sagaId, true);
+        }
+    }
+
+    @Transactional
+    @ConcurrencyControl(lockName = "roomStock")
+    public void increaseStocks(
+        @LockKey("roomStock") List<Long> roomStockIds,
+        @LockKey("couponStock") Long couponId
+    ) {
+        for (Long roomStockId : roomStockIds) {
+            RoomStock roomStock = roomStockRepository.findById(roomStockId)
+                .orElseThrow(NoSuchReservationException::new);
+            roomStock.increase(1);
+            publishRoomStockChanged(roomStock);
+        }
+
+        if (couponId != null) {
+            Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(NoSuchReservationException::new);
+            coupon.increaseCouponStock(1);
+        }
     }
 
     @ConcurrencyControl(lockName = "couponStock")
@@ -48,12 +174,154 @@ public class ReservationStockService {
 
     @ConcurrencyControl(lockName = "couponStock")
     public Coupon decreaseCouponStock(Long id) {
+        return decreaseCoupon(id);
+    }
+
+    @ConcurrencyControl(lockName = "couponStock", strategy = OPTIMISTIC_VERSION)
+    public Coupon decreaseCouponStockWithVersion(Long id) {
+        return decreaseCoupon(id);
+    }
+
+    // 예약 사가의 쿠폰 재고 차감 단계. 같은 트랜잭션에서 쿠폰 차감 여부를 기록
+    @ConcurrencyControl(lockName = "couponStock")
+    public Coupon decreaseCouponStock(Long id, Long sagaId) {
+        Coupon coupon = decreaseCoupon(id);
+        sagaRepository.updateCouponReserved(sagaId, true);
+        return coupon;
+    }
+
+    @ConcurrencyControl(lockName = "couponStock", strategy = OPTIMISTIC_VERSION)
+    public Coupon decreaseCouponStockWithVersion(Long id, Long sagaId) {
+        Coupon coupon = decreaseCoupon(id);
+        sagaRepository.updateCouponReserved(sagaId, true);
+        return coupon;
+    }
+
+    /*
+     * 조건부 UPDATE 로 쿠폰 재고 차감
+     * 재고가 0이 되면 같은 트랜잭션에서 SOLD_OUT 으로 변경
+     * */
+    @Transactional
+    @ConcurrencyControl(lockName = "couponStock", strategy = GUARDED_UPDATE)
+    public void decreaseCouponStockByCondition(Long id) {
+        if (couponRepository.decreaseStock(id, 1) != 1) {
+            throw new InvalidCouponException();
+        }
+
+        if (couponRepository.updateStatusIfEmpty(id, CouponStatus.SOLD_OUT) == 1) {
+            couponRepository.findById(id).ifPresent(this::publishSoldOut);
+        }
+    }
+
+    @Transactional
+    @ConcurrencyControl(lockName = "couponStock", strategy = GUARDED_UPDATE)
+    public void decreaseCouponStockByCondition(Long id, Long sagaId) {
+        decreaseCouponStockByCondition(id);
+        sagaRepository.updateCouponReserved(sagaId, true);
+    }
+
+    @Transactional
+    @ConcurrencyControl(lockName = "couponStock", strategy = GUARDED_UPDATE)
+    public void increaseCouponStockByCondition(Long id) {
+        if (couponRepository.increaseStock(id, 1) != 1) {
+            throw new NoSuchReservationException();
+        }
+    }
+
+    /*
+     * 객실 수량 변경분을 startDate 이후의 모든 날짜 재고에 한 번에 반영
+     * 판매된 수량은 유지하고 남은 재고만 옮기며, 남은 재고보다 많이 줄이면 0 이 되고 반영하지 못한 수량을 로그로 남김
+     * 하나의 조건부 UPDATE 라 같은 행을 차감하는 예약과는 행 잠금으로 직렬화되고,
+     * 엔티티로 재고를 변경하는 전략은 버전이 올라가 덮어쓰지 못함
+     * 재고 엔진을 사용하면 객실 수정이 커밋된 뒤 Redis 카운터를 조정하고 DB 는 flush 로 반영됨
+     * */
+    @Transactional
+    public void adjustRoomStocks(Long roomId, LocalDate startDate, int delta) {
+        if (inventoryEngine.isEnabled()) {
+            List<LocalDate> dates = roomStockRepository.findDatesByRoomIdAndDateFrom(roomId,
+                startDate);
+            afterCommit(() -> adjustInventory(roomId, startDate, dates, delta));
+        } else {
+            // 부족분은 UPDATE 가 0 으로 맞추기 전에 구함
+            long clamped = (delta < 0)
+                ? roomStockRepository.sumShortageByRoomIdAndDateFrom(roomId, startDate, delta)
+                : 0;
+            roomStockRepository.shiftCountByRoomIdAndDateFrom(roomId, startDate, delta);
+            logClamped(roomId, startDate, delta, clamped);
+        }
+
+        eventPublisher.publishEvent(RoomStockEvent.of(roomId));
+    }
+
+    private void adjustInventory(
+        Long roomId, LocalDate startDate, List<LocalDate> dates, int delta
+    ) {
+        try {
+            logClamped(roomId, startDate, delta, inventoryEngine.adjust(roomId, dates, delta));
+        } catch (RuntimeException e) {
+            log.error("객실 재고 조정 실패. 수동 처리가 필요합니다. "
+                + "roomId={}, startDate={}, delta={}", roomId, startDate, delta, e);
+        }
+    }
+
+    private void logClamped(Long roomId, LocalDate startDate, int delta, long clamped) {
+        if (clamped > 0) {
+            log.warn("남은 재고가 부족해 객실 수량 변경분 일부를 반영하지 못했습니다. "
+                + "roomId={}, startDate={}, delta={}, clamped={}",
+                roomId, startDate, delta, clamped);
+        }
+    }
+
+    // 트랜잭션 안에서 호출하면 커밋된 뒤에 실행하고, 롤백되면 실행하지 않는다.
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+    }
+
+    private RoomStock decrease(Long id) {
+        try {
+            RoomStock roomStock = roomStockRepository.findById(id)
+                .orElseThrow(InvalidReservationInfoException::new);
+            roomStock.decrease(1);
+            publishRoomStockChanged(roomStock);
+            return roomStockRepository.save(roomStock);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidReservationInfoException();
+        }
+    }
+
+    private Coupon decreaseCoupon(Long id) {
         try {
             Coupon coupon = couponRepository.findById(id).orElseThrow(InvalidCouponException::new);
             coupon.decreaseCouponStock(1);
+            if (coupon.getCouponStatus() == CouponStatus.SOLD_OUT) {
+                publishSoldOut(coupon);
+            }
             return couponRepository.save(coupon);
         } catch (InsufficientCouponStockException e) {
             throw new InvalidCouponException();
         }
     }
+
+    // 매진된 쿠폰은 객실 쿠폰 목록과 숙소 목록의 쿠폰 정보에서 빠지므로 캐시 무효화와 요약 정보 갱신을 요청
+    private void publishSoldOut(Coupon coupon) {
+        eventPublisher.publishEvent(RoomCouponEvent.of(coupon.getRoom().getId()));
+        eventPublisher.publishEvent(
+            AccommodationSummaryEvent.of(coupon.getRoom().getAccommodation().getId()));
+    }
+
+    // 객실 재고 캐시 무효화 요청. 커밋 이후에 처리된다.
+    private void publishRoomStockChanged(RoomStock roomStock) {
+        eventPublisher.publishEvent(RoomStockEvent.of(roomStock.getRoom().getId()));
+    }
 }
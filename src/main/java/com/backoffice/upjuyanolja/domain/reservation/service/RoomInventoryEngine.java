@@ -0,0 +1,362 @@
+package com.backoffice.upjuyanolja.domain.reservation.service;
+
+import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidReservationInfoException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationRoomException;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.event.RoomStockEvent;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Redis 기반 객실 재고 엔진
+ * <p>
+ * 객실-날짜 별 재고 카운터를 Redis 에 두고, 숙박 기간 전체를 하나의 Lua 스크립트로 차감/복구한다. 스크립트는 Redis 서버에서
+ * 원자적으로 실행되므로 모든 날짜가 차감되거나 하나도 차감되지 않는다. 변경된 날짜는 같은 슬롯의 객실 별 dirty set 에 기록되고,
+ * 변경된 객실은 dirty 객실 목록에 등록되어 {@link #flushDirty(int)} 를 통해 room_stock 테이블에 비동기로 반영된다. 재고를
+ * 차감/복구하거나 room_stock 에 반영하면 {@link RoomStockEvent} 를 발행해 잔여 재고 캐시가 반영된 값을 다시 읽도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomInventoryEngine {
+
+    // {roomId} 해시 태그로 같은 객실의 재고 키와 dirty set 이 같은 슬롯에 위치하도록 한다.
+    private static final String STOCK_KEY_FORMAT = "inventory:room:{%d}:%s";
+    private static final String DIRTY_KEY_FORMAT = "inventory:room:{%d}:dirty";
+    // 스크립트 밖에서만 다루는 전역 키
+    private static final String DIRTY_ROOMS_KEY = "inventory:dirty-rooms";
+
+    private static final long SUCCESS = 1L;
+    private static final long INSUFFICIENT = 0L;
+    private static final long NOT_LOADED = -1L;
+
+    /*
+     * KEYS[1..n-1] = 객실-날짜 재고 키, KEYS[n] = 객실 dirty set
+     * ARGV[1] = 수량, ARGV[2..n] = dirty set 멤버(date)
+     * */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local size = #KEYS - 1
+        local quantity = tonumber(ARGV[1])
+        for i = 1, size do
+            local count = redis.call('GET', KEYS[i])
+            if not count then
+                return -1
+            end
+            if tonumber(count) < quantity then
+                return 0
+            end
+        end
+        for i = 1, size do
+            redis.call('DECRBY', KEYS[i], quantity)
+            redis.call('SADD', KEYS[#KEYS], ARGV[i + 1])
+        end
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        local size = #KEYS - 1
+        local quantity = tonumber(ARGV[1])
+        for i = 1, size do
+            if redis.call('EXISTS', KEYS[i]) == 0 then
+                return -1
+            end
+        end
+        for i = 1, size do
+            redis.call('INCRBY', KEYS[i], quantity)
+            redis.call('SADD', KEYS[#KEYS], ARGV[i + 1])
+        end
+        return 1
+        """, Long.class);
+
+    /*
+     * KEYS[1..n-1] = 객실-날짜 재고 키, KEYS[n] = 객실 dirty set
+     * ARGV[1] = 변경량, ARGV[2..n] = dirty set 멤버(date)
+     * 적재된 키만 변경량을 더하고 0 보다 작아지면 0 으로 맞춘 뒤, 0 으로 맞추느라 반영하지 못한 수량의 합을 반환
+     * */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+        local size = #KEYS - 1
+        local delta = tonumber(ARGV[1])
+        local clamped = 0
+        for i = 1, size do
+            if redis.call('EXISTS', KEYS[i]) == 1 then
+                local count = redis.call('INCRBY', KEYS[i], delta)
+                if count < 0 then
+                    redis.call('INCRBY', KEYS[i], -count)
+                    clamped = clamped - count
+                end
+                redis.call('SADD', KEYS[#KEYS], ARGV[i + 1])
+            end
+        end
+        return clamped
+        """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RoomStockRepository roomStockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${reservation.inventory.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 숙박 기간의 모든 날짜 재고를 한 번에 차감한다.
+     *
+     * @param roomId : 객실 식별자
+     * @param dates  : 숙박 일자 목록
+     * @throws InvalidReservationInfoException 재고가 부족하거나 재고 정보가 없는 경우
+     */
+    public void reserve(Long roomId, List<LocalDate> dates) {
+        long result = executeWithLoad(RESERVE_SCRIPT, roomId, dates, 1);
+
+        if (result != SUCCESS) {
+            throw new InvalidReservationInfoException();
+        }
+        eventPublisher.publishEvent(RoomStockEvent.of(roomId));
+    }
+
+    /**
+     * 숙박 기간의 모든 날짜 재고를 한 번에 복구한다.
+     *
+     * @param roomId : 객실 식별자
+     * @param dates  : 숙박 일자 목록
+     * @throws NoSuchReservationRoomException 재고 정보가 없는 경우
+     */
+    public void release(Long roomId, List<LocalDate> dates) {
+        long result = executeWithLoad(RELEASE_SCRIPT, roomId, dates, 1);
+
+        if (result != SUCCESS) {
+            throw new NoSuchReservationRoomException();
+        }
+        eventPublisher.publishEvent(RoomStockEvent.of(roomId));
+    }
+
+    /**
+     * 객실 수량 변경분을 날짜 재고에 한 번에 반영한다. 적재되지 않은 날짜는 DB 에서 먼저 적재하므로, 반영된 값은 dirty set 을
+     * 통해 room_stock 테이블에 기록된다.
+     *
+     * @param roomId : 객실 식별자
+     * @param dates  : 조정할 일자 목록
+     * @param delta  : 변경량. 남은 재고보다 많이 줄이면 0 이 된다.
+     * @return 남은 재고가 부족해 반영하지 못한 수량의 합
+     */
+    public int adjust(Long roomId, List<LocalDate> dates, int delta) {
+        if (dates.isEmpty()) {
+            return 0;
+        }
+
+        load(roomId, dates);
+        Long clamped = execute(ADJUST_SCRIPT, roomId, dates, delta);
+        return (clamped == null) ? 0 : clamped.intValue();
+    }
+
+    /**
+     * dirty 객실의 변경된 날짜 재고를 room_stock 테이블에 반영한다. 반영하거나 커밋하지 못하면 꺼낸 날짜와 객실을 다시 넣어 다음
+     * 주기에 재시도한다.
+     *
+     * @param batchSize : 한 번에 반영할 최대 건수
+     * @return 반영한 건수
+     */
+    @Transactional
+    public int flushDirty(int batchSize) {
+        Map<Long, List<Object>> dirtyDates = popDirty(batchSize);
+        if (dirtyDates.isEmpty()) {
+            return 0;
+        }
+        boolean restoreOnRollback = restoreOnRollback(dirtyDates);
+
+        try {
+            int flushed = 0;
+            for (Map.Entry<Long, List<Object>> entry : dirtyDates.entrySet()) {
+                flushed += flushRoom(entry.getKey(), entry.getValue());
+            }
+            return flushed;
+        } catch (RuntimeException e) {
+            if (!restoreOnRollback) {
+                restoreDirty(dirtyDates);
+            }
+            throw e;
+        }
+    }
+
+    /*
+     * dirty 객실 목록에서 객실을 먼저 빼고 객실의 날짜를 꺼낸다.
+     * 그 사이 변경된 날짜는 스크립트 뒤에 객실을 다시 등록하므로 잃지 않고, 다 꺼내지 못한 객실은 다시 등록한다.
+     * */
+    private Map<Long, List<Object>> popDirty(int batchSize) {
+        Map<Long, List<Object>> dirtyDates = new HashMap<>();
+        List<Object> roomIds = redisTemplate.opsForSet().pop(DIRTY_ROOMS_KEY, batchSize);
+        if (roomIds == null) {
+            return dirtyDates;
+        }
+
+        int remaining = batchSize;
+        for (Object value : roomIds) {
+            Long roomId = Long.parseLong((String) value);
+            List<Object> dates = (remaining > 0)
+                ? redisTemplate.opsForSet().pop(dirtyKey(roomId), remaining)
+                : null;
+            if (dates != null && !dates.isEmpty()) {
+                dirtyDates.put(roomId, dates);
+                remaining -= dates.size();
+            }
+
+            Long left = redisTemplate.opsForSet().size(dirtyKey(roomId));
+            if (left != null && left > 0) {
+                markDirty(roomId);
+            }
+        }
+        return dirtyDates;
+    }
+
+    private int flushRoom(Long roomId, List<Object> dates) {
+        List<String> keys = new ArrayList<>();
+        for (Object date : dates) {
+            keys.add(toKey(roomId, LocalDate.parse((String) date)));
+        }
+
+        List<Object> counts = redisTemplate.opsForValue().multiGet(keys);
+        int flushed = 0;
+        for (int i = 0; i < dates.size(); i++) {
+            Object count = counts == null ? null : counts.get(i);
+            if (count == null) {
+                continue;
+            }
+            flushed += roomStockRepository.updateCount(
+                roomId,
+                LocalDate.parse((String) dates.get(i)),
+                Integer.parseInt((String) count)
+            );
+        }
+        // 커밋된 뒤 캐시가 room_stock 에 반영된 재고를 다시 읽음
+        eventPublisher.publishEvent(RoomStockEvent.of(roomId));
+        return flushed;
+    }
+
+    /*
+     * 메서드가 끝난 뒤 커밋이 실패해도 꺼낸 날짜를 잃지 않도록 트랜잭션이 커밋되지 않으면 다시 넣는다.
+     * 트랜잭션 밖에서 호출되어 등록하지 못하면 false 반환
+     * */
+    private boolean restoreOnRollback(Map<Long, List<Object>> dirtyDates) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        restoreDirty(dirtyDates);
+                    }
+                }
+            });
+        return true;
+    }
+
+    private void restoreDirty(Map<Long, List<Object>> dirtyDates) {
+        dirtyDates.forEach((roomId, dates) -> {
+            try {
+                redisTemplate.opsForSet().add(dirtyKey(roomId), dates.toArray());
+                markDirty(roomId);
+            } catch (RuntimeException e) {
+                log.error("객실 재고 dirty set 복구 실패. 수동 처리가 필요합니다. roomId={}, dates={}",
+                    roomId, dates, e);
+            }
+        });
+    }
+
+    private void markDirty(Long roomId) {
+        redisTemplate.opsForSet().add(DIRTY_ROOMS_KEY, String.valueOf(roomId));
+    }
+
+    private long executeWithLoad(
+        RedisScript<Long> script, Long roomId, List<LocalDate> dates, int quantity
+    ) {
+        Long result = execute(script, roomId, dates, quantity);
+
+        if (result != null && result == NOT_LOADED) {
+            load(roomId, dates);
+            result = execute(script, roomId, dates, quantity);
+        }
+
+        if (result == null) {
+            return NOT_LOADED;
+        }
+        if (result == INSUFFICIENT) {
+            log.info("객실 재고 부족. roomId: {}, dates: {}", roomId, dates);
+        }
+        return result;
+    }
+
+    /*
+     * 스크립트는 한 객실의 슬롯에 있는 키만 다루고, 변경된 객실은 스크립트가 끝난 뒤 전역 dirty 객실 목록에 등록한다.
+     * 반영 주기가 객실을 목록에서 뺀 뒤 날짜를 꺼내므로, 스크립트 뒤에 등록해야 그 사이 변경된 날짜를 잃지 않는다.
+     * */
+    private Long execute(
+        RedisScript<Long> script, Long roomId, List<LocalDate> dates, int quantity
+    ) {
+        List<String> keys = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        args.add(String.valueOf(quantity));
+
+        for (LocalDate date : dates) {
+            keys.add(toKey(roomId, date));
+            args.add(date.toString());
+        }
+        keys.add(dirtyKey(roomId));
+
+        Long result = redisTemplate.execute(script, keys, args.toArray());
+        markDirty(roomId);
+        return result;
+    }
+
+    // 캐시 미스인 날짜의 재고를 DB 에서 읽어 Redis 에 적재한다. 이미 적재된 키는 덮어쓰지 않는다.
+    private void load(Long roomId, Collection<LocalDate> dates) {
+        List<RoomStock> stocks = roomStockRepository.findAllByRoomIdAndDateIn(roomId, dates);
+
+        for (RoomStock stock : stocks) {
+            redisTemplate.opsForValue().setIfAbsent(
+                toKey(roomId, stock.getDate()),
+                String.valueOf(stock.getCount()),
+                getTimeToLive(stock.getDate())
+            );
+        }
+    }
+
+    // 숙박일이 지나고 하루 뒤에 만료시켜 지난 날짜의 키가 쌓이지 않도록 한다.
+    private Duration getTimeToLive(LocalDate date) {
+        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+        Duration ttl = Duration.between(now, date.plusDays(2).atStartOfDay());
+        return ttl.isNegative() ? Duration.ofDays(1) : ttl;
+    }
+
+    private String toKey(Long roomId, LocalDate date) {
+        return String.format(STOCK_KEY_FORMAT, roomId, date);
+    }
+
+    private String dirtyKey(Long roomId) {
+        return String.format(DIRTY_KEY_FORMAT, roomId);
+    }
+}
@@ -0,0 +1,93 @@
+package com.backoffice.upjuyanolja.domain.room.cache;
+
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 객실의 날짜 별 잔여 재고
+ * <p>
+ * baseDate 로부터의 일 수를 인덱스로 하는 int 배열에 재고를 담는다. 재고 행이 없는 날짜는 {@link #NO_STOCK} 으로 표시한다.
+ * 생성 이후 변경되지 않으므로 여러 스레드에서 동시에 읽을 수 있다. 조회 기간은 {@link #covers} 로 먼저 확인해야 한다.
+ */
+public final class RoomAvailability {
+
+    static final int NO_STOCK = -1;
+
+    private final LocalDate baseDate;
+    private final int[] counts;
+
+    private RoomAvailability(LocalDate baseDate, int[] counts) {
+        this.baseDate = baseDate;
+        this.counts = counts;
+    }
+
+    /**
+     * startDate 부터 endDate 까지의 재고 배열을 만든다. endDate 가 startDate 보다 앞서면 재고가 없는 빈 배열을 만든다.
+     *
+     * @param roomStocks : 기간에 포함된 객실 재고 목록
+     * @param startDate  : 시작 일자
+     * @param endDate    : 종료 일자
+     * @return 객실 재고 배열
+     */
+    public static RoomAvailability of(
+        List<RoomStock> roomStocks, LocalDate startDate, LocalDate endDate
+    ) {
+        int[] counts = new int[Math.max(0, (int) ChronoUnit.DAYS.between(startDate, endDate) + 1)];
+        Arrays.fill(counts, NO_STOCK);
+
+        for (RoomStock roomStock : roomStocks) {
+            int offset = (int) ChronoUnit.DAYS.between(startDate, roomStock.getDate());
+            if (offset >= 0 && offset < counts.length) {
+                counts[offset] = roomStock.getCount();
+            }
+        }
+        return new RoomAvailability(startDate, counts);
+    }
+
+    public LocalDate getBaseDate() {
+        return baseDate;
+    }
+
+    public boolean covers(LocalDate startDate, LocalDate endDate) {
+        return !startDate.isBefore(baseDate)
+            && ChronoUnit.DAYS.between(baseDate, endDate) < counts.length;
+    }
+
+    /**
+     * 기간 중 재고 정보가 있는 날짜가 하루라도 있는지 확인한다.
+     */
+    public boolean hasStock(LocalDate startDate, LocalDate endDate) {
+        int from = offset(startDate);
+        int to = offset(endDate);
+
+        for (int i = from; i <= to; i++) {
+            if (counts[i] != NO_STOCK) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 기간 중 최소 잔여 재고를 반환한다. 재고 정보가 없으면 0을 반환한다.
+     */
+    public int getMinStock(LocalDate startDate, LocalDate endDate) {
+        int from = offset(startDate);
+        int to = offset(endDate);
+        int min = Integer.MAX_VALUE;
+
+        for (int i = from; i <= to; i++) {
+            if (counts[i] != NO_STOCK && counts[i] < min) {
+                min = counts[i];
+            }
+        }
+        return min == Integer.MAX_VALUE ? 0 : min;
+    }
+
+    private int offset(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(baseDate, date);
+    }
+}
@@ -0,0 +1,146 @@
+package com.backoffice.upjuyanolja.domain.room.cache;
+
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.event.RoomStockEvent;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 객실 별 30일 잔여 재고 캐시
+ * <p>
+ * RoomStockScheduler 가 유지하는 오늘부터 30일 구간의 재고를 객실 단위 배열로 보관한다. 재고가 변경되면
+ * {@link RoomStockEvent} 를 받아 해당 객실을 무효화하고, 다음 조회 시 숙소 단위 한 번의 쿼리로 다시 적재한다. 적재 중에 무효화된
+ * 객실은 변경 전 재고를 읽었을 수 있으므로 캐시에 넣지 않는다. 다른 서버에서 일어난 변경은 이벤트로 전달되지 않으므로
+ * expireAfterWrite 로 최대 지연 시간을 제한한다.
+ */
+@Component
+public class RoomAvailabilityCache {
+
+    private static final int WINDOW_DAYS = 30;
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final RoomStockRepository roomStockRepository;
+    private final Cache<Long, RoomAvailability> cache;
+
+    /*
+     * 객실 별 마지막 무효화 순번
+     * 순번은 전체에서 하나씩 증가해 다시 쓰이지 않으므로, 캐시와 같은 시간이 지나 만료되어도 진행 중인 적재를 잘못 통과시키지 않는다.
+     * */
+    private final AtomicLong invalidationSequence = new AtomicLong();
+    private final Cache<Long, Long> generations;
+
+    public RoomAvailabilityCache(
+        RoomStockRepository roomStockRepository,
+        @Value("${room.availability.cache.maximum-size:10000}") long maximumSize,
+        @Value("${room.availability.cache.expire-after-write-seconds:60}") long expireSeconds
+    ) {
+        this.roomStockRepository = roomStockRepository;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+            .build();
+        this.generations = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+            .build();
+    }
+
+    /**
+     * 숙소의 객실 별 잔여 재고를 조회한다. 조회 기간이 30일 구간 안이면 캐시를 사용하고, 벗어나면 해당 기간만 DB 에서 조회한다.
+     *
+     * @param accommodationId : 숙소 식별자
+     * @param roomIds         : 숙소의 객실 식별자 목록
+     * @param startDate       : 시작 일자
+     * @param endDate         : 종료 일자
+     * @return 객실 식별자 별 잔여 재고
+     */
+    public Map<Long, RoomAvailability> getAvailabilities(
+        long accommodationId, List<Long> roomIds, LocalDate startDate, LocalDate endDate
+    ) {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        LocalDate lastDate = today.plusDays(WINDOW_DAYS - 1);
+
+        if (endDate.isBefore(startDate)) {
+            return toAvailabilities(roomIds, List.of(), startDate, endDate);
+        }
+        if (startDate.isBefore(today) || endDate.isAfter(lastDate)) {
+            return load(accommodationId, roomIds, startDate, endDate);
+        }
+
+        Map<Long, RoomAvailability> availabilities = new HashMap<>(
+            cache.getAllPresent(roomIds));
+        availabilities.values().removeIf(availability -> !today.equals(availability.getBaseDate()));
+
+        if (availabilities.size() == roomIds.size()) {
+            return availabilities;
+        }
+
+        Map<Long, Long> loadGenerations = new HashMap<>();
+        roomIds.forEach(roomId -> loadGenerations.put(
+            roomId, getGeneration(roomId)));
+        Map<Long, RoomAvailability> loaded = load(accommodationId, roomIds, today, lastDate);
+        loaded.forEach((roomId, availability) -> cacheIfUnchanged(
+            roomId, availability, loadGenerations.get(roomId)));
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleRoomStockEvent(RoomStockEvent event) {
+        generations.asMap().compute(event.roomId(), (roomId, generation) -> {
+            cache.invalidate(roomId);
+            return invalidationSequence.incrementAndGet();
+        });
+    }
+
+    /*
+     * 적재를 시작한 뒤 무효화 순번이 바뀌지 않았을 때만 캐시에 넣는다.
+     * 무효화와 같은 키의 compute 안에서 비교하고 넣으므로 비교와 저장 사이에 무효화가 끼어들지 못한다.
+     * */
+    private void cacheIfUnchanged(Long roomId, RoomAvailability availability, long loadGeneration) {
+        generations.asMap().compute(roomId, (key, generation) -> {
+            if (((generation == null) ? 0L : generation) == loadGeneration) {
+                cache.put(key, availability);
+            }
+            return generation;
+        });
+    }
+
+    private long getGeneration(Long roomId) {
+        Long generation = generations.getIfPresent(roomId);
+        return (generation == null) ? 0L : generation;
+    }
+
+    private Map<Long, RoomAvailability> load(
+        long accommodationId, List<Long> roomIds, LocalDate startDate, LocalDate endDate
+    ) {
+        return toAvailabilities(roomIds, roomStockRepository
+            .findAllByAccommodationIdAndDateBetween(accommodationId, startDate, endDate),
+            startDate, endDate);
+    }
+
+    private Map<Long, RoomAvailability> toAvailabilities(
+        List<Long> roomIds, List<RoomStock> stocks, LocalDate startDate, LocalDate endDate
+    ) {
+        Map<Long, List<RoomStock>> roomStocks = stocks.stream()
+            .collect(Collectors.groupingBy(stock -> stock.getRoom().getId()));
+
+        Map<Long, RoomAvailability> availabilities = new HashMap<>();
+        for (Long roomId : roomIds) {
+            availabilities.put(roomId, RoomAvailability.of(
+                roomStocks.getOrDefault(roomId, List.of()), startDate, endDate
+            ));
+        }
+        return availabilities;
+    }
+}
@@ -0,0 +1,16 @@
+package com.backoffice.upjuyanolja.domain.room.dto.response;
+
+import com.backoffice.upjuyanolja.domain.room.entity.PackedDailyCounts;
+import java.time.YearMonth;
+
+public record RoomMonthlyStockQueryDto(
+    Long id,
+    YearMonth month,
+    byte[] counts,
+    long version
+) {
+
+    public PackedDailyCounts dailyCounts() {
+        return PackedDailyCounts.from(counts);
+    }
+}
@@ -14,6 +14,8 @@ public record RoomResponse(
     String name,
     int basePrice,
     int discountPrice,
+    int stayPrice,
+    int stayDiscountPrice,
     int defaultCapacity,
     int maxCapacity,
     String checkInTime,
@@ -27,7 +29,7 @@ public record RoomResponse(
 
     public static RoomResponse of(
         Room room, RoomOption option, int roomPrice,
-        int discountPrice, boolean soldOut, int count,
+        int discountPrice, int stayPrice, int stayDiscountPrice, boolean soldOut, int count,
         List<String> images, List<CouponDetailResponse> coupons
 
     ) {
@@ -36,6 +38,8 @@ public record RoomResponse(
             .name(room.getName())
             .basePrice(roomPrice)
             .discountPrice(discountPrice)
+            .stayPrice(stayPrice)
+            .stayDiscountPrice(stayDiscountPrice)
             .defaultCapacity(room.getDefaultCapacity())
             .maxCapacity(room.getMaxCapacity())
             .checkInTime(room.getCheckInTime().format(DateTimeFormatter.ofPattern("HH:mm")))
@@ -0,0 +1,104 @@
+package com.backoffice.upjuyanolja.domain.room.entity;
+
+import java.nio.ByteBuffer;
+import java.time.YearMonth;
+import java.util.Arrays;
+
+/**
+ * 한 달치 일별 객실 재고
+ * <p>
+ * 1일부터 말일까지의 재고를 4바이트 정수로 이어 붙여 하나의 바이너리 컬럼에 저장한다. 불변 객체이며, 변경 메서드는 새 값을
+ * 반환한다. 날짜 범위는 일(day of month) 단위로, 양 끝을 포함한다.
+ */
+public final class PackedDailyCounts {
+
+    public static final int MAX_BYTES = 31 * Integer.BYTES;
+
+    private final int[] counts;
+
+    private PackedDailyCounts(int[] counts) {
+        this.counts = counts;
+    }
+
+    public static PackedDailyCounts filled(YearMonth month, int count) {
+        int[] counts = new int[month.lengthOfMonth()];
+        Arrays.fill(counts, count);
+        return new PackedDailyCounts(counts);
+    }
+
+    public static PackedDailyCounts from(byte[] packed) {
+        if (packed.length % Integer.BYTES != 0 || packed.length > MAX_BYTES) {
+            throw new IllegalArgumentException();
+        }
+
+        int[] counts = new int[packed.length / Integer.BYTES];
+        ByteBuffer.wrap(packed).asIntBuffer().get(counts);
+        return new PackedDailyCounts(counts);
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(counts.length * Integer.BYTES);
+        buffer.asIntBuffer().put(counts);
+        return buffer.array();
+    }
+
+    public int days() {
+        return counts.length;
+    }
+
+    public int get(int dayOfMonth) {
+        return counts[index(dayOfMonth)];
+    }
+
+    public int min(int fromDay, int toDay) {
+        checkRange(fromDay, toDay);
+
+        int min = Integer.MAX_VALUE;
+        for (int i = index(fromDay); i <= index(toDay); i++) {
+            min = Math.min(min, counts[i]);
+        }
+        return min;
+    }
+
+    /**
+     * 범위의 모든 날짜에 delta 만큼 더한 값을 반환한다.
+     *
+     * @throws IllegalArgumentException 범위 안에 0 보다 작아지는 날짜가 있는 경우
+     */
+    public PackedDailyCounts add(int fromDay, int toDay, int delta) {
+        checkRange(fromDay, toDay);
+
+        int[] updated = counts.clone();
+        for (int i = index(fromDay); i <= index(toDay); i++) {
+            updated[i] = Math.addExact(updated[i], delta);
+            if (updated[i] < 0) {
+                throw new IllegalArgumentException();
+            }
+        }
+        return new PackedDailyCounts(updated);
+    }
+
+    public PackedDailyCounts set(int fromDay, int toDay, int count) {
+        checkRange(fromDay, toDay);
+        if (count < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        int[] updated = counts.clone();
+        Arrays.fill(updated, index(fromDay), index(toDay) + 1, count);
+        return new PackedDailyCounts(updated);
+    }
+
+    private int index(int dayOfMonth) {
+        if (dayOfMonth < 1 || dayOfMonth > counts.length) {
+            throw new IllegalArgumentException();
+        }
+        return dayOfMonth - 1;
+    }
+
+    private void checkRange(int fromDay, int toDay) {
+        if (fromDay > toDay) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
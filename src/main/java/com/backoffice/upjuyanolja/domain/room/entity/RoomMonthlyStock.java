@@ -0,0 +1,74 @@
+package com.backoffice.upjuyanolja.domain.room.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.YearMonth;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 객실 월별 재고
+ * <p>
+ * 객실 한 개의 한 달치 일별 재고를 한 행에 {@link PackedDailyCounts} 로 묶어 저장한다. 숙박 기간 재고 확인은 1~2 행만
+ * 읽으며, 변경은 버전을 조건으로 한 UPDATE 로 처리한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_room_monthly_stock_room_id_month",
+        columnList = "room_id, stock_month", unique = true)
+})
+public class RoomMonthlyStock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("객실 월별 재고 식별자")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false, name = "room_id")
+    @Comment("객실 식별자")
+    private Room room;
+
+    @Column(name = "stock_month", nullable = false, length = 7)
+    @Comment("재고 월 (yyyy-MM)")
+    private YearMonth month;
+
+    @Column(nullable = false, length = PackedDailyCounts.MAX_BYTES)
+    @Comment("1일부터 말일까지의 일별 재고")
+    private byte[] counts;
+
+    @Version
+    @Comment("낙관적 락 버전")
+    private long version;
+
+    @Builder
+    public RoomMonthlyStock(
+        Long id,
+        Room room,
+        YearMonth month,
+        PackedDailyCounts counts
+    ) {
+        this.id = id;
+        this.room = room;
+        this.month = month;
+        this.counts = counts.toBytes();
+    }
+
+    public PackedDailyCounts getDailyCounts() {
+        return PackedDailyCounts.from(counts);
+    }
+}
@@ -6,8 +6,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -18,10 +23,17 @@ import org.hibernate.annotations.Comment;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+// 기존 DB 는 ddl-auto 로 유니크 제약이 추가되지 않을 수 있으므로 README 의 마이그레이션 절차를 먼저 적용한다.
+@Table(uniqueConstraints = {
+    @UniqueConstraint(name = "uk_room_stock_room_id_date", columnNames = {"room_id", "date"})
+}, indexes = {
+    @Index(name = "idx_room_stock_date", columnList = "date")
+})
 public class RoomStock {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_stock_seq")
+    @SequenceGenerator(name = "room_stock_seq", allocationSize = 50)
     @Comment("객실 재고 식별자")
     private Long id;
 
@@ -37,6 +49,10 @@ public class RoomStock {
     @Comment("날짜")
     private LocalDate date;
 
+    @Version
+    @Comment("낙관적 락 버전")
+    private long version;
+
     @Builder
     public RoomStock(
         Long id,
@@ -61,12 +77,4 @@ public class RoomStock {
 
         this.count -= quantity;
     }
-
-    public void update(int quantity) {
-        if (this.count < quantity) {
-            this.count = this.count + quantity;
-        } else {
-            this.count = Math.max(this.count - quantity, 0);
-        }
-    }
 }
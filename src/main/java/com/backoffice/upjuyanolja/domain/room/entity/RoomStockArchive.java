@@ -0,0 +1,47 @@
+package com.backoffice.upjuyanolja.domain.room.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+/**
+ * 보관 기간이 지난 객실 재고
+ * <p>
+ * {@link RoomStock} 에서 옮겨 온 행을 원래 식별자 그대로 저장한다. 객실이 삭제되어도 이력이 남도록 객실과 연관관계를 두지 않으며,
+ * 조회 전용이다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+    @Index(name = "idx_room_stock_archive_room_id_date", columnList = "room_id, date")
+})
+public class RoomStockArchive {
+
+    @Id
+    @Comment("객실 재고 식별자")
+    private Long id;
+
+    @Column(nullable = false, name = "room_id")
+    @Comment("객실 식별자")
+    private Long roomId;
+
+    @Column(nullable = false)
+    @Comment("객실 재고")
+    private int count;
+
+    @Comment("날짜")
+    private LocalDate date;
+
+    @Column(nullable = false)
+    @Comment("보관 처리 일시")
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,15 @@
+package com.backoffice.upjuyanolja.domain.room.event;
+
+/**
+ * 객실 재고가 변경되었음을 알린다.
+ *
+ * @param roomId : 재고가 변경된 객실 식별자
+ */
+public record RoomStockEvent(
+    Long roomId
+) {
+
+    public static RoomStockEvent of(Long roomId) {
+        return new RoomStockEvent(roomId);
+    }
+}
@@ -0,0 +1,11 @@
+package com.backoffice.upjuyanolja.domain.room.exception;
+
+import com.backoffice.upjuyanolja.global.exception.ApplicationException;
+import com.backoffice.upjuyanolja.global.exception.ErrorCode;
+
+public class RoomStockShortageException extends ApplicationException {
+
+    public RoomStockShortageException() {
+        super(ErrorCode.ROOM_STOCK_SHORTAGE);
+    }
+}
@@ -2,6 +2,7 @@ package com.backoffice.upjuyanolja.domain.room.repository;
 
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomImage;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -9,4 +10,6 @@ public interface RoomImageRepository extends JpaRepository<RoomImage, Long> {
 
     List<RoomImage> findByRoom(Room room);
 
+    List<RoomImage> findAllByRoomIn(Collection<Room> rooms);
+
 }
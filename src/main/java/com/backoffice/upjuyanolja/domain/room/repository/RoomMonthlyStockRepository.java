@@ -0,0 +1,35 @@
+package com.backoffice.upjuyanolja.domain.room.repository;
+
+import com.backoffice.upjuyanolja.domain.room.dto.response.RoomMonthlyStockQueryDto;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomMonthlyStock;
+import java.time.YearMonth;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RoomMonthlyStockRepository extends JpaRepository<RoomMonthlyStock, Long> {
+
+    // 영속성 컨텍스트를 거치지 않아 재시도할 때마다 최신 값을 읽는다. 월은 yyyy-MM 문자열이라 사전 순 비교가 가능하다.
+    @Query("select new com.backoffice.upjuyanolja.domain.room.dto.response"
+        + ".RoomMonthlyStockQueryDto(s.id, s.month, s.counts, s.version) "
+        + "from RoomMonthlyStock s "
+        + "where s.room.id = :roomId and s.month between :startMonth and :endMonth "
+        + "order by s.month asc")
+    List<RoomMonthlyStockQueryDto> findAllByRoomIdAndMonthBetween(
+        @Param("roomId") Long roomId,
+        @Param("startMonth") YearMonth startMonth,
+        @Param("endMonth") YearMonth endMonth
+    );
+
+    // 읽은 뒤 다른 요청이 변경하지 않았을 때만 갱신된다. 반환값이 0 이면 다시 읽고 재시도해야 한다.
+    @Modifying
+    @Query("update RoomMonthlyStock s set s.counts = :counts, s.version = s.version + 1 "
+        + "where s.id = :id and s.version = :version")
+    int compareAndSetCounts(
+        @Param("id") Long id,
+        @Param("version") long version,
+        @Param("counts") byte[] counts
+    );
+}
@@ -2,6 +2,8 @@ package com.backoffice.upjuyanolja.domain.room.repository;
 
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomOption;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -9,4 +11,6 @@ public interface RoomOptionRepository extends JpaRepository<RoomOption, Long> {
 
     Optional<RoomOption> findByRoom(Room room);
 
+    List<RoomOption> findAllByRoomIn(Collection<Room> rooms);
+
 }
@@ -4,6 +4,7 @@ import com.backoffice.upjuyanolja.domain.room.entity.Room;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,4 +13,6 @@ public interface RoomPriceRepository extends JpaRepository<RoomPrice, Long> {
 
     Optional<RoomPrice> findByRoom(Room room);
 
+    List<RoomPrice> findAllByRoomIn(Collection<Room> rooms);
+
 }
@@ -3,13 +3,86 @@ package com.backoffice.upjuyanolja.domain.room.repository;
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RoomStockRepository extends JpaRepository<RoomStock, Long> {
 
     Optional<List<RoomStock>> findByRoom(Room room);
 
     List<RoomStock> findAllByRoomAndDateAfter(Room room, LocalDate date);
+
+    // (room_id, date) 인덱스 범위 조회
+    List<RoomStock> findAllByRoomAndDateBetweenOrderByDateAsc(
+        Room room, LocalDate startDate, LocalDate endDate
+    );
+
+    // 숙소의 모든 객실 재고를 기간 단위로 한 번에 조회
+    @Query("select s from RoomStock s join s.room r "
+        + "where r.accommodation.id = :accommodationId "
+        + "and s.date between :startDate and :endDate "
+        + "order by s.date asc")
+    List<RoomStock> findAllByAccommodationIdAndDateBetween(
+        @Param("accommodationId") Long accommodationId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+
+    List<RoomStock> findAllByRoomIdAndDateIn(Long roomId, Collection<LocalDate> dates);
+
+    // 모든 대상의 재고가 quantity 이상일 때만 차감된다. 반환값으로 차감된 행 수를 확인해야 한다.
+    @Modifying
+    @Query("update RoomStock s set s.count = s.count - :quantity, s.version = s.version + 1 "
+        + "where s.id in :ids and s.count >= :quantity")
+    int decreaseCountByIdIn(
+        @Param("ids") Collection<Long> ids,
+        @Param("quantity") int quantity
+    );
+
+    @Modifying
+    @Query("update RoomStock s set s.count = s.count + :quantity, s.version = s.version + 1 "
+        + "where s.id in :ids")
+    int increaseCountByIdIn(
+        @Param("ids") Collection<Long> ids,
+        @Param("quantity") int quantity
+    );
+
+    // 남은 재고보다 많이 줄이는 날짜들의 부족분 합계
+    @Query("select coalesce(sum(-(s.count + :delta)), 0) from RoomStock s "
+        + "where s.room.id = :roomId and s.date >= :startDate and s.count + :delta < 0")
+    long sumShortageByRoomIdAndDateFrom(
+        @Param("roomId") Long roomId,
+        @Param("startDate") LocalDate startDate,
+        @Param("delta") int delta
+    );
+
+    // 판매된 수량은 유지하고 남은 재고만 delta 만큼 옮긴다. 남은 재고보다 많이 줄이면 0 이 된다.
+    @Modifying
+    @Query("update RoomStock s set s.count = case when s.count + :delta < 0 then 0 "
+        + "else s.count + :delta end, s.version = s.version + 1 "
+        + "where s.room.id = :roomId and s.date >= :startDate")
+    int shiftCountByRoomIdAndDateFrom(
+        @Param("roomId") Long roomId,
+        @Param("startDate") LocalDate startDate,
+        @Param("delta") int delta
+    );
+
+    @Query("select s.date from RoomStock s where s.room.id = :roomId and s.date >= :startDate")
+    List<LocalDate> findDatesByRoomIdAndDateFrom(
+        @Param("roomId") Long roomId,
+        @Param("startDate") LocalDate startDate
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("update RoomStock s set s.count = :count where s.room.id = :roomId and s.date = :date")
+    int updateCount(
+        @Param("roomId") Long roomId,
+        @Param("date") LocalDate date,
+        @Param("count") int count
+    );
 }
@@ -1,11 +1,13 @@
 package com.backoffice.upjuyanolja.domain.room.service;
 
 import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.event.AccommodationSummaryEvent;
 import com.backoffice.upjuyanolja.domain.accommodation.exception.AccommodationNotFoundException;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationOwnershipRepository;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.member.service.MemberGetService;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationStockService;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomImageAddRequest;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomImageDeleteRequest;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomImageRequest;
@@ -40,6 +42,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -58,8 +61,10 @@ public class RoomCommandService implements RoomCommandUseCase {
 
     private final MemberGetService memberGetService;
     private final RoomQueryUseCase roomQueryUseCase;
+    private final ReservationStockService reservationStockService;
 
     private final EntityManager em;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public RoomInfoResponse registerRoom(
@@ -100,6 +105,7 @@ public class RoomCommandService implements RoomCommandUseCase {
 
         RoomOption roomOption = saveRoomOption(room, request.option());
         RoomPrice roomPrice = saveRoomPrice(room, request.price());
+        eventPublisher.publishEvent(AccommodationSummaryEvent.of(accommodation.getId()));
 
         return RoomInfoResponse.of(room, roomOption, roomImages, roomPrice.getOffWeekDaysMinFee());
     }
@@ -144,6 +150,7 @@ public class RoomCommandService implements RoomCommandUseCase {
         RoomOption roomOption = updateRoomOption(room, request.option().toRoomOptionUpdateDto());
         RoomPrice roomPrice = updateRoomPrice(room, request.price());
         List<RoomImage> roomImages = roomQueryUseCase.findRoomImageByRoom(room);
+        eventPublisher.publishEvent(AccommodationSummaryEvent.of(room.getAccommodation().getId()));
 
         em.flush();
         em.refresh(room);
@@ -168,6 +175,7 @@ public class RoomCommandService implements RoomCommandUseCase {
         RoomPrice roomPrice = roomQueryUseCase.findRoomPriceByRoom(room);
         roomPrice.delete(LocalDateTime.now());
         List<RoomImage> roomImages = deleteAllRoomImages(room);
+        eventPublisher.publishEvent(AccommodationSummaryEvent.of(room.getAccommodation().getId()));
 
         return RoomInfoResponse.of(room, roomOption, roomImages, roomPrice.getOffWeekDaysMinFee());
     }
@@ -225,10 +233,9 @@ public class RoomCommandService implements RoomCommandUseCase {
         return roomPrice;
     }
 
+    // 오늘 이후 재고를 객실 수량 변경분만큼 한 번에 조정. 이미 판매된 수량은 유지됨
     private void updateRoomStock(Room room, int quantity) {
-        List<RoomStock> stocks = roomStockRepository
-            .findAllByRoomAndDateAfter(room, LocalDate.now().minusDays(1));
-        stocks.forEach(stock -> stock.update(quantity));
+        reservationStockService.adjustRoomStocks(room.getId(), LocalDate.now(), quantity);
     }
 
     private void addRoomImages(Room room, List<RoomImageAddRequest> requests) {
@@ -0,0 +1,114 @@
+package com.backoffice.upjuyanolja.domain.room.service;
+
+import com.backoffice.upjuyanolja.domain.room.dto.response.RoomMonthlyStockQueryDto;
+import com.backoffice.upjuyanolja.domain.room.entity.PackedDailyCounts;
+import com.backoffice.upjuyanolja.domain.room.exception.RoomStockConflictException;
+import com.backoffice.upjuyanolja.domain.room.exception.RoomStockNotFoundException;
+import com.backoffice.upjuyanolja.domain.room.exception.RoomStockShortageException;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomMonthlyStockRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 객실 월별 재고 서비스
+ * <p>
+ * 숙박 기간을 월 단위로 나누어 월별 재고 행을 읽고, 버전 조건 UPDATE 로 변경한다. 다른 요청과 겹쳐 갱신에 실패하면 다시
+ * 읽어 재시도하며, 기간이 여러 달에 걸치면 한 트랜잭션 안에서 모두 변경되거나 모두 롤백된다.
+ * <p>
+ * 아직 예약, 취소, 객실 수량 변경 경로가 room_stock 만 변경하므로 월별 재고는 읽지도 생성하지도 않는다. 예약 경로를 옮길 때
+ * 월별 재고 생성도 함께 켜야 두 재고가 어긋나지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoomMonthlyStockService {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final RoomMonthlyStockRepository roomMonthlyStockRepository;
+
+    /**
+     * 기간의 모든 날짜에 재고가 quantity 이상 남아 있는지 확인한다.
+     *
+     * @param roomId    : 객실 식별자
+     * @param startDate : 시작일
+     * @param endDate   : 종료일 (포함)
+     * @param quantity  : 필요한 재고 수
+     * @return 재고가 없는 달이 있거나 부족한 날짜가 있으면 false
+     */
+    @Transactional(readOnly = true)
+    public boolean isAvailable(Long roomId, LocalDate startDate, LocalDate endDate, int quantity) {
+        YearMonth startMonth = YearMonth.from(startDate);
+        YearMonth endMonth = YearMonth.from(endDate);
+        List<RoomMonthlyStockQueryDto> stocks = roomMonthlyStockRepository
+            .findAllByRoomIdAndMonthBetween(roomId, startMonth, endMonth);
+
+        if (stocks.size() != startMonth.until(endMonth, ChronoUnit.MONTHS) + 1) {
+            return false;
+        }
+        for (RoomMonthlyStockQueryDto stock : stocks) {
+            if (stock.dailyCounts().min(firstDay(stock.month(), startDate),
+                lastDay(stock.month(), endDate)) < quantity) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * 재시도할 때 다른 요청이 커밋한 값을 읽을 수 있도록 READ COMMITTED 로 실행
+     * 이미 시작된 트랜잭션에 참여하면 그 트랜잭션의 격리 수준을 따름
+     * */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void decrease(Long roomId, LocalDate startDate, LocalDate endDate, int quantity) {
+        update(roomId, startDate, endDate, -quantity);
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void increase(Long roomId, LocalDate startDate, LocalDate endDate, int quantity) {
+        update(roomId, startDate, endDate, quantity);
+    }
+
+    private void update(Long roomId, LocalDate startDate, LocalDate endDate, int delta) {
+        for (YearMonth month = YearMonth.from(startDate);
+            !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            compareAndSet(roomId, month,
+                firstDay(month, startDate), lastDay(month, endDate), delta);
+        }
+    }
+
+    private void compareAndSet(Long roomId, YearMonth month, int fromDay, int toDay, int delta) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            RoomMonthlyStockQueryDto stock = roomMonthlyStockRepository
+                .findAllByRoomIdAndMonthBetween(roomId, month, month).stream()
+                .findFirst()
+                .orElseThrow(RoomStockNotFoundException::new);
+
+            PackedDailyCounts counts = stock.dailyCounts();
+            if (counts.min(fromDay, toDay) + delta < 0) {
+                throw new RoomStockShortageException();
+            }
+
+            int updated = roomMonthlyStockRepository.compareAndSetCounts(
+                stock.id(), stock.version(), counts.add(fromDay, toDay, delta).toBytes());
+            if (updated == 1) {
+                return;
+            }
+        }
+        throw new RoomStockConflictException();
+    }
+
+    private int firstDay(YearMonth month, LocalDate startDate) {
+        return month.equals(YearMonth.from(startDate)) ? startDate.getDayOfMonth() : 1;
+    }
+
+    private int lastDay(YearMonth month, LocalDate endDate) {
+        return month.equals(YearMonth.from(endDate))
+            ? endDate.getDayOfMonth() : month.lengthOfMonth();
+    }
+}
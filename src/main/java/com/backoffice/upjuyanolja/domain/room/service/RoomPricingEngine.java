@@ -0,0 +1,167 @@
+package com.backoffice.upjuyanolja.domain.room.service;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 객실 숙박 가격 계산기
+ * <p>
+ * 숙박일마다 성수기 여부와 주말 여부로 {@link RoomPrice} 의 네 가지 가격 중 하나를 골라 합산한다. 성수기 기간과 주말 요일은
+ * 설정으로 바꿀 수 있으며, 생성 시 월-일 별 성수기 표와 요일 별 주말 표로 만들어 둔다. 숙박일은 epoch day 로 순회하고 월, 일은
+ * 산술로 계산하므로 숙박일 수와 관계없이 객체를 만들지 않는다.
+ */
+@Component
+public class RoomPricingEngine {
+
+    private static final int OFF_WEEKDAYS = 0;
+    private static final int OFF_WEEKEND = 1;
+    private static final int PEAK_WEEKDAYS = 2;
+    private static final int PEAK_WEEKEND = 3;
+
+    // 기준 연도는 2월 29일을 포함하도록 윤년을 사용
+    private static final int LEAP_YEAR = 2000;
+
+    // 월 * 32 + 일 인덱스 별 성수기 여부
+    private final boolean[] peakDays = new boolean[13 * 32];
+
+    // 월요일 = 0 인 요일 인덱스 별 주말 여부
+    private final boolean[] weekendDays = new boolean[7];
+
+    /**
+     * @param peakSeasons : 쉼표로 구분한 성수기 기간 (MM-dd~MM-dd), 시작일이 종료일보다 늦으면 연말에서 연초로 이어지는 기간
+     * @param weekendDays : 쉼표로 구분한 주말 요일 (FRIDAY, SATURDAY), 해당 요일에 숙박하면 주말 가격이 적용됨
+     */
+    public RoomPricingEngine(
+        @Value("${room.pricing.peak-seasons:07-15~08-31}") String peakSeasons,
+        @Value("${room.pricing.weekend-days:FRIDAY,SATURDAY}") String weekendDays
+    ) {
+        for (String season : peakSeasons.split(",")) {
+            if (!season.isBlank()) {
+                markPeakSeason(season.trim());
+            }
+        }
+        for (String day : weekendDays.split(",")) {
+            if (!day.isBlank()) {
+                this.weekendDays[DayOfWeek.valueOf(day.trim()).getValue() - 1] = true;
+            }
+        }
+    }
+
+    /**
+     * 시작일부터 종료일까지 숙박한 가격을 계산한다.
+     *
+     * @param roomPrice : 객실 가격
+     * @param startDate : 첫 숙박일
+     * @param endDate   : 마지막 숙박일 (포함)
+     * @return 숙박 가격 합계, 종료일이 시작일보다 이르면 0
+     */
+    public int quote(RoomPrice roomPrice, LocalDate startDate, LocalDate endDate) {
+        return quote(
+            roomPrice.getOffWeekDaysMinFee(), roomPrice.getOffWeekendMinFee(),
+            roomPrice.getPeakWeekDaysMinFee(), roomPrice.getPeakWeekendMinFee(),
+            startDate.toEpochDay(), endDate.toEpochDay()
+        );
+    }
+
+    /**
+     * 시작일부터 종료일까지 숙박한 가격에 쿠폰 할인을 한 번 적용한다.
+     *
+     * @param roomPrice    : 객실 가격
+     * @param startDate    : 첫 숙박일
+     * @param endDate      : 마지막 숙박일 (포함)
+     * @param discountType : 할인 유형
+     * @param discount     : 할인 가격(할인 율)
+     * @return 할인이 적용된 숙박 가격 합계
+     */
+    public int quote(
+        RoomPrice roomPrice, LocalDate startDate, LocalDate endDate,
+        DiscountType discountType, int discount
+    ) {
+        return discountType.applyDiscount(quote(roomPrice, startDate, endDate), discount);
+    }
+
+    /**
+     * 가격 구간 별 요금으로 숙박 가격을 계산한다.
+     *
+     * @param offWeekDaysFee  : 비수기 주중 가격
+     * @param offWeekendFee   : 비수기 주말 가격
+     * @param peakWeekDaysFee : 성수기 주중 가격
+     * @param peakWeekendFee  : 성수기 주말 가격
+     * @param startEpochDay   : 첫 숙박일의 epoch day
+     * @param endEpochDay     : 마지막 숙박일의 epoch day (포함)
+     * @return 숙박 가격 합계
+     */
+    public int quote(
+        int offWeekDaysFee, int offWeekendFee, int peakWeekDaysFee, int peakWeekendFee,
+        long startEpochDay, long endEpochDay
+    ) {
+        if (endEpochDay < startEpochDay) {
+            return 0;
+        }
+
+        // 모든 구간 가격이 같으면 달력을 볼 필요가 없음
+        if (offWeekDaysFee == offWeekendFee && offWeekDaysFee == peakWeekDaysFee
+            && offWeekDaysFee == peakWeekendFee) {
+            return Math.toIntExact(offWeekDaysFee * (endEpochDay - startEpochDay + 1));
+        }
+
+        long total = 0;
+        for (long epochDay = startEpochDay; epochDay <= endEpochDay; epochDay++) {
+            switch (tierOf(epochDay)) {
+                case OFF_WEEKDAYS -> total += offWeekDaysFee;
+                case OFF_WEEKEND -> total += offWeekendFee;
+                case PEAK_WEEKDAYS -> total += peakWeekDaysFee;
+                default -> total += peakWeekendFee;
+            }
+        }
+        return Math.toIntExact(total);
+    }
+
+    private int tierOf(long epochDay) {
+        // 1970-01-01 은 목요일
+        boolean weekend = weekendDays[(int) Math.floorMod(epochDay + 3, 7L)];
+        boolean peak = peakDays[monthDayIndex(epochDay)];
+        return (peak ? PEAK_WEEKDAYS : OFF_WEEKDAYS) + (weekend ? 1 : 0);
+    }
+
+    /*
+     * epoch day 를 그레고리력 월, 일로 변환해 월 * 32 + 일 을 반환
+     * 3월 1일을 한 해의 시작으로 보는 정수 산술 변환으로 LocalDate 를 만들지 않음
+     * */
+    private static int monthDayIndex(long epochDay) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        return month * 32 + day;
+    }
+
+    private void markPeakSeason(String season) {
+        String[] range = season.split("~");
+        if (range.length != 2) {
+            throw new IllegalArgumentException("성수기 기간 형식이 올바르지 않습니다: " + season);
+        }
+        MonthDay start = MonthDay.parse("--" + range[0].trim());
+        MonthDay end = MonthDay.parse("--" + range[1].trim());
+
+        LocalDate date = LocalDate.of(LEAP_YEAR, 1, 1);
+        for (; date.getYear() == LEAP_YEAR; date = date.plusDays(1)) {
+            MonthDay monthDay = MonthDay.from(date);
+            boolean inSeason = start.isAfter(end)
+                ? !monthDay.isBefore(start) || !monthDay.isAfter(end)
+                : !monthDay.isBefore(start) && !monthDay.isAfter(end);
+            if (inSeason) {
+                peakDays[date.getMonthValue() * 32 + date.getDayOfMonth()] = true;
+            }
+        }
+    }
+}
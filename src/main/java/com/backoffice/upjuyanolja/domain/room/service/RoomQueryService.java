@@ -4,12 +4,14 @@ import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
 import com.backoffice.upjuyanolja.domain.accommodation.exception.AccommodationNotFoundException;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationOwnershipRepository;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCoupons;
 import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponDetailResponse;
-import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
 import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
 import com.backoffice.upjuyanolja.domain.coupon.service.CouponService;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.member.service.MemberGetService;
+import com.backoffice.upjuyanolja.domain.room.cache.RoomAvailability;
+import com.backoffice.upjuyanolja.domain.room.cache.RoomAvailabilityCache;
 import com.backoffice.upjuyanolja.domain.room.dto.response.RoomInfoResponse;
 import com.backoffice.upjuyanolja.domain.room.dto.response.RoomPageResponse;
 import com.backoffice.upjuyanolja.domain.room.dto.response.RoomsInfoResponse;
@@ -21,7 +23,6 @@ import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
 import com.backoffice.upjuyanolja.domain.room.exception.RoomNotFoundException;
 import com.backoffice.upjuyanolja.domain.room.exception.RoomOptionNotFoundException;
 import com.backoffice.upjuyanolja.domain.room.exception.RoomPriceNotFoundException;
-import com.backoffice.upjuyanolja.domain.room.exception.RoomStockNotFoundException;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomImageRepository;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomOptionRepository;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomPriceRepository;
@@ -31,9 +32,10 @@ import com.backoffice.upjuyanolja.domain.room.service.usecase.RoomQueryUseCase;
 import com.backoffice.upjuyanolja.global.exception.NotOwnerException;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -52,6 +54,7 @@ public class RoomQueryService implements RoomQueryUseCase {
     private final RoomOptionRepository roomOptionRepository;
     private final RoomPriceRepository roomPriceRepository;
     private final RoomStockRepository roomStockRepository;
+    private final RoomAvailabilityCache roomAvailabilityCache;
 
     private final MemberGetService memberGetService;
     private final CouponService couponService;
@@ -90,6 +93,58 @@ public class RoomQueryService implements RoomQueryUseCase {
             .toList();
     }
 
+    /**
+     * 객실 목록의 옵션을 한 번의 쿼리로 조회한다.
+     *
+     * @param rooms : 객실 목록
+     * @return 객실 식별자 별 옵션
+     */
+    @Override
+    public Map<Long, RoomOption> findRoomOptionsByRooms(List<Room> rooms) {
+        Map<Long, RoomOption> roomOptions = roomOptionRepository.findAllByRoomIn(rooms).stream()
+            .collect(Collectors.toMap(option -> option.getRoom().getId(), Function.identity()));
+
+        if (roomOptions.size() != rooms.size()) {
+            throw new RoomOptionNotFoundException();
+        }
+        return roomOptions;
+    }
+
+    /**
+     * 객실 목록의 가격을 한 번의 쿼리로 조회한다.
+     *
+     * @param rooms : 객실 목록
+     * @return 객실 식별자 별 가격
+     */
+    @Override
+    public Map<Long, RoomPrice> findRoomPricesByRooms(List<Room> rooms) {
+        Map<Long, RoomPrice> roomPrices = roomPriceRepository.findAllByRoomIn(rooms).stream()
+            .collect(Collectors.toMap(price -> price.getRoom().getId(), Function.identity()));
+
+        if (roomPrices.size() != rooms.size()) {
+            throw new RoomPriceNotFoundException();
+        }
+        return roomPrices;
+    }
+
+    /**
+     * 객실 목록의 이미지 URL 을 한 번의 쿼리로 조회한다. 이미지가 없는 객실은 빈 목록을 가진다.
+     *
+     * @param rooms : 객실 목록
+     * @return 객실 식별자 별 이미지 URL 목록
+     */
+    @Override
+    public Map<Long, List<String>> getRoomImageUrlsByRooms(List<Room> rooms) {
+        Map<Long, List<String>> imageUrls = roomImageRepository.findAllByRoomIn(rooms).stream()
+            .collect(Collectors.groupingBy(
+                image -> image.getRoom().getId(),
+                Collectors.mapping(RoomImage::getUrl, Collectors.toList())
+            ));
+
+        rooms.forEach(room -> imageUrls.putIfAbsent(room.getId(), List.of()));
+        return imageUrls;
+    }
+
     @Override
     public RoomPageResponse getRooms(long memberId, long accommodationId, Pageable pageable) {
         Member member = memberGetService.getMemberById(memberId);
@@ -100,21 +155,13 @@ public class RoomQueryService implements RoomQueryUseCase {
         Page<Room> roomPage = roomRepository.findAllByAccommodation(accommodationId, pageable);
         roomPage.get().forEach(room -> {
             List<CouponDetailResponse> couponDetails = new ArrayList<>();
-            List<Coupon> coupons = couponService.getCouponInRoom(room);
             RoomOption roomOption = findRoomOptionByRoom(room);
             int roomPrice = findRoomPriceByRoom(room).getOffWeekDaysMinFee();
+            RoomCoupons coupons = couponService.getRoomCoupons(room, roomPrice);
             List<RoomImage> roomImage = findRoomImageByRoom(room);
 
-            couponDetails.addAll(couponService
-                .getSortedDiscountTypeCouponResponseInRoom(
-                    room, roomPrice,
-                    coupons, DiscountType.FLAT)
-            );
-            couponDetails.addAll(couponService
-                .getSortedDiscountTypeCouponResponseInRoom(
-                    room, roomPrice,
-                    coupons, DiscountType.RATE)
-            );
+            couponDetails.addAll(coupons.toDetailResponses(DiscountType.FLAT));
+            couponDetails.addAll(coupons.toDetailResponses(DiscountType.RATE));
 
             rooms.add(RoomsInfoResponse.of(
                     room, roomOption, roomImage,
@@ -149,27 +196,28 @@ public class RoomQueryService implements RoomQueryUseCase {
     public List<RoomStock> getFilteredRoomStocksByDate(
         Room room, LocalDate startDate, LocalDate endDate
     ) {
-        return roomStockRepository.findByRoom(room)
-            .orElseThrow(RoomStockNotFoundException::new)
-            .stream()
-            .filter(
-                stock ->
-                    !(stock.getDate().isBefore(startDate)) &&
-                        !(stock.getDate().isAfter(endDate))
-            )
-            .toList();
+        return roomStockRepository.findAllByRoomAndDateBetweenOrderByDateAsc(
+            room, startDate, endDate
+        );
     }
 
     @Override
-    public Map<Room, Integer> getMinRoomPriceWithRoom(List<Room> rooms) {
-        Map<Room, Integer> roomMinPriceMap = new HashMap<>();
-
-        for (Room room : rooms) {
-            int roomPrice = findRoomPriceByRoom(room).getOffWeekDaysMinFee();
-            roomMinPriceMap.put(room, roomPrice);
-        }
+    public Map<Long, List<RoomStock>> getFilteredRoomStocksByAccommodation(
+        long accommodationId, LocalDate startDate, LocalDate endDate
+    ) {
+        return roomStockRepository.findAllByAccommodationIdAndDateBetween(
+                accommodationId, startDate, endDate
+            ).stream()
+            .collect(Collectors.groupingBy(stock -> stock.getRoom().getId()));
+    }
 
-        return roomMinPriceMap;
+    @Override
+    public Map<Long, RoomAvailability> getRoomAvailabilities(
+        long accommodationId, List<Long> roomIds, LocalDate startDate, LocalDate endDate
+    ) {
+        return roomAvailabilityCache.getAvailabilities(
+            accommodationId, roomIds, startDate, endDate
+        );
     }
 
     private void checkOwnership(Member member, Accommodation accommodation) {
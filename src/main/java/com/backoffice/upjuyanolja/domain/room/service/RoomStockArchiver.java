@@ -0,0 +1,65 @@
+package com.backoffice.upjuyanolja.domain.room.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 객실 재고 보관 처리기
+ * <p>
+ * 기준일 이전의 객실 재고를 room_stock_archive 로 옮기고 room_stock 에서 삭제한다. 한 번에 batchSize 건만 한 트랜잭션으로
+ * 옮기므로 잠금 범위와 언두 로그가 작게 유지되고, 호출하는 쪽에서 배치 사이에 쉬어 갈 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomStockArchiver {
+
+    // (date) 인덱스로 기준일 이전 행만 읽는다.
+    private static final String SELECT_EXPIRED_IDS = """
+        select id from room_stock
+        where date < :cutoff
+        order by date, id
+        limit :limit
+        """;
+
+    private static final String COPY_TO_ARCHIVE = """
+        insert into room_stock_archive (id, room_id, count, date, archived_at)
+        select id, room_id, count, date, :archivedAt from room_stock
+        where id in (:ids)
+        """;
+
+    private static final String DELETE_STOCKS = "delete from room_stock where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 기준일 이전의 객실 재고를 최대 batchSize 건 보관 테이블로 옮긴다.
+     *
+     * @param cutoff    : 기준일. 이 날짜 이전의 재고만 옮긴다.
+     * @param batchSize : 한 번에 옮길 최대 건수
+     * @return 옮긴 건수
+     */
+    @Transactional
+    public int archive(LocalDate cutoff, int batchSize) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_EXPIRED_IDS,
+            new MapSqlParameterSource()
+                .addValue("cutoff", Date.valueOf(cutoff))
+                .addValue("limit", batchSize),
+            Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.update(COPY_TO_ARCHIVE, new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now())));
+        return jdbcTemplate.update(DELETE_STOCKS, new MapSqlParameterSource("ids", ids));
+    }
+}
@@ -0,0 +1,298 @@
+package com.backoffice.upjuyanolja.domain.room.service;
+
+import com.backoffice.upjuyanolja.domain.room.entity.PackedDailyCounts;
+import jakarta.annotation.PreDestroy;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 객실 재고 생성기
+ * <p>
+ * 삭제되지 않은 객실을 식별자 순으로 청크 단위로 읽고, 기간 내 재고가 없는 날짜만 JDBC 배치 INSERT 로 채운다. 이미 있는 날짜는
+ * 건너뛰므로 여러 번 실행해도 중복 재고가 생기지 않고, 실행이 누락된 날짜는 다음 실행에서 채워진다. 청크는 제한된 크기의 워커 풀에서
+ * 각각 하나의 트랜잭션으로 처리된다. 월별 재고({@link PackedDailyCounts})도 같은 방식으로 빠진 달만 생성한다.
+ */
+@Slf4j
+@Component
+public class RoomStockGenerator {
+
+    private static final String SELECT_ROOMS = """
+        select id, amount from room
+        where deleted_at is null and id > :lastId
+        order by id
+        limit :limit
+        """;
+
+    private static final String SELECT_EXISTING_STOCKS = """
+        select room_id, date from room_stock
+        where room_id in (:roomIds) and date between :startDate and :endDate
+        """;
+
+    private static final String INSERT_STOCK = """
+        insert into room_stock (id, room_id, count, date, version)
+        values (:id, :roomId, :count, :date, 0)
+        """;
+
+    private static final String NEXT_STOCK_ID_BLOCK = "select next value for room_stock_seq";
+
+    // RoomStock 식별자 시퀀스의 allocationSize 와 같아야 함
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private static final String SELECT_EXISTING_MONTHLY_STOCKS = """
+        select room_id, stock_month from room_monthly_stock
+        where room_id in (:roomIds) and stock_month between :startMonth and :endMonth
+        """;
+
+    private static final String INSERT_MONTHLY_STOCK = """
+        insert into room_monthly_stock (room_id, stock_month, counts, version)
+        values (:roomId, :month, :counts, 0)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor workers;
+    private final int chunkSize;
+
+    public RoomStockGenerator(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${room-stock.generator.parallelism:4}") int parallelism,
+        @Value("${room-stock.generator.chunk-size:500}") int chunkSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        // 대기 청크가 가득 차면 읽는 스레드가 직접 처리해 메모리에 올라오는 청크 수를 제한
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(parallelism);
+        this.workers.setMaxPoolSize(parallelism);
+        this.workers.setQueueCapacity(parallelism);
+        this.workers.setThreadNamePrefix("room-stock-generator-");
+        this.workers.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.workers.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * 모든 객실의 기간 내 빠진 날짜 재고를 객실 수량으로 생성한다.
+     *
+     * @param startDate : 시작일
+     * @param endDate   : 종료일 (포함)
+     * @return 생성 결과
+     */
+    public RoomStockGenerationResult generate(LocalDate startDate, LocalDate endDate) {
+        return forEachChunk(rooms -> insertMissing(rooms, startDate, endDate));
+    }
+
+    /**
+     * 모든 객실의 기간 내 빠진 달의 월별 재고를 객실 수량으로 생성한다. 예약과 취소가 월별 재고를 변경하지 않으므로, 예약 경로가
+     * {@link RoomMonthlyStockService} 를 사용하기 전에는 주기적으로 생성하지 않는다.
+     *
+     * @param startMonth : 시작 월
+     * @param endMonth   : 종료 월 (포함)
+     * @return 생성 결과
+     */
+    public RoomStockGenerationResult generateMonthly(YearMonth startMonth, YearMonth endMonth) {
+        return forEachChunk(rooms -> insertMissingMonths(rooms, startMonth, endMonth));
+    }
+
+    private RoomStockGenerationResult forEachChunk(ToIntFunction<List<RoomAmount>> writer) {
+        long startedAt = System.currentTimeMillis();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        int roomCount = 0;
+        long lastId = 0L;
+
+        while (true) {
+            List<RoomAmount> rooms = jdbcTemplate.query(SELECT_ROOMS,
+                new MapSqlParameterSource()
+                    .addValue("lastId", lastId)
+                    .addValue("limit", chunkSize),
+                (rs, rowNum) -> new RoomAmount(rs.getLong("id"), rs.getInt("amount")));
+            if (rooms.isEmpty()) {
+                break;
+            }
+
+            roomCount += rooms.size();
+            lastId = rooms.get(rooms.size() - 1).id();
+            futures.add(CompletableFuture.supplyAsync(
+                () -> fillChunk(rooms, writer), workers));
+
+            if (rooms.size() < chunkSize) {
+                break;
+            }
+        }
+
+        int inserted = futures.stream()
+            .mapToInt(CompletableFuture::join)
+            .sum();
+        return new RoomStockGenerationResult(roomCount, inserted,
+            System.currentTimeMillis() - startedAt);
+    }
+
+    /*
+     * 다른 인스턴스가 같은 청크를 먼저 생성해 유니크 제약에 걸리면
+     * 이미 생성된 재고를 다시 조회해 한 번 더 시도
+     * */
+    private int fillChunk(List<RoomAmount> rooms, ToIntFunction<List<RoomAmount>> writer) {
+        try {
+            return writer.applyAsInt(rooms);
+        } catch (DuplicateKeyException e) {
+            log.info("객실 재고 동시 생성 감지. 청크 재시도. 첫 객실 id={}", rooms.get(0).id());
+            return writer.applyAsInt(rooms);
+        }
+    }
+
+    private int insertMissingMonths(
+        List<RoomAmount> rooms, YearMonth startMonth, YearMonth endMonth
+    ) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                SELECT_EXISTING_MONTHLY_STOCKS, new MapSqlParameterSource()
+                    .addValue("roomIds", rooms.stream().map(RoomAmount::id).toList())
+                    .addValue("startMonth", startMonth.toString())
+                    .addValue("endMonth", endMonth.toString()));
+            Set<String> existing = new HashSet<>();
+            for (Map<String, Object> row : rows) {
+                existing.add(((Number) row.get("room_id")).longValue() + ":"
+                    + row.get("stock_month"));
+            }
+
+            List<SqlParameterSource> batch = new ArrayList<>();
+            for (RoomAmount room : rooms) {
+                for (YearMonth month = startMonth; !month.isAfter(endMonth);
+                    month = month.plusMonths(1)) {
+                    if (existing.contains(room.id() + ":" + month)) {
+                        continue;
+                    }
+                    batch.add(new MapSqlParameterSource()
+                        .addValue("roomId", room.id())
+                        .addValue("month", month.toString())
+                        .addValue("counts",
+                            PackedDailyCounts.filled(month, room.amount()).toBytes()));
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_MONTHLY_STOCK,
+                    batch.toArray(SqlParameterSource[]::new));
+            }
+            return batch.size();
+        });
+        return (inserted == null) ? 0 : inserted;
+    }
+
+    private int insertMissing(List<RoomAmount> rooms, LocalDate startDate, LocalDate endDate) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            Set<String> existing = findExisting(rooms, startDate, endDate);
+
+            List<MapSqlParameterSource> batch = new ArrayList<>();
+            for (RoomAmount room : rooms) {
+                for (LocalDate date = startDate; !date.isAfter(endDate);
+                    date = date.plusDays(1)) {
+                    if (existing.contains(toKey(room.id(), date))) {
+                        continue;
+                    }
+                    batch.add(new MapSqlParameterSource()
+                        .addValue("roomId", room.id())
+                        .addValue("count", room.amount())
+                        .addValue("date", Date.valueOf(date)));
+                }
+            }
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            long[] ids = allocateIds(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).addValue("id", ids[i]);
+            }
+            jdbcTemplate.batchUpdate(INSERT_STOCK, batch.toArray(SqlParameterSource[]::new));
+            return batch.size();
+        });
+        return (inserted == null) ? 0 : inserted;
+    }
+
+    /*
+     * Hibernate pooled 최적화와 같은 방식으로 시퀀스 값 하나당 (값 - allocationSize, 값] 구간을 사용해
+     * JPA 로 저장되는 재고와 식별자가 겹치지 않도록 한다.
+     * Hibernate 는 시퀀스의 첫 두 값(1, 1 + allocationSize)을 묶어 사용하므로 이 두 값은 건너뛴다.
+     * */
+    private long[] allocateIds(int size) {
+        long[] ids = new long[size];
+        int allocated = 0;
+        while (allocated < size) {
+            long hi = jdbcTemplate.getJdbcTemplate()
+                .queryForObject(NEXT_STOCK_ID_BLOCK, Long.class);
+            if (hi <= ID_ALLOCATION_SIZE + 1) {
+                continue;
+            }
+            for (long id = hi - ID_ALLOCATION_SIZE + 1; id <= hi && allocated < size; id++) {
+                ids[allocated++] = id;
+            }
+        }
+        return ids;
+    }
+
+    private Set<String> findExisting(
+        List<RoomAmount> rooms, LocalDate startDate, LocalDate endDate
+    ) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(SELECT_EXISTING_STOCKS,
+            new MapSqlParameterSource()
+                .addValue("roomIds", rooms.stream().map(RoomAmount::id).toList())
+                .addValue("startDate", Date.valueOf(startDate))
+                .addValue("endDate", Date.valueOf(endDate)));
+
+        Set<String> existing = new HashSet<>();
+        for (Map<String, Object> row : rows) {
+            existing.add(toKey(((Number) row.get("room_id")).longValue(),
+                ((Date) row.get("date")).toLocalDate()));
+        }
+        return existing;
+    }
+
+    private String toKey(long roomId, LocalDate date) {
+        return roomId + ":" + date;
+    }
+
+    private record RoomAmount(long id, int amount) {
+
+    }
+
+    /**
+     * 객실 재고 생성 결과
+     *
+     * @param rooms         : 처리한 객실 수
+     * @param inserted      : 생성한 재고 수
+     * @param elapsedMillis : 소요 시간(ms)
+     */
+    public record RoomStockGenerationResult(int rooms, int inserted, long elapsedMillis) {
+
+        public long rowsPerSecond() {
+            return (elapsedMillis == 0) ? inserted : inserted * 1000L / elapsedMillis;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.backoffice.upjuyanolja.domain.room.service.usecase;
 
+import com.backoffice.upjuyanolja.domain.room.cache.RoomAvailability;
 import com.backoffice.upjuyanolja.domain.room.dto.response.RoomInfoResponse;
 import com.backoffice.upjuyanolja.domain.room.dto.response.RoomPageResponse;
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
@@ -26,12 +27,24 @@ public interface RoomQueryUseCase {
 
     List<String> getRoomImageUrlByRoom(Room room);
 
+    Map<Long, RoomOption> findRoomOptionsByRooms(List<Room> rooms);
+
+    Map<Long, RoomPrice> findRoomPricesByRooms(List<Room> rooms);
+
+    Map<Long, List<String>> getRoomImageUrlsByRooms(List<Room> rooms);
+
     RoomPageResponse getRooms(long memberId, long accommodationId, Pageable pageable);
 
     RoomInfoResponse getRoom(long memberId, long roomId);
 
     List<RoomStock> getFilteredRoomStocksByDate(Room room, LocalDate startDate, LocalDate endDate);
 
-    Map<Room, Integer> getMinRoomPriceWithRoom(List<Room> rooms);
+    Map<Long, List<RoomStock>> getFilteredRoomStocksByAccommodation(
+        long accommodationId, LocalDate startDate, LocalDate endDate
+    );
+
+    Map<Long, RoomAvailability> getRoomAvailabilities(
+        long accommodationId, List<Long> roomIds, LocalDate startDate, LocalDate endDate
+    );
 
 }
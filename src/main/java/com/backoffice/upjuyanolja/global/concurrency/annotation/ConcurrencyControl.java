@@ -19,6 +19,11 @@ public @interface ConcurrencyControl {
      */
     String lockName();
 
+    /**
+     * The strategy used to protect the target resource.
+     */
+    ConcurrencyStrategy strategy() default ConcurrencyStrategy.REDISSON;
+
     /**
      * The maximum time to wait for the lock to be available, in the specified time unit.
      */
@@ -33,4 +38,10 @@ public @interface ConcurrencyControl {
      * The time unit for the waitTime and leaseTime values.
      */
     TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * The maximum number of attempts when a version conflict occurs. Only used by
+     * {@link ConcurrencyStrategy#OPTIMISTIC_VERSION}.
+     */
+    int maxAttempts() default 3;
 }
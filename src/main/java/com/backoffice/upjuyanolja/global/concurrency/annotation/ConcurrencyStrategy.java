@@ -0,0 +1,24 @@
+package com.backoffice.upjuyanolja.global.concurrency.annotation;
+
+/**
+ * Strategies that {@link ConcurrencyControl} can use to protect a stock modification.
+ */
+public enum ConcurrencyStrategy {
+
+    /**
+     * Acquire a Redisson distributed lock, then read, modify and save the target.
+     */
+    REDISSON,
+
+    /**
+     * Skip the lock and rely on the entity {@code @Version} column. The method is re-invoked in a
+     * new transaction when a version conflict is detected.
+     */
+    OPTIMISTIC_VERSION,
+
+    /**
+     * Skip the lock. The method must modify the target with a single conditional UPDATE statement
+     * and check the affected-row count itself.
+     */
+    GUARDED_UPDATE
+}
@@ -0,0 +1,22 @@
+package com.backoffice.upjuyanolja.global.concurrency.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method parameter of a {@link ConcurrencyControl} method as a lock key. The parameter
+ * may be a single id or a collection of ids; {@code null} values are ignored.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LockKey {
+
+    /**
+     * The lock namespace of the ids in this parameter, e.g. {@code roomStock}.
+     */
+    String value();
+}
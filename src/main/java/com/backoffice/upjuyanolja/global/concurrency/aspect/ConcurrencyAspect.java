@@ -1,7 +1,14 @@
 package com.backoffice.upjuyanolja.global.concurrency.aspect;
 
 import com.backoffice.upjuyanolja.global.concurrency.annotation.ConcurrencyControl;
-import java.lang.reflect.Method;
+import com.backoffice.upjuyanolja.global.concurrency.annotation.LockKey;
+import com.backoffice.upjuyanolja.global.concurrency.metrics.ConcurrencyMetrics;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -11,6 +18,7 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -22,21 +30,35 @@ public class ConcurrencyAspect {
 
     private final RedissonClient redissonClient;
     private final TransactionAspect transactionAspect;
+    private final ConcurrencyMetrics concurrencyMetrics;
 
-    @Around("@annotation(com.backoffice.upjuyanolja.global.concurrency.annotation.ConcurrencyControl)&&args(targetId)")
-    public Object handleConcurrency(ProceedingJoinPoint joinPoint, Long targetId) throws Throwable {
-        Object result;
+    @Around("@annotation(annotation)")
+    public Object handleConcurrency(ProceedingJoinPoint joinPoint, ConcurrencyControl annotation)
+        throws Throwable {
+        return switch (annotation.strategy()) {
+            case REDISSON -> proceedWithLock(joinPoint, annotation);
+            case OPTIMISTIC_VERSION -> proceedWithRetry(joinPoint, annotation);
+            case GUARDED_UPDATE -> transactionAspect.proceed(joinPoint);
+        };
+    }
 
-        // Get annotation
-        ConcurrencyControl annotation = getAnnotation(joinPoint);
+    private Object proceedWithLock(ProceedingJoinPoint joinPoint, ConcurrencyControl annotation)
+        throws Throwable {
+        // Get lock names in a deterministic order; a MultiLock acquires them one after another
+        List<String> lockNames = getLockNames(joinPoint, annotation);
+        if (lockNames.isEmpty()) {
+            return transactionAspect.proceed(joinPoint);
+        }
 
-        // Get lock name and acquire lock
-        String lockName = getLockName(targetId, annotation);
-        RLock lock = redissonClient.getLock(lockName);
+        String lockName = String.join(",", lockNames);
+        RLock lock = getLock(lockNames);
+        boolean available = false;
 
         try {
-            boolean available = lock.tryLock(annotation.waitTime(), annotation.leaseTime(),
+            long startedAt = System.nanoTime();
+            available = lock.tryLock(annotation.waitTime(), annotation.leaseTime(),
                 annotation.timeUnit());
+            concurrencyMetrics.recordLockWait(System.nanoTime() - startedAt, available);
 
             if (!available) {
                 log.warn("Redisson GetLock Timeout {}", lockName);
@@ -48,23 +70,101 @@ public class ConcurrencyAspect {
             // Proceed with the original method execution
             return transactionAspect.proceed(joinPoint);
         } finally {
+            if (available) {
+                unlock(lock, lockName);
+            }
+        }
+    }
+
+    /*
+     * The transaction has already committed or rolled back here, so an unlock failure must not
+     * replace its outcome. A MultiLock reports an expired lease wrapped in CompletionException.
+     * */
+    private void unlock(RLock lock, String lockName) {
+        try {
+            lock.unlock();
+        } catch (RuntimeException e) {
+            log.warn("Redisson Lock Already UnLock {}", lockName, e);
+        }
+    }
+
+    private Object proceedWithRetry(ProceedingJoinPoint joinPoint, ConcurrencyControl annotation)
+        throws Throwable {
+        int attempt = 1;
+        while (true) {
             try {
-                lock.unlock();
-            } catch (IllegalMonitorStateException e) {
-                log.warn("Redisson Lock Already UnLock {}", lockName);
+                // Each attempt runs in a new transaction so the entity is re-read
+                return transactionAspect.proceed(joinPoint);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= annotation.maxAttempts()) {
+                    concurrencyMetrics.recordOptimisticFailure();
+                    log.warn("Optimistic Lock Conflict {} after {} attempts",
+                        annotation.lockName(), attempt);
+                    throw e;
+                }
+                log.info("Optimistic Lock Conflict {} retry {}", annotation.lockName(), attempt);
+                concurrencyMetrics.recordOptimisticRetry();
+                attempt++;
             }
         }
     }
 
-    private ConcurrencyControl getAnnotation(ProceedingJoinPoint joinPoint) {
+    private RLock getLock(List<String> lockNames) {
+        if (lockNames.size() == 1) {
+            return redissonClient.getLock(lockNames.get(0));
+        }
+
+        // A single MultiLock shares one wait budget across every key
+        RLock[] locks = lockNames.stream()
+            .map(redissonClient::getLock)
+            .toArray(RLock[]::new);
+        return redissonClient.getMultiLock(locks);
+    }
+
+    /**
+     * Collects lock names from parameters annotated with {@link LockKey}. Falls back to the first
+     * argument with {@link ConcurrencyControl#lockName()} when no parameter is annotated. Names are
+     * sorted so that every caller acquires overlapping keys in the same order.
+     */
+    private List<String> getLockNames(
+        ProceedingJoinPoint joinPoint, ConcurrencyControl annotation
+    ) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        return method.getAnnotation(ConcurrencyControl.class);
+        Annotation[][] parameterAnnotations = signature.getMethod().getParameterAnnotations();
+        Object[] args = joinPoint.getArgs();
+        Set<String> lockNames = new TreeSet<>();
+
+        for (int i = 0; i < args.length; i++) {
+            for (Annotation parameterAnnotation : parameterAnnotations[i]) {
+                if (parameterAnnotation instanceof LockKey lockKey) {
+                    addLockNames(lockNames, lockKey.value(), args[i]);
+                }
+            }
+        }
+
+        if (lockNames.isEmpty() && args.length > 0) {
+            addLockNames(lockNames, annotation.lockName(), args[0]);
+        }
+
+        return new ArrayList<>(lockNames);
+    }
+
+    private void addLockNames(Set<String> lockNames, String namespace, Object target) {
+        if (target instanceof Collection<?> targetIds) {
+            for (Object targetId : targetIds) {
+                addLockNames(lockNames, namespace, targetId);
+            }
+            return;
+        }
+
+        if (target != null) {
+            lockNames.add(getLockName(namespace, target));
+        }
     }
 
-    private String getLockName(Long targetId, ConcurrencyControl annotation) {
+    private String getLockName(String namespace, Object targetId) {
         String lockNameFormat = "lock:%s:%s";
         String relevantParameter = targetId.toString();
-        return String.format(lockNameFormat, annotation.lockName(), relevantParameter);
+        return String.format(lockNameFormat, namespace, relevantParameter);
     }
 }
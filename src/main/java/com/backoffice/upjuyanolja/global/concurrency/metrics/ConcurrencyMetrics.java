@@ -0,0 +1,85 @@
+package com.backoffice.upjuyanolja.global.concurrency.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동시성 제어 지표
+ * <p>
+ * ConcurrencyAspect 가 락 획득 대기 시간과 낙관적 락 재시도 횟수를 기록한다. 여러 스레드에서 동시에 기록하므로 LongAdder 로
+ * 누적하며, 부하 테스트에서 Redisson 대기 시간과 재시도 횟수 설정의 근거로 사용한다.
+ */
+@Component
+public class ConcurrencyMetrics {
+
+    private final LongAdder lockAcquisitions = new LongAdder();
+    private final LongAdder lockTimeouts = new LongAdder();
+    private final LongAdder lockWaitNanos = new LongAdder();
+    private final LongAccumulator maxLockWaitNanos = new LongAccumulator(Long::max, 0L);
+    private final LongAdder optimisticRetries = new LongAdder();
+    private final LongAdder optimisticFailures = new LongAdder();
+
+    public void recordLockWait(long waitNanos, boolean acquired) {
+        if (acquired) {
+            lockAcquisitions.increment();
+        } else {
+            lockTimeouts.increment();
+        }
+        lockWaitNanos.add(waitNanos);
+        maxLockWaitNanos.accumulate(waitNanos);
+    }
+
+    public void recordOptimisticRetry() {
+        optimisticRetries.increment();
+    }
+
+    public void recordOptimisticFailure() {
+        optimisticFailures.increment();
+    }
+
+    public Snapshot snapshot() {
+        return Snapshot.builder()
+            .lockAcquisitions(lockAcquisitions.sum())
+            .lockTimeouts(lockTimeouts.sum())
+            .lockWaitNanos(lockWaitNanos.sum())
+            .maxLockWaitNanos(maxLockWaitNanos.get())
+            .optimisticRetries(optimisticRetries.sum())
+            .optimisticFailures(optimisticFailures.sum())
+            .build();
+    }
+
+    public void reset() {
+        lockAcquisitions.reset();
+        lockTimeouts.reset();
+        lockWaitNanos.reset();
+        maxLockWaitNanos.reset();
+        optimisticRetries.reset();
+        optimisticFailures.reset();
+    }
+
+    @Builder
+    public record Snapshot(
+        long lockAcquisitions,
+        long lockTimeouts,
+        long lockWaitNanos,
+        long maxLockWaitNanos,
+        long optimisticRetries,
+        long optimisticFailures
+    ) {
+
+        public double averageLockWaitMillis() {
+            long attempts = lockAcquisitions + lockTimeouts;
+            if (attempts == 0) {
+                return 0;
+            }
+            return (double) lockWaitNanos / attempts / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        public double maxLockWaitMillis() {
+            return (double) maxLockWaitNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
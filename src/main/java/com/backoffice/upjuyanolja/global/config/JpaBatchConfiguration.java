@@ -0,0 +1,26 @@
+package com.backoffice.upjuyanolja.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 시퀀스 식별자를 쓰는 엔티티의 INSERT 를 JDBC 배치로 묶는다. 같은 테이블의 INSERT/UPDATE 가 연속되도록 정렬해야 배치가
+ * 끊기지 않는다. spring.jpa.properties 에 직접 지정한 값이 있으면 그 값을 우선한다.
+ */
+@Configuration
+public class JpaBatchConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+        @Value("${jpa.jdbc.batch-size:50}") int batchSize
+    ) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -43,6 +43,8 @@ public enum ErrorCode {
     LAST_ROOM(HttpStatus.BAD_REQUEST, 3008, "마지막 객실은 삭제할 수 없습니다."),
     ROOM_OPTION_NOT_FOUND(HttpStatus.NOT_FOUND, 3009, "객실 옵션 정보를 찾을 수 없습니다."),
     ROOM_PRICE_NOT_FOUND(HttpStatus.NOT_FOUND, 3010, "객실 가격 정보를 찾을 수 없습니다."),
+    ROOM_STOCK_SHORTAGE(HttpStatus.CONFLICT, 3011, "객실 재고가 부족합니다."),
+    ROOM_STOCK_CONFLICT(HttpStatus.CONFLICT, 3012, "객실 재고가 동시에 변경되었습니다. 다시 시도해 주세요."),
 
     // Reservation
     RESERVATION_PAYMENT_FAILED(HttpStatus.BAD_REQUEST, 4000, "결제에 실패 했습니다."),
@@ -52,10 +54,15 @@ public enum ErrorCode {
     INVALID_VISITOR_NAME(HttpStatus.BAD_REQUEST, 4004, "유효하지 않는 방문자 전화번호 입니다."),
     INVALID_VISITOR_PHONE_NUMBER(HttpStatus.BAD_REQUEST, 4005, "유효하지 않는 방문자 전화번호입니다."),
     RESERVATION_NOT_FOUND(HttpStatus.BAD_REQUEST, 4006, "예약 정보를 찾을 수 없습니다."),
+    INVALID_RESERVATION_CURSOR(HttpStatus.BAD_REQUEST, 4007, "유효하지 않은 예약 내역 커서입니다."),
+    RESERVATION_ADMISSION_REQUIRED(HttpStatus.TOO_MANY_REQUESTS, 4008,
+        "예약 대기열 입장 순서가 아닙니다."),
+    RESERVATION_HOLD_EXPIRED(HttpStatus.CONFLICT, 4009, "만료되었거나 확정할 수 없는 재고 선점입니다."),
 
     // Coupon
     INVALID_COUPON_INFO(HttpStatus.BAD_REQUEST, 5000, "쿠폰 정보가 올바르지 않습니다."),
     INSUFFICIENT_COUPON_STOCK(HttpStatus.BAD_REQUEST, 5001, "쿠폰의 재고가 부족합니다."),
+    COUPON_DAY_LIMIT_EXCEEDED(HttpStatus.CONFLICT, 5002, "오늘 사용할 수 있는 쿠폰 수량이 모두 소진되었습니다."),
 
     // Point
     TOSS_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 6000, "토스 API 요청에 실패 했습니다."),
@@ -74,7 +81,10 @@ public enum ErrorCode {
     INVALID_REQUEST_BODY(HttpStatus.BAD_REQUEST, 9001, "유효하지 않은 요청 바디입니다."),
     SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, 9002, "서버에 알 수 없는 에러가 발생했습니다."),
     INVALID_DATE(HttpStatus.BAD_REQUEST, 9003, "유효하지 않는 날짜입니다."),
-    NOT_OWNER(HttpStatus.FORBIDDEN, 9004, "숙소의 업주가 아닙니다.");
+    NOT_OWNER(HttpStatus.FORBIDDEN, 9004, "숙소의 업주가 아닙니다."),
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, 9005, "유효하지 않은 멱등성 키입니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, 9006, "같은 멱등성 키의 요청을 처리 중입니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, 9007, "다른 요청에 사용된 멱등성 키입니다.");
 
     private final HttpStatus httpStatus;
     private final int code;
@@ -0,0 +1,8 @@
+package com.backoffice.upjuyanolja.global.exception;
+
+public class IdempotencyKeyReusedException extends ApplicationException {
+
+    public IdempotencyKeyReusedException() {
+        super(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+}
@@ -0,0 +1,8 @@
+package com.backoffice.upjuyanolja.global.exception;
+
+public class IdempotencyRequestInProgressException extends ApplicationException {
+
+    public IdempotencyRequestInProgressException() {
+        super(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+}
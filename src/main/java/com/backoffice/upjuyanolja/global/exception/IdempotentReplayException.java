@@ -0,0 +1,11 @@
+package com.backoffice.upjuyanolja.global.exception;
+
+/**
+ * 멱등성 키로 저장된 비즈니스 예외를 재시도 요청에 그대로 돌려주기 위한 예외
+ */
+public class IdempotentReplayException extends ApplicationException {
+
+    public IdempotentReplayException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
@@ -0,0 +1,8 @@
+package com.backoffice.upjuyanolja.global.exception;
+
+public class InvalidIdempotencyKeyException extends ApplicationException {
+
+    public InvalidIdempotencyKeyException() {
+        super(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+    }
+}
@@ -0,0 +1,20 @@
+package com.backoffice.upjuyanolja.global.idempotency.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.context.annotation.Description;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Description("Replays the stored response when a request is retried with the same Idempotency-Key.")
+public @interface Idempotent {
+
+    /**
+     * The name of the operation. Keys are scoped by this name and the authenticated user.
+     */
+    String name();
+}
@@ -0,0 +1,194 @@
+package com.backoffice.upjuyanolja.global.idempotency.aspect;
+
+import com.backoffice.upjuyanolja.global.exception.ApplicationException;
+import com.backoffice.upjuyanolja.global.exception.ErrorCode;
+import com.backoffice.upjuyanolja.global.exception.IdempotencyKeyReusedException;
+import com.backoffice.upjuyanolja.global.exception.IdempotencyRequestInProgressException;
+import com.backoffice.upjuyanolja.global.exception.IdempotentReplayException;
+import com.backoffice.upjuyanolja.global.exception.InvalidIdempotencyKeyException;
+import com.backoffice.upjuyanolja.global.idempotency.annotation.Idempotent;
+import com.backoffice.upjuyanolja.global.idempotency.store.IdempotencyRecord;
+import com.backoffice.upjuyanolja.global.idempotency.store.IdempotencyRecord.State;
+import com.backoffice.upjuyanolja.global.idempotency.store.IdempotencyStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Idempotency-Key 헤더가 있는 요청의 처리 결과를 저장하고, 같은 키로 재시도한 요청에는 서비스를 호출하지 않고 저장된 응답을 돌려준다.
+ * 헤더가 없으면 기존과 같이 처리한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    public static final String HEADER_NAME = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Around("@annotation(idempotent)")
+    public Object handleIdempotency(ProceedingJoinPoint joinPoint, Idempotent idempotent)
+        throws Throwable {
+        String idempotencyKey = getIdempotencyKey();
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return joinPoint.proceed();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException();
+        }
+
+        String key = idempotent.name() + ":" + getPrincipalName() + ":" + idempotencyKey;
+        String fingerprint = getFingerprint(joinPoint);
+
+        IdempotencyRecord marker = IdempotencyRecord.inProgress(fingerprint);
+        Optional<IdempotencyRecord> stored = idempotencyStore.start(key, marker);
+        if (stored.isPresent()) {
+            log.info("멱등성 키 재시도 요청. key={}", key);
+            return replay(joinPoint, stored.get(), fingerprint);
+        }
+
+        ScheduledFuture<?> renewal = idempotencyStore.keepAlive(key, marker);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (ApplicationException e) {
+            // 요청 자체가 잘못된 경우만 결과로 저장하고, 서버 오류는 재시도할 수 있도록 키를 해제
+            if (e.getErrorCode().getHttpStatus().is4xxClientError()) {
+                complete(key, marker, IdempotencyRecord.builder()
+                    .state(State.COMPLETED)
+                    .fingerprint(fingerprint)
+                    .status(e.getErrorCode().getHttpStatus().value())
+                    .errorCode(e.getErrorCode().name())
+                    .build());
+            } else {
+                idempotencyStore.release(key, marker);
+            }
+            throw e;
+        } catch (Throwable e) {
+            idempotencyStore.release(key, marker);
+            throw e;
+        } finally {
+            renewal.cancel(false);
+        }
+
+        // 서비스가 처리를 마쳤으므로 결과를 저장하지 못해도 키를 해제하지 않고 응답을 돌려준다.
+        complete(key, marker, toRecord(fingerprint, (ResponseEntity<?>) result));
+        return result;
+    }
+
+    private void complete(String key, IdempotencyRecord marker, IdempotencyRecord record) {
+        try {
+            idempotencyStore.complete(key, marker, record);
+        } catch (RuntimeException e) {
+            // 처리 중 표시가 만료될 때까지 같은 키의 재시도는 처리 중으로 거절됨
+            log.error("멱등성 처리 결과 저장 실패. key={}", key, e);
+        }
+    }
+
+    private Object replay(
+        ProceedingJoinPoint joinPoint, IdempotencyRecord stored, String fingerprint
+    ) throws JsonProcessingException {
+        if (!fingerprint.equals(stored.fingerprint())) {
+            throw new IdempotencyKeyReusedException();
+        }
+        if (stored.isInProgress()) {
+            throw new IdempotencyRequestInProgressException();
+        }
+        if (stored.errorCode() != null) {
+            throw new IdempotentReplayException(ErrorCode.valueOf(stored.errorCode()));
+        }
+
+        Object body = (stored.body() == null) ? null
+            : objectMapper.readValue(stored.body(), getBodyType(joinPoint));
+        return ResponseEntity.status(stored.status()).body(body);
+    }
+
+    // 바디를 직렬화하지 못하면 바디 없이 상태 코드만 저장해 재시도가 서비스를 다시 호출하지 않게 한다.
+    private IdempotencyRecord toRecord(String fingerprint, ResponseEntity<?> response) {
+        String body = null;
+        if (response.hasBody()) {
+            try {
+                body = objectMapper.writeValueAsString(response.getBody());
+            } catch (JsonProcessingException e) {
+                log.error("멱등성 응답 바디 직렬화 실패. 상태 코드만 저장합니다.", e);
+            }
+        }
+
+        return IdempotencyRecord.builder()
+            .state(State.COMPLETED)
+            .fingerprint(fingerprint)
+            .status(response.getStatusCode().value())
+            .body(body)
+            .build();
+    }
+
+    // ResponseEntity<T> 의 T 로 저장된 바디를 역직렬화
+    private JavaType getBodyType(ProceedingJoinPoint joinPoint) {
+        Type returnType = ((MethodSignature) joinPoint.getSignature()).getMethod()
+            .getGenericReturnType();
+        if (returnType instanceof ParameterizedType parameterizedType) {
+            return objectMapper.constructType(parameterizedType.getActualTypeArguments()[0]);
+        }
+        return objectMapper.constructType(Object.class);
+    }
+
+    // @RequestBody 인자의 JSON 해시
+    private String getFingerprint(ProceedingJoinPoint joinPoint)
+        throws JsonProcessingException, NoSuchAlgorithmException {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        Object[] args = joinPoint.getArgs();
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        for (int i = 0; i < args.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof RequestBody) {
+                    digest.update(objectMapper.writeValueAsString(args[i])
+                        .getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String getIdempotencyKey() {
+        if (RequestContextHolder.getRequestAttributes()
+            instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(HEADER_NAME);
+        }
+        return null;
+    }
+
+    private String getPrincipalName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return (authentication == null) ? "anonymous" : authentication.getName();
+    }
+}
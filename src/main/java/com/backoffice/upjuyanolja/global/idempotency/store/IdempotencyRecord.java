@@ -0,0 +1,42 @@
+package com.backoffice.upjuyanolja.global.idempotency.store;
+
+import java.util.UUID;
+import lombok.Builder;
+
+/**
+ * 멱등성 키로 저장하는 요청 처리 결과
+ *
+ * @param state       : 처리 상태
+ * @param fingerprint : 요청 바디 해시. 같은 키로 다른 요청을 보내면 거절한다.
+ * @param status      : 응답 상태 코드
+ * @param body        : 응답 바디 JSON
+ * @param errorCode   : 비즈니스 예외로 실패한 경우 에러 코드
+ * @param token       : 처리 중 표시를 저장한 요청의 식별값. 다른 요청이 저장한 표시를 덮어쓰거나 지우지 않도록 비교한다.
+ */
+@Builder
+public record IdempotencyRecord(
+    State state,
+    String fingerprint,
+    int status,
+    String body,
+    String errorCode,
+    String token
+) {
+
+    public enum State {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return IdempotencyRecord.builder()
+            .state(State.IN_PROGRESS)
+            .fingerprint(fingerprint)
+            .token(UUID.randomUUID().toString())
+            .build();
+    }
+
+    public boolean isInProgress() {
+        return state == State.IN_PROGRESS;
+    }
+}
@@ -0,0 +1,176 @@
+package com.backoffice.upjuyanolja.global.idempotency.store;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 멱등성 키 저장소
+ * <p>
+ * 처리 중 표시는 짧은 TTL 로 저장해 서버가 중단되어도 키가 영구히 잠기지 않게 하고, 처리하는 동안에는 TTL 의 1/3 마다 연장해 외부 결제
+ * 호출처럼 오래 걸리는 요청의 표시가 만료되지 않게 한다. 처리 결과 저장과 키 해제는 자신이 저장한 처리 중 표시가 남아 있을 때만 하므로,
+ * 표시가 만료된 뒤 다른 요청이 선점한 키를 덮어쓰거나 지우지 않는다. 처리 결과는 재시도 기간 동안 보관한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    /*
+     * KEYS[1] = 멱등성 키
+     * ARGV[1] = 선점한 처리 중 표시, ARGV[2] = 처리 결과, ARGV[3] = 보관 시간(ms)
+     * */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 멱등성 키
+     * ARGV[1] = 선점한 처리 중 표시, ARGV[2] = 연장할 TTL(ms)
+     * */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        """, Long.class);
+
+    /*
+     * KEYS[1] = 멱등성 키
+     * ARGV[1] = 선점한 처리 중 표시
+     * */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        return redis.call('DEL', KEYS[1])
+        """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration inProgressTtl;
+    private final Duration completedTtl;
+    private final ScheduledExecutorService renewer;
+
+    public IdempotencyStore(
+        RedisTemplate<String, Object> redisTemplate,
+        ObjectMapper objectMapper,
+        @Value("${idempotency.in-progress-ttl-seconds:30}") long inProgressTtlSeconds,
+        @Value("${idempotency.ttl-hours:24}") long ttlHours
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        this.completedTtl = Duration.ofHours(ttlHours);
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idempotency-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 키를 선점한다.
+     *
+     * @param key    : 멱등성 키
+     * @param marker : 저장할 처리 중 표시
+     * @return 선점에 성공하면 빈 값, 이미 저장된 키이면 저장된 처리 결과
+     */
+    public Optional<IdempotencyRecord> start(String key, IdempotencyRecord marker) {
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue()
+            .setIfAbsent(KEY_PREFIX + key, write(marker), inProgressTtl))) {
+            return Optional.empty();
+        }
+
+        Object stored = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (stored == null) {
+            // 조회 사이에 처리 중 표시가 만료된 경우 다시 선점
+            return start(key, marker);
+        }
+        return Optional.of(read((String) stored));
+    }
+
+    /**
+     * 처리가 끝날 때까지 처리 중 표시의 TTL 을 주기적으로 연장한다.
+     *
+     * @param key    : 멱등성 키
+     * @param marker : 선점한 처리 중 표시
+     * @return 처리가 끝나면 취소해야 하는 연장 작업
+     */
+    public ScheduledFuture<?> keepAlive(String key, IdempotencyRecord marker) {
+        long periodMillis = Math.max(1, inProgressTtl.toMillis() / 3);
+        return renewer.scheduleAtFixedRate(() -> renew(key, marker),
+            periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 선점한 처리 중 표시를 처리 결과로 바꾼다. 표시가 만료되어 다른 요청이 키를 선점했다면 저장하지 않는다.
+     *
+     * @param key    : 멱등성 키
+     * @param marker : 선점한 처리 중 표시
+     * @param record : 처리 결과
+     */
+    public void complete(String key, IdempotencyRecord marker, IdempotencyRecord record) {
+        Long completed = redisTemplate.execute(COMPLETE_SCRIPT, List.of(KEY_PREFIX + key),
+            write(marker), write(record), String.valueOf(completedTtl.toMillis()));
+        if (completed == null || completed == 0) {
+            log.warn("처리 중 표시가 남아 있지 않아 멱등성 처리 결과를 저장하지 못했습니다. key={}", key);
+        }
+    }
+
+    public void release(String key, IdempotencyRecord marker) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), write(marker));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private void renew(String key, IdempotencyRecord marker) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + key),
+                write(marker), String.valueOf(inProgressTtl.toMillis()));
+            if (renewed == null || renewed == 0) {
+                log.warn("멱등성 키의 처리 중 표시가 만료되었습니다. key={}", key);
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 연장
+            log.warn("멱등성 키 연장 실패. key={}", key, e);
+        }
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IdempotencyRecord read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
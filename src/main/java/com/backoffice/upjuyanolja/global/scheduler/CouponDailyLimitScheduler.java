@@ -0,0 +1,38 @@
+package com.backoffice.upjuyanolja.global.scheduler;
+
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponDailyLimiter;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class CouponDailyLimitScheduler {
+
+    private final CouponDailyLimiter couponDailyLimiter;
+
+    /*
+     * Redis 쿠폰 일일 사용 수를 coupon_daily_usage 테이블에 주기적으로 반영
+     * 자정 직전의 사용 수가 빠지지 않도록 전날 카운터도 만료 전까지 함께 반영
+     * */
+    @Scheduled(fixedDelayString = "${coupon.day-limit.flush-interval-ms:60000}")
+    public void flushCouponDailyUsage() {
+        if (!couponDailyLimiter.isEnabled()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+        int total = couponDailyLimiter.flush(today.minusDays(1))
+            + couponDailyLimiter.flush(today);
+
+        if (total > 0) {
+            log.info("쿠폰 일일 사용량 동기화 성공. 총 {}건.", total);
+        }
+    }
+}
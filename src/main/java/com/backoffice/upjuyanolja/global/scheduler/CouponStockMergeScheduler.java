@@ -0,0 +1,30 @@
+package com.backoffice.upjuyanolja.global.scheduler;
+
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponStockBuckets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class CouponStockMergeScheduler {
+
+    private final CouponStockBuckets couponStockBuckets;
+
+    // Redis 쿠폰 재고 버킷의 판매 수를 coupon 테이블에 주기적으로 반영하고, DB 에서 바뀐 재고를 버킷에 보정
+    @Scheduled(fixedDelayString = "${coupon.stock-buckets.merge-interval-ms:1000}")
+    public void mergeCouponStock() {
+        if (!couponStockBuckets.isEnabled()) {
+            return;
+        }
+
+        int merged = couponStockBuckets.merge();
+        if (merged > 0) {
+            log.info("쿠폰 재고 동기화 성공. 총 {}건.", merged);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.backoffice.upjuyanolja.global.scheduler;
+
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationAdmissionQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ReservationAdmissionScheduler {
+
+    private final ReservationAdmissionQueue reservationAdmissionQueue;
+
+    // 객실 별 예약 대기열에서 입장 수 만큼 대기자를 주기적으로 입장
+    @Scheduled(fixedRateString = "${reservation.admission.admit-interval-ms:1000}")
+    public void admitReservationQueue() {
+        if (!reservationAdmissionQueue.isEnabled()) {
+            return;
+        }
+
+        int admitted = reservationAdmissionQueue.admit();
+
+        if (admitted > 0) {
+            log.debug("예약 대기열 입장. 총 {}명.", admitted);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.backoffice.upjuyanolja.global.scheduler;
+
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ReservationHoldScheduler {
+
+    private static final int EXPIRE_BATCH_SIZE = 500;
+
+    private final ReservationService reservationService;
+
+    // 만료된 재고 선점을 배치 단위로 만료 처리하고 재고 복구를 등록
+    @Scheduled(fixedDelayString = "${reservation.hold.sweep-interval-ms:10000}")
+    public void expireReservationHolds() {
+        int total = 0;
+        int expired;
+        do {
+            expired = reservationService.expireHolds(EXPIRE_BATCH_SIZE);
+            total += expired;
+        } while (expired == EXPIRE_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("재고 선점 만료 처리. 총 {}건.", total);
+        }
+    }
+}
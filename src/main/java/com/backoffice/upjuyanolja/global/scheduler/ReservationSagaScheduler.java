@@ -0,0 +1,29 @@
+package com.backoffice.upjuyanolja.global.scheduler;
+
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationSagaExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ReservationSagaScheduler {
+
+    private static final int RECOVER_BATCH_SIZE = 500;
+
+    private final ReservationSagaExecutor reservationSagaExecutor;
+
+    // 완료되지 못한 예약 사가와 재시도 대기 중인 보상을 주기적으로 워커 풀에 등록
+    @Scheduled(fixedDelayString = "${reservation.saga.recover-interval-ms:5000}")
+    public void recoverReservationSagas() {
+        int recovered = reservationSagaExecutor.recover(RECOVER_BATCH_SIZE);
+
+        if (recovered > 0) {
+            log.info("예약 사가 보상 등록. 총 {}건.", recovered);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.backoffice.upjuyanolja.global.scheduler;
+
+import com.backoffice.upjuyanolja.domain.reservation.service.RoomInventoryEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class RoomInventoryScheduler {
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final RoomInventoryEngine roomInventoryEngine;
+
+    // Redis 객실 재고를 room_stock 테이블에 주기적으로 반영
+    @Scheduled(fixedDelayString = "${reservation.inventory.flush-interval-ms:5000}")
+    public void reconcileRoomStock() {
+        if (!roomInventoryEngine.isEnabled()) {
+            return;
+        }
+
+        int total = 0;
+        int flushed;
+        do {
+            flushed = roomInventoryEngine.flushDirty(FLUSH_BATCH_SIZE);
+            total += flushed;
+        } while (flushed == FLUSH_BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("객실 재고 동기화 성공. 총 {}건.", total);
+        }
+    }
+}
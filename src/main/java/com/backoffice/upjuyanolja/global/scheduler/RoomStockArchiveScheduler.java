@@ -0,0 +1,63 @@
+package com.backoffice.upjuyanolja.global.scheduler;
+
+import com.backoffice.upjuyanolja.domain.room.service.RoomStockArchiver;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class RoomStockArchiveScheduler {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private final RoomStockArchiver roomStockArchiver;
+
+    @Value("${room-stock.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${room-stock.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${room-stock.archive.max-batches:500}")
+    private int maxBatches;
+
+    @Value("${room-stock.archive.pause-ms:200}")
+    private long pauseMillis;
+
+    // 보관 기간이 지난 재고를 배치 단위로 옮기고, 배치 사이에 쉬어 예약 트래픽에 주는 부하를 제한
+    @Scheduled(cron = "${room-stock.archive.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void archiveRoomStocks() {
+        LocalDate cutoff = LocalDate.now(ZONE_ID).minusDays(retentionDays);
+        long startedAt = System.currentTimeMillis();
+        int total = 0;
+        int batches = 0;
+        int archived;
+        do {
+            archived = roomStockArchiver.archive(cutoff, batchSize);
+            total += archived;
+        } while (archived == batchSize && ++batches < maxBatches && pause());
+
+        if (total > 0) {
+            log.info("객실 재고 보관 처리. 기준일 {}, 총 {}건, {}ms.",
+                cutoff, total, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
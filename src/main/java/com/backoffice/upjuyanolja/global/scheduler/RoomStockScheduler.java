@@ -1,31 +1,37 @@
 package com.backoffice.upjuyanolja.global.scheduler;
 
-import com.backoffice.upjuyanolja.domain.room.entity.Room;
-import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
-import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
-import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
+import com.backoffice.upjuyanolja.domain.room.service.RoomStockGenerator;
+import com.backoffice.upjuyanolja.domain.room.service.RoomStockGenerator.RoomStockGenerationResult;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.ZoneId;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
 
+@Slf4j
+@Component
 @EnableScheduling
 @RequiredArgsConstructor
 public class RoomStockScheduler {
 
-    private final RoomRepository roomRepository;
-    private final RoomStockRepository roomStockRepository;
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
 
-    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
-    private void addStockAfter30Days() {
-        List<Room> rooms = roomRepository.findAll();
-        for (Room room : rooms) {
-            roomStockRepository.save(RoomStock.builder()
-                .room(room)
-                .count(room.getAmount())
-                .date(LocalDate.now().plusDays(29))
-                .build());
-        }
+    private final RoomStockGenerator roomStockGenerator;
+
+    @Value("${room-stock.horizon-days:30}")
+    private int horizonDays;
+
+    // 오늘부터 판매 기간 끝까지 빠진 날짜의 재고를 생성. 실행이 누락된 날짜도 다음 실행에서 채워짐
+    @Scheduled(cron = "${room-stock.generator.cron:0 0 3 * * *}", zone = "Asia/Seoul")
+    public void fillRoomStocks() {
+        LocalDate today = LocalDate.now(ZONE_ID);
+        RoomStockGenerationResult result = roomStockGenerator.generate(
+            today, today.plusDays(horizonDays - 1));
+
+        log.info("객실 재고 생성. 객실 {}개, 재고 {}건, {}ms, 초당 {}건.",
+            result.rooms(), result.inserted(), result.elapsedMillis(), result.rowsPerSecond());
     }
 }
@@ -21,6 +21,7 @@ import com.backoffice.upjuyanolja.domain.accommodation.dto.response.Accommodatio
 import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationOwnershipResponse;
 import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationCommandService;
 import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationQueryService;
+import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationSummaryService;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomImageRequest;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomOptionRequest;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomRegisterRequest;
@@ -65,6 +66,9 @@ public class AccommodationBackofficeControllerTest {
     @MockBean
     private AccommodationQueryService accommodationQueryService;
 
+    @MockBean
+    private AccommodationSummaryService accommodationSummaryService;
+
     @MockBean
     private SecurityUtil securityUtil;
 
@@ -246,4 +250,24 @@ public class AccommodationBackofficeControllerTest {
             verify(accommodationQueryService, times(1)).getAccommodationOwnership(any(Long.TYPE));
         }
     }
+
+    @Nested
+    @DisplayName("rebuildAccommodationSummaries()는")
+    class Context_rebuildAccommodationSummaries {
+
+        @Test
+        @DisplayName("숙소 요약 정보를 다시 생성할 수 있다.")
+        void _willSuccess() throws Exception {
+            // given
+            given(accommodationSummaryService.rebuildAll()).willReturn(3);
+
+            // when then
+            mockMvc.perform(post("/backoffice-api/accommodations/summaries/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rebuiltCount").value(3))
+                .andDo(print());
+
+            verify(accommodationSummaryService, times(1)).rebuildAll();
+        }
+    }
 }
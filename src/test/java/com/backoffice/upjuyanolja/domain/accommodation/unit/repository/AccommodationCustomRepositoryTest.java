@@ -0,0 +1,197 @@
+package com.backoffice.upjuyanolja.domain.accommodation.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationCouponQueryDto;
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationPriceQueryDto;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.CategoryRepository;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomPriceRepository;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.global.config.QueryDslConfig;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(QueryDslConfig.class)
+public class AccommodationCustomRepositoryTest {
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomPriceRepository roomPriceRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    private Accommodation couponAccommodation;
+
+    private Accommodation plainAccommodation;
+
+    @BeforeEach
+    public void setUp() {
+        Category category = categoryRepository.save(Category.builder()
+            .name("TOURIST_HOTEL")
+            .build());
+
+        couponAccommodation = saveAccommodation(category, "그랜드 하얏트 제주");
+        plainAccommodation = saveAccommodation(category, "신라 호텔 제주");
+
+        Room cheapRoom = saveRoom(couponAccommodation, 100000);
+        saveRoom(couponAccommodation, 150000);
+        saveRoom(plainAccommodation, 200000);
+
+        saveCoupon(cheapRoom, DiscountType.FLAT, 10000, CouponStatus.ENABLE);
+        saveCoupon(cheapRoom, DiscountType.RATE, 5, CouponStatus.DISABLE);
+    }
+
+    private Accommodation saveAccommodation(Category category, String name) {
+        return accommodationRepository.save(Accommodation.builder()
+            .name(name)
+            .address("제주특별자치도 제주시 노형동 925")
+            .detailAddress("")
+            .zipCode("63082")
+            .category(category)
+            .description("제주 숙소")
+            .thumbnail("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .rooms(new ArrayList<>())
+            .build());
+    }
+
+    private Room saveRoom(Accommodation accommodation, int price) {
+        Room room = roomRepository.save(Room.builder()
+            .accommodation(accommodation)
+            .name("65m² 킹룸")
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(10)
+            .status(RoomStatus.SELLING)
+            .build());
+
+        roomPriceRepository.save(RoomPrice.builder()
+            .room(room)
+            .offWeekDaysMinFee(price)
+            .offWeekendMinFee(price)
+            .peakWeekDaysMinFee(price)
+            .peakWeekendMinFee(price)
+            .build());
+        return room;
+    }
+
+    private void saveCoupon(
+        Room room, DiscountType discountType, int discount, CouponStatus status
+    ) {
+        couponRepository.save(Coupon.builder()
+            .room(room)
+            .couponType(CouponType.ALL_DAYS)
+            .discountType(discountType)
+            .couponStatus(status)
+            .discount(discount)
+            .endDate(LocalDate.now().plusMonths(1))
+            .dayLimit(-1)
+            .stock(100)
+            .build());
+    }
+
+    @Nested
+    @DisplayName("searchPageByCategoryWithTypeAndName()은")
+    class Context_searchPageByCategoryWithTypeAndName {
+
+        @Test
+        @DisplayName("쿠폰 보유 숙소만 조회하면 총 개수도 필터링된 결과를 따른다.")
+        void _willFilterOnlyHasCoupon() {
+            // when
+            Page<Accommodation> result = accommodationRepository
+                .searchPageByCategoryWithTypeAndName("ALL", true, "", PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getContent()).extracting(Accommodation::getId)
+                .containsExactly(couponAccommodation.getId());
+        }
+
+        @Test
+        @DisplayName("쿠폰 필터가 없으면 모든 숙소를 조회한다.")
+        void _willReturnAll() {
+            // when
+            Page<Accommodation> result = accommodationRepository
+                .searchPageByCategoryWithTypeAndName("ALL", false, "", PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("findLowestPricesByAccommodationIds()는")
+    class Context_findLowestPricesByAccommodationIds {
+
+        @Test
+        @DisplayName("숙소 별 최저 객실 가격과 객실 수를 조회할 수 있다.")
+        void _willReturnLowestPrice() {
+            // when
+            List<AccommodationPriceQueryDto> result = accommodationRepository
+                .findLowestPricesByAccommodationIds(
+                    List.of(couponAccommodation.getId(), plainAccommodation.getId()));
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(
+                new AccommodationPriceQueryDto(couponAccommodation.getId(), 100000, 2L),
+                new AccommodationPriceQueryDto(plainAccommodation.getId(), 200000, 1L)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("findEnabledCouponsByAccommodationIds()는")
+    class Context_findEnabledCouponsByAccommodationIds {
+
+        @Test
+        @DisplayName("사용 가능한 쿠폰만 객실 가격과 함께 조회할 수 있다.")
+        void _willReturnEnabledCoupons() {
+            // when
+            List<AccommodationCouponQueryDto> result = accommodationRepository
+                .findEnabledCouponsByAccommodationIds(
+                    List.of(couponAccommodation.getId(), plainAccommodation.getId()));
+
+            // then
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).accommodationId()).isEqualTo(couponAccommodation.getId());
+            assertThat(result.get(0).roomPrice()).isEqualTo(100000);
+            assertThat(result.get(0).discountType()).isEqualTo(DiscountType.FLAT);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.backoffice.upjuyanolja.domain.accommodation.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backoffice.upjuyanolja.domain.accommodation.dto.response.AccommodationDetailResponse;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationImage;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.AccommodationOption;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationQueryService;
+import com.backoffice.upjuyanolja.domain.accommodation.service.AccommodationSummaryService;
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCouponCache;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponService;
+import com.backoffice.upjuyanolja.domain.member.service.MemberGetService;
+import com.backoffice.upjuyanolja.domain.room.cache.RoomAvailabilityCache;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomImage;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomOption;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.service.RoomPricingEngine;
+import com.backoffice.upjuyanolja.domain.room.service.RoomQueryService;
+import com.backoffice.upjuyanolja.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import({
+    QueryDslConfig.class,
+    AccommodationQueryService.class,
+    AccommodationSummaryService.class,
+    RoomQueryService.class,
+    RoomPricingEngine.class,
+    RoomAvailabilityCache.class,
+    CouponService.class,
+    RoomCouponCache.class,
+    MemberGetService.class
+})
+public class AccommodationDetailQueryCountTest {
+
+    // 숙소+카테고리+객실, 숙소 옵션, 숙소 이미지, 객실 가격, 객실 옵션, 객실 이미지, 쿠폰, 재고
+    private static final long MAX_QUERY_COUNT = 8;
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    @Autowired
+    private AccommodationQueryService accommodationQueryService;
+
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+
+    private Category category;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        category = Category.builder()
+            .name("TOURIST_HOTEL")
+            .build();
+        em.persist(category);
+    }
+
+    private Accommodation saveAccommodation(int roomCount) {
+        Accommodation accommodation = Accommodation.builder()
+            .name("그랜드 하얏트 제주")
+            .address("제주특별자치도 제주시 노형동 925")
+            .detailAddress("")
+            .zipCode("63082")
+            .category(category)
+            .description("제주 숙소")
+            .thumbnail("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .rooms(new ArrayList<>())
+            .build();
+        em.persist(accommodation);
+        em.persist(AccommodationOption.builder()
+            .accommodation(accommodation)
+            .parking(true)
+            .build());
+        em.persist(AccommodationImage.builder()
+            .accommodation(accommodation)
+            .url("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .build());
+
+        for (int i = 0; i < roomCount; i++) {
+            saveRoom(accommodation, 100000 + i * 10000);
+        }
+
+        em.flush();
+        em.clear();
+        return accommodation;
+    }
+
+    private void saveRoom(Accommodation accommodation, int price) {
+        Room room = Room.builder()
+            .accommodation(accommodation)
+            .name("65m² 킹룸")
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(10)
+            .status(RoomStatus.SELLING)
+            .build();
+        em.persist(room);
+        em.persist(RoomPrice.builder()
+            .room(room)
+            .offWeekDaysMinFee(price)
+            .offWeekendMinFee(price)
+            .peakWeekDaysMinFee(price)
+            .peakWeekendMinFee(price)
+            .build());
+        em.persist(RoomOption.builder()
+            .room(room)
+            .airCondition(true)
+            .tv(true)
+            .internet(true)
+            .build());
+        em.persist(RoomImage.builder()
+            .room(room)
+            .url("http://tong.visitkorea.or.kr/cms/resource/77/2876777_image2_1.jpg")
+            .build());
+        em.persist(Coupon.builder()
+            .room(room)
+            .couponType(CouponType.ALL_DAYS)
+            .discountType(DiscountType.FLAT)
+            .couponStatus(CouponStatus.ENABLE)
+            .discount(10000)
+            .endDate(TODAY.plusMonths(1))
+            .dayLimit(-1)
+            .stock(100)
+            .build());
+        em.persist(RoomStock.builder()
+            .room(room)
+            .date(TODAY)
+            .count(10)
+            .build());
+        em.persist(RoomStock.builder()
+            .room(room)
+            .date(TODAY.plusDays(1))
+            .count(5)
+            .build());
+    }
+
+    private long countQueries(Accommodation accommodation) {
+        statistics.clear();
+        accommodationQueryService.findAccommodationWithRooms(
+            accommodation.getId(), TODAY, TODAY.plusDays(1));
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Nested
+    @DisplayName("findAccommodationWithRooms()는")
+    class Context_findAccommodationWithRooms {
+
+        @Test
+        @DisplayName("객실 수와 관계없이 같은 수의 쿼리로 조회한다.")
+        void _willUseFixedQueryCount() {
+            // given
+            Accommodation singleRoomAccommodation = saveAccommodation(1);
+            Accommodation multiRoomAccommodation = saveAccommodation(5);
+
+            // when
+            long singleRoomQueryCount = countQueries(singleRoomAccommodation);
+            em.clear();
+            long multiRoomQueryCount = countQueries(multiRoomAccommodation);
+
+            // then
+            assertThat(multiRoomQueryCount).isEqualTo(singleRoomQueryCount);
+            assertThat(multiRoomQueryCount).isLessThanOrEqualTo(MAX_QUERY_COUNT);
+        }
+
+        @Test
+        @DisplayName("일괄 조회한 데이터로 객실 별 가격, 쿠폰, 재고를 조립한다.")
+        void _willAssembleRooms() {
+            // given
+            Accommodation accommodation = saveAccommodation(2);
+
+            // when
+            AccommodationDetailResponse result = accommodationQueryService
+                .findAccommodationWithRooms(accommodation.getId(), TODAY, TODAY.plusDays(1));
+
+            // then
+            assertThat(result.category()).isEqualTo("TOURIST_HOTEL");
+            assertThat(result.images()).hasSize(1);
+            assertThat(result.rooms()).hasSize(2);
+            assertThat(result.rooms()).allSatisfy(room -> {
+                assertThat(room.discountPrice()).isEqualTo(room.basePrice() - 10000);
+                assertThat(room.stayPrice()).isEqualTo(room.basePrice() * 2);
+                assertThat(room.stayDiscountPrice()).isEqualTo(room.stayPrice() - 10000);
+                assertThat(room.soldOut()).isFalse();
+                assertThat(room.count()).isEqualTo(5);
+                assertThat(room.coupons()).hasSize(1);
+                assertThat(room.images()).hasSize(1);
+            });
+            assertThat(result.mainCoupon()).isNotEmpty();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.backoffice.upjuyanolja.domain.coupon.unit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCouponCache;
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCoupons;
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCoupons.RoomCoupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.coupon.event.RoomCouponEvent;
+import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RoomCouponCacheTest {
+
+    private static final int ROOM_PRICE = 100000;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private RoomCouponCache roomCouponCache;
+
+    private Room room;
+
+    @BeforeEach
+    public void setUp() {
+        roomCouponCache = new RoomCouponCache(couponRepository, 100, 60);
+        room = Room.builder()
+            .id(1L)
+            .name("65m² 킹룸")
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(10)
+            .status(RoomStatus.SELLING)
+            .build();
+    }
+
+    private Coupon createCoupon(
+        Long id, DiscountType discountType, int discount, CouponStatus couponStatus
+    ) {
+        return Coupon.builder()
+            .id(id)
+            .room(room)
+            .couponType(CouponType.ALL_DAYS)
+            .discountType(discountType)
+            .couponStatus(couponStatus)
+            .discount(discount)
+            .endDate(LocalDate.MAX)
+            .dayLimit(-1)
+            .stock(10)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("getAll()은")
+    class Context_getAll {
+
+        @Test
+        @DisplayName("사용 가능한 쿠폰을 결제 가격 순으로 적재하고, 다시 조회하면 캐시를 사용한다.")
+        void _willUseCache() {
+            // given
+            given(couponRepository.findAllByRoomIdInAndCouponStatus(
+                anyCollection(), any(CouponStatus.class)))
+                .willReturn(List.of(
+                    createCoupon(1L, DiscountType.FLAT, 10000, CouponStatus.ENABLE),
+                    createCoupon(2L, DiscountType.RATE, 20, CouponStatus.ENABLE),
+                    createCoupon(3L, DiscountType.FLAT, 15000, CouponStatus.SOLD_OUT)
+                ));
+
+            // when
+            roomCouponCache.getAll(Map.of(room.getId(), ROOM_PRICE));
+            Map<Long, RoomCoupons> result = roomCouponCache.getAll(
+                Map.of(room.getId(), ROOM_PRICE));
+
+            // then
+            RoomCoupons roomCoupons = result.get(room.getId());
+            assertThat(roomCoupons.getCoupons()).extracting(RoomCoupon::id)
+                .containsExactly(2L, 1L);
+            assertThat(roomCoupons.getCoupons()).extracting(RoomCoupon::price)
+                .containsExactly(80000, 90000);
+            assertThat(roomCoupons.getBest(DiscountType.FLAT).id()).isEqualTo(1L);
+            assertThat(roomCoupons.getBestPrice(DiscountType.RATE)).isEqualTo(80000);
+            assertThat(roomCoupons.getBestDiscount(DiscountType.FLAT)).isEqualTo(10000);
+            assertThat(roomCoupons.getDiscountPrice()).isEqualTo(80000);
+            verify(couponRepository, times(1)).findAllByRoomIdInAndCouponStatus(
+                anyCollection(), any(CouponStatus.class));
+        }
+
+        @Test
+        @DisplayName("쿠폰 변경 이벤트를 받거나 객실 가격이 바뀌면 다시 조회한다.")
+        void _willReloadAfterEventOrPriceChange() {
+            // given
+            given(couponRepository.findAllByRoomIdInAndCouponStatus(
+                anyCollection(), any(CouponStatus.class)))
+                .willReturn(List.of(
+                    createCoupon(1L, DiscountType.FLAT, 10000, CouponStatus.ENABLE)));
+
+            // when
+            roomCouponCache.getAll(Map.of(room.getId(), ROOM_PRICE));
+            roomCouponCache.handleRoomCouponEvent(RoomCouponEvent.of(room.getId()));
+            roomCouponCache.getAll(Map.of(room.getId(), ROOM_PRICE));
+            Map<Long, RoomCoupons> result = roomCouponCache.getAll(
+                Map.of(room.getId(), ROOM_PRICE + 10000));
+
+            // then
+            RoomCoupons roomCoupons = result.get(room.getId());
+            assertThat(roomCoupons.getCoupons()).extracting(RoomCoupon::price)
+                .containsExactly(100000);
+            assertThat(roomCoupons.getBestPrice(DiscountType.RATE))
+                .isEqualTo(RoomCoupons.NO_COUPON);
+            verify(couponRepository, times(3)).findAllByRoomIdInAndCouponStatus(
+                anyCollection(), any(CouponStatus.class));
+        }
+
+        @Test
+        @DisplayName("적재하는 동안 무효화된 객실은 캐시에 넣지 않는다.")
+        void _willNotCacheInvalidatedDuringLoad() {
+            // given
+            given(couponRepository.findAllByRoomIdInAndCouponStatus(
+                anyCollection(), any(CouponStatus.class)))
+                .willAnswer(invocation -> {
+                    roomCouponCache.invalidate(room.getId());
+                    return List.of(
+                        createCoupon(1L, DiscountType.FLAT, 10000, CouponStatus.ENABLE));
+                })
+                .willReturn(List.of());
+
+            // when
+            Map<Long, RoomCoupons> loaded = roomCouponCache.getAll(
+                Map.of(room.getId(), ROOM_PRICE));
+            Map<Long, RoomCoupons> result = roomCouponCache.getAll(
+                Map.of(room.getId(), ROOM_PRICE));
+
+            // then
+            assertThat(loaded.get(room.getId()).getCoupons()).hasSize(1);
+            assertThat(result.get(room.getId()).getCoupons()).isEmpty();
+            verify(couponRepository, times(2)).findAllByRoomIdInAndCouponStatus(
+                anyCollection(), any(CouponStatus.class));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.backoffice.upjuyanolja.domain.coupon.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.coupon.exception.CouponDayLimitExceededException;
+import com.backoffice.upjuyanolja.domain.coupon.repository.CouponDailyUsageRepository;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponDailyLimiter;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponDailyLimiter 단위 테스트")
+class CouponDailyLimiterTest {
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    SetOperations<String, Object> setOperations;
+
+    @Mock
+    ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    CouponDailyUsageRepository couponDailyUsageRepository;
+
+    CouponDailyLimiter couponDailyLimiter;
+
+    @BeforeEach
+    public void initTest() {
+        couponDailyLimiter = new CouponDailyLimiter(redisTemplate, couponDailyUsageRepository);
+        ReflectionTestUtils.setField(couponDailyLimiter, "enabled", true);
+        ReflectionTestUtils.setField(couponDailyLimiter, "shards", 8);
+        ReflectionTestUtils.setField(couponDailyLimiter, "retentionSeconds", 3600L);
+        ReflectionTestUtils.setField(couponDailyLimiter, "flushLockMillis", 10000L);
+    }
+
+    private Coupon createCoupon(int dayLimit) {
+        return Coupon.builder()
+            .id(1L)
+            .couponType(CouponType.ALL_DAYS)
+            .discountType(DiscountType.FLAT)
+            .couponStatus(CouponStatus.ENABLE)
+            .discount(10000)
+            .endDate(LocalDate.now().plusMonths(1))
+            .dayLimit(dayLimit)
+            .stock(100)
+            .build();
+    }
+
+    @Test
+    @DisplayName("일일 사용 한도가 무제한(-1)이면 Redis 를 조회하지 않는다.")
+    void acquire_unlimited() {
+        // when
+        couponDailyLimiter.acquire(createCoupon(-1));
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("샤드의 첫 사용이면 사용 수를 늘리고 기록 대상 쿠폰으로 등록한다.")
+    void acquire_firstUse() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+            .thenReturn(1L);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // when
+        assertDoesNotThrow(() -> couponDailyLimiter.acquire(createCoupon(100)));
+
+        // then
+        verify(redisTemplate, times(1))
+            .execute(any(RedisScript.class), anyList(), anyString(), anyString());
+        verify(setOperations).add(anyString(), eq("1"));
+    }
+
+    @Test
+    @DisplayName("할당량이 소진된 샤드는 건너뛰고 남은 샤드에서 사용 수를 늘린다.")
+    void acquire_nextShard() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+            .thenReturn(0L, 0L, 5L);
+
+        // when
+        assertDoesNotThrow(() -> couponDailyLimiter.acquire(createCoupon(100)));
+
+        // then
+        verify(redisTemplate, times(3))
+            .execute(any(RedisScript.class), anyList(), anyString(), anyString());
+        verify(redisTemplate, never()).opsForSet();
+    }
+
+    @Test
+    @DisplayName("한도보다 많은 샤드로 나누지 않고, 모든 샤드가 소진되면 예외가 발생한다.")
+    void acquire_exhausted() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+            .thenReturn(0L);
+
+        // when & then
+        assertThrows(CouponDayLimitExceededException.class,
+            () -> couponDailyLimiter.acquire(createCoupon(3)));
+        verify(redisTemplate, times(3))
+            .execute(any(RedisScript.class), anyList(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 기록 중이면 사용 수를 기록하지 않는다.")
+    void flush_locked() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(setOperations.members(anyString())).thenReturn(Set.of("1"));
+        when(valueOperations.setIfAbsent(eq("coupon:day-limit:flush-lock"), anyString(),
+            any(Duration.class))).thenReturn(false);
+
+        // when
+        int flushed = couponDailyLimiter.flush(today);
+
+        // then
+        assertEquals(0, flushed);
+        verify(valueOperations, never()).multiGet(anyList());
+        verifyNoInteractions(couponDailyUsageRepository);
+    }
+}
@@ -0,0 +1,186 @@
+package com.backoffice.upjuyanolja.domain.coupon.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.coupon.exception.InsufficientCouponStockException;
+import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponStockBuckets;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponStockBuckets 단위 테스트")
+class CouponStockBucketsTest {
+
+    private static final int BUCKET_COUNT = 4;
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    SetOperations<String, Object> setOperations;
+
+    @Mock
+    ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    CouponRepository couponRepository;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    CouponStockBuckets couponStockBuckets;
+
+    @BeforeEach
+    public void initTest() {
+        couponStockBuckets = new CouponStockBuckets(redisTemplate, couponRepository,
+            eventPublisher);
+        ReflectionTestUtils.setField(couponStockBuckets, "enabled", true);
+        ReflectionTestUtils.setField(couponStockBuckets, "bucketCount", BUCKET_COUNT);
+    }
+
+    private Coupon createCoupon(int stock) {
+        return Coupon.builder()
+            .id(1L)
+            .room(Room.builder()
+                .id(1L)
+                .accommodation(Accommodation.builder().id(1L).build())
+                .build())
+            .couponType(CouponType.ALL_DAYS)
+            .discountType(DiscountType.FLAT)
+            .couponStatus(CouponStatus.ENABLE)
+            .discount(10000)
+            .endDate(LocalDate.now().plusMonths(1))
+            .dayLimit(-1)
+            .stock(stock)
+            .build();
+    }
+
+    @Test
+    @DisplayName("재고가 없는 버킷은 건너뛰고 다음 버킷에서 차감한다.")
+    void decrease_nextBucket() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(0L, 1L);
+
+        // when
+        assertDoesNotThrow(() -> couponStockBuckets.decrease(1L));
+
+        // then
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList());
+    }
+
+    @Test
+    @DisplayName("모든 버킷의 재고가 없으면 예외가 발생한다.")
+    void decrease_exhausted() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList())).thenReturn(0L);
+
+        // when & then
+        assertThrows(InsufficientCouponStockException.class,
+            () -> couponStockBuckets.decrease(1L));
+        verify(redisTemplate, times(BUCKET_COUNT)).execute(any(RedisScript.class), anyList());
+    }
+
+    @Test
+    @DisplayName("버킷 판매 수만큼 쿠폰 재고를 줄이고, 재고가 0 이면 매진 처리한다.")
+    void merge_soldOut() {
+        // given
+        Coupon coupon = createCoupon(0);
+        givenLoadedAndLocked();
+        when(redisTemplate.execute(any(RedisScript.class), anyList()))
+            .thenReturn(List.of(0L, 1L));
+        when(couponRepository.subtractStock(1L, BUCKET_COUNT)).thenReturn(1);
+        when(couponRepository.findAllById(Set.of(1L))).thenReturn(List.of(coupon));
+        when(couponRepository.updateStatusIfEmpty(1L, CouponStatus.SOLD_OUT)).thenReturn(1);
+
+        // when
+        int merged = couponStockBuckets.merge();
+
+        // then
+        assertEquals(1, merged);
+        verify(couponRepository).updateStatusIfEmpty(1L, CouponStatus.SOLD_OUT);
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("추가 발급으로 DB 재고가 버킷 재고보다 많으면 그 차이를 버킷에 더한다.")
+    void merge_topUp() {
+        // given
+        Coupon coupon = createCoupon(30);
+        givenLoadedAndLocked();
+        // 버킷마다 남은 재고 5, 판매 수 2
+        when(redisTemplate.execute(any(RedisScript.class), anyList()))
+            .thenReturn(List.of(5L, 2L));
+        when(couponRepository.subtractStock(1L, 2 * BUCKET_COUNT)).thenReturn(1);
+        when(couponRepository.findAllById(Set.of(1L))).thenReturn(List.of(coupon));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("10")))
+            .thenReturn(10L);
+
+        // when
+        couponStockBuckets.merge();
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("10"));
+        verify(couponRepository, never()).updateStatusIfEmpty(any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 기록 중이면 버킷을 읽지 않는다.")
+    void merge_locked() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(setOperations.members("coupon-stock:loaded")).thenReturn(Set.of("1"));
+        when(valueOperations.setIfAbsent(eq("coupon-stock:merge-lock"), anyString(),
+            any(Duration.class))).thenReturn(false);
+
+        // when
+        int merged = couponStockBuckets.merge();
+
+        // then
+        assertEquals(0, merged);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList());
+        verifyNoInteractions(couponRepository);
+    }
+
+    private void givenLoadedAndLocked() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(setOperations.members("coupon-stock:loaded")).thenReturn(Set.of("1"));
+        when(valueOperations.setIfAbsent(eq("coupon-stock:merge-lock"), anyString(),
+            any(Duration.class))).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class),
+            eq(List.of("coupon-stock:merge-lock")), anyString())).thenReturn(1L);
+    }
+}
@@ -21,10 +21,10 @@ import com.backoffice.upjuyanolja.domain.member.entity.Authority;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.member.service.MemberGetService;
 import com.backoffice.upjuyanolja.domain.payment.entity.PayMethod;
-import com.backoffice.upjuyanolja.domain.payment.entity.Payment;
 import com.backoffice.upjuyanolja.domain.reservation.dto.request.CreateReservationRequest;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetCanceledResponse;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetReservedResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHistoryQueryDto;
 import com.backoffice.upjuyanolja.domain.reservation.entity.Reservation;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationRoom;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
@@ -35,6 +35,7 @@ import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
 import com.backoffice.upjuyanolja.global.security.SecurityUtil;
 import com.backoffice.upjuyanolja.global.util.RestDocsSupport;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -167,14 +168,26 @@ public class ReservationControllerDocsTest extends RestDocsSupport {
         return reservation;
     }
 
-    private Payment getPayment(Reservation reservation) {
-        return Payment.builder()
-            .member(mockMember)
-            .reservation(reservation)
-            .payMethod(PayMethod.KAKAO_PAY)
+    private ReservationHistoryQueryDto createHistory(Reservation reservation) {
+        ReservationRoom reservationRoom = reservation.getReservationRoom();
+        Room room = reservationRoom.getRoom();
+        return ReservationHistoryQueryDto.builder()
+            .id(reservation.getId())
+            .createdAt(LocalDateTime.now())
+            .isCouponUsed(reservation.getIsCouponUsed())
+            .status(reservation.getStatus())
             .roomPrice(mockRoomPrice.getOffWeekDaysMinFee())
-            .discountAmount(0)
             .totalAmount(mockRoomPrice.getOffWeekDaysMinFee())
+            .accommodationId(room.getAccommodation().getId())
+            .accommodationName(room.getAccommodation().getName())
+            .roomId(room.getId())
+            .roomName(room.getName())
+            .checkInTime(room.getCheckInTime())
+            .checkOutTime(room.getCheckOutTime())
+            .defaultCapacity(room.getDefaultCapacity())
+            .maxCapacity(room.getMaxCapacity())
+            .startDate(reservationRoom.getStartDate())
+            .endDate(reservationRoom.getEndDate())
             .build();
     }
 
@@ -303,13 +316,11 @@ public class ReservationControllerDocsTest extends RestDocsSupport {
             false, ReservationStatus.SERVICED
         ));
 
-        Page<Reservation> mockPage = new PageImpl<>(reservations, pageable, 4);
-        List<Payment> mockPayments = new ArrayList<>();
-        for (Reservation reservation : reservations) {
-            Payment payment = getPayment(reservation);
-            mockPayments.add(payment);
-        }
-        GetReservedResponse mockResponse = new GetReservedResponse(mockPage, mockPayments);
+        List<ReservationHistoryQueryDto> histories = reservations.stream()
+            .map(reservation -> createHistory(reservation))
+            .toList();
+        Page<ReservationHistoryQueryDto> mockPage = new PageImpl<>(histories, pageable, 4);
+        GetReservedResponse mockResponse = new GetReservedResponse(mockPage);
 
         when(securityUtil.getCurrentMemberId()).thenReturn(1L);
         when(memberGetService.getMemberById(1L)).thenReturn(mockMember);
@@ -372,14 +383,11 @@ public class ReservationControllerDocsTest extends RestDocsSupport {
             false, ReservationStatus.CANCELLED
         ));
 
-        Page<Reservation> mockPage = new PageImpl<>(reservations, pageable, 4);
-
-        List<Payment> mockPayments = new ArrayList<>();
-        for (Reservation reservation : reservations) {
-            Payment payment = getPayment(reservation);
-            mockPayments.add(payment);
-        }
-        GetCanceledResponse mockResponse = new GetCanceledResponse(mockPage, mockPayments);
+        List<ReservationHistoryQueryDto> histories = reservations.stream()
+            .map(reservation -> createHistory(reservation))
+            .toList();
+        Page<ReservationHistoryQueryDto> mockPage = new PageImpl<>(histories, pageable, 4);
+        GetCanceledResponse mockResponse = new GetCanceledResponse(mockPage);
 
         when(securityUtil.getCurrentMemberId()).thenReturn(1L);
         when(memberGetService.getMemberById(1L)).thenReturn(mockMember);
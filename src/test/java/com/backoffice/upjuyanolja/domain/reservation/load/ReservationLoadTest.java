@@ -0,0 +1,496 @@
+package com.backoffice.upjuyanolja.domain.reservation.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.CategoryRepository;
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
+import com.backoffice.upjuyanolja.domain.member.entity.Authority;
+import com.backoffice.upjuyanolja.domain.member.entity.Member;
+import com.backoffice.upjuyanolja.domain.member.repository.MemberRepository;
+import com.backoffice.upjuyanolja.domain.payment.entity.PayMethod;
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.CreateReservationRequest;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationRoom;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationSagaStatus;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
+import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationSagaRepository;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationSagaExecutor;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationService;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomPriceRepository;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
+import com.backoffice.upjuyanolja.global.concurrency.annotation.ConcurrencyStrategy;
+import com.backoffice.upjuyanolja.global.concurrency.aspect.ConcurrencyAspect;
+import com.backoffice.upjuyanolja.global.concurrency.aspect.TransactionAspect;
+import com.backoffice.upjuyanolja.global.concurrency.metrics.ConcurrencyMetrics;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+/**
+ * 예약 생성/취소 동시성 부하 테스트
+ * <p>
+ * 내장 Redis 와 H2 위에서 재고 전략 별로 수천 건의 예약 생성, 취소를 동시에 실행한다. 한 객실-날짜에 요청이 몰리는 경우와
+ * 여러 날짜로 분산되는 경우를 모두 측정하며, 초과 판매와 보상 누락이 없는지 검증한 뒤 p50/p99 지연 시간, 처리량, 락 대기 시간을
+ * 로그와 build/reports/load/reservation-load.csv 에 남긴다. 기본 test 태스크에서는 제외되고 loadTest 태스크로 실행한다.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest
+@Import(ReservationLoadTest.LoadTestConfiguration.class)
+@DisplayName("예약 동시성 부하 테스트")
+class ReservationLoadTest {
+
+    private static final int REQUESTS = Integer.getInteger("load.requests", 2000);
+    private static final int THREADS = Integer.getInteger("load.threads", 64);
+    private static final int ROOM_PRICE = 100000;
+    private static final int COUPON_DISCOUNT = 5000;
+    private static final int STOCK_DAYS = 30;
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+    private static final Path REPORT = Path.of("build", "reports", "load",
+        "reservation-load.csv");
+
+    private static final int REDIS_PORT = findFreePort();
+    private static final RedisServer REDIS_SERVER = startRedis();
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationSagaExecutor reservationSagaExecutor;
+
+    @Autowired
+    private ReservationSagaRepository reservationSagaRepository;
+
+    @Autowired
+    private ConcurrencyMetrics concurrencyMetrics;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomPriceRepository roomPriceRepository;
+
+    @Autowired
+    private RoomStockRepository roomStockRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    enum ContentionProfile {
+        // 모든 요청이 하나의 객실-날짜에 집중
+        HOT_ROOM_DATE,
+        // 요청마다 시작일(28일 범위)과 숙박 일수(1~3일)가 다름
+        SPREAD_DATES
+    }
+
+    record LoadResult(int success, int failure, long elapsedNanos, long[] latencies) {
+
+        double throughput() {
+            return (success + failure) / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    @TestConfiguration
+    static class LoadTestConfiguration {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedissonClient redissonClient() {
+            Config config = new Config();
+            config.useSingleServer().setAddress("redis://localhost:" + REDIS_PORT);
+            return Redisson.create(config);
+        }
+
+        // 운영 프로필에서만 등록되는 락 AOP 를 테스트 컨텍스트에 등록
+        @Bean
+        public ConcurrencyAspect concurrencyAspect(
+            RedissonClient redissonClient, TransactionAspect transactionAspect,
+            ConcurrencyMetrics concurrencyMetrics
+        ) {
+            return new ConcurrencyAspect(redissonClient, transactionAspect, concurrencyMetrics);
+        }
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+        registry.add("reservation.inventory.enabled", () -> false);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        REDIS_SERVER.stop();
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer redisServer = new RedisServer(REDIS_PORT);
+            redisServer.start();
+            return redisServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<Arguments> loadCases() {
+        List<Arguments> cases = new ArrayList<>();
+        for (ConcurrencyStrategy strategy : ConcurrencyStrategy.values()) {
+            for (ContentionProfile profile : ContentionProfile.values()) {
+                cases.add(Arguments.of(strategy, profile));
+            }
+        }
+        return cases;
+    }
+
+    @ParameterizedTest(name = "{0} / {1}")
+    @MethodSource("loadCases")
+    @DisplayName("동시 예약 생성, 취소 후 재고는 유효한 예약 수와 일치해야 한다")
+    void create_and_cancel_concurrently(ConcurrencyStrategy strategy, ContentionProfile profile)
+        throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(
+            AopTestUtils.getTargetObject(reservationSagaExecutor), "stockStrategy", strategy);
+
+        int stockCount = (profile == ContentionProfile.HOT_ROOM_DATE)
+            ? REQUESTS / 2 : REQUESTS / 20;
+        int couponStock = REQUESTS / 8;
+
+        Member member = saveMember();
+        Room room = saveRoom(stockCount);
+        Coupon coupon = saveCoupon(room, couponStock);
+
+        // when
+        concurrencyMetrics.reset();
+        LoadResult createResult = runConcurrently(REQUESTS, i -> reservationService.create(
+            member, createRequest(room, coupon, profile, i)));
+        ConcurrencyMetrics.Snapshot createMetrics = concurrencyMetrics.snapshot();
+        awaitSagaCompensation();
+
+        List<Long> reservationIds = findReservedIds(member);
+        List<Long> cancelTargets = new ArrayList<>();
+        for (int i = 0; i < reservationIds.size(); i += 2) {
+            cancelTargets.add(reservationIds.get(i));
+        }
+
+        concurrencyMetrics.reset();
+        LoadResult cancelResult = runConcurrently(cancelTargets.size(),
+            i -> reservationService.cancel(member, cancelTargets.get(i)));
+        ConcurrencyMetrics.Snapshot cancelMetrics = concurrencyMetrics.snapshot();
+
+        report(strategy, profile, "create", createResult, createMetrics);
+        report(strategy, profile, "cancel", cancelResult, cancelMetrics);
+
+        // then
+        assertThat(cancelResult.failure()).isZero();
+        verifyRoomStocks(room, stockCount);
+        verifyCouponStock(coupon, couponStock);
+    }
+
+    private LoadResult runConcurrently(int count, IntConsumer task)
+        throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+        Map<String, AtomicInteger> failures = new ConcurrentHashMap<>();
+        long[] latencies = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    long startedAt = System.nanoTime();
+                    try {
+                        task.accept(index);
+                        success.incrementAndGet();
+                    } catch (Exception e) {
+                        failure.incrementAndGet();
+                        failures.computeIfAbsent(e.getClass().getSimpleName(),
+                            key -> new AtomicInteger()).incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - startedAt;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        if (!failures.isEmpty()) {
+            log.info("실패 유형: {}", failures);
+        }
+        return new LoadResult(success.get(), failure.get(), elapsed, latencies);
+    }
+
+    private CreateReservationRequest createRequest(
+        Room room, Coupon coupon, ContentionProfile profile, int index
+    ) {
+        LocalDate startDate = TODAY.plusDays(1);
+        int stayDays = 1;
+        if (profile == ContentionProfile.SPREAD_DATES) {
+            startDate = startDate.plusDays(index % 28);
+            stayDays = 1 + index % 3;
+        }
+
+        boolean useCoupon = index % 2 == 0;
+        return CreateReservationRequest.builder()
+            .roomId(room.getId())
+            .visitorName("부하테스트")
+            .visitorPhone("010-1234-1234")
+            .startDate(startDate)
+            .endDate(startDate.plusDays(stayDays - 1))
+            .couponId(useCoupon ? coupon.getId() : null)
+            .totalPrice(useCoupon
+                ? DiscountType.makePaymentPrice(
+                    DiscountType.FLAT, ROOM_PRICE * stayDays, COUPON_DISCOUNT)
+                : ROOM_PRICE * stayDays)
+            .payMethod(PayMethod.KAKAO_PAY)
+            .build();
+    }
+
+    // 실패한 예약의 재고 보상은 비동기로 처리되므로 보상이 끝날 때까지 대기
+    private void awaitSagaCompensation() throws InterruptedException {
+        List<ReservationSagaStatus> unfinished = List.of(
+            ReservationSagaStatus.PENDING, ReservationSagaStatus.COMPENSATING);
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while (reservationSagaRepository.countByStatusIn(unfinished) > 0
+            && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+
+        assertThat(reservationSagaRepository.countByStatusIn(unfinished)).isZero();
+        assertThat(reservationSagaRepository.countByStatusIn(
+            List.of(ReservationSagaStatus.FAILED))).isZero();
+    }
+
+    // 날짜 별 재고 = 초기 재고 - 해당 날짜를 포함하는 유효 예약 수
+    private void verifyRoomStocks(Room room, int stockCount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<LocalDate, Integer> reserved = new HashMap<>();
+            em.createQuery("select rr from Reservation r join r.reservationRoom rr "
+                    + "where rr.room.id = :roomId and r.status = :status", ReservationRoom.class)
+                .setParameter("roomId", room.getId())
+                .setParameter("status", ReservationStatus.RESERVED)
+                .getResultList()
+                .forEach(reservationRoom -> reservationRoom.getStartDate()
+                    .datesUntil(reservationRoom.getEndDate().plusDays(1))
+                    .forEach(date -> reserved.merge(date, 1, Integer::sum)));
+
+            List<RoomStock> roomStocks = roomStockRepository
+                .findAllByRoomAndDateBetweenOrderByDateAsc(
+                    room, TODAY, TODAY.plusDays(STOCK_DAYS - 1));
+            for (RoomStock roomStock : roomStocks) {
+                assertThat(roomStock.getCount())
+                    .as("%s 재고", roomStock.getDate())
+                    .isGreaterThanOrEqualTo(0)
+                    .isEqualTo(stockCount - reserved.getOrDefault(roomStock.getDate(), 0));
+            }
+        });
+    }
+
+    // 쿠폰 재고 = 초기 재고 - 남아 있는 쿠폰 사용 내역 수
+    private void verifyCouponStock(Coupon coupon, int couponStock) {
+        transactionTemplate.executeWithoutResult(status -> {
+            long redeemed = em.createQuery(
+                    "select count(cr) from CouponRedeem cr where cr.coupon.id = :couponId",
+                    Long.class)
+                .setParameter("couponId", coupon.getId())
+                .getSingleResult();
+            Coupon actual = couponRepository.findById(coupon.getId()).orElseThrow();
+
+            assertThat(actual.getStock()).isGreaterThanOrEqualTo(0)
+                .isEqualTo(couponStock - (int) redeemed);
+        });
+    }
+
+    private List<Long> findReservedIds(Member member) {
+        return transactionTemplate.execute(status -> em.createQuery(
+                "select r.id from Reservation r where r.member.id = :memberId "
+                    + "and r.status = :status order by r.id", Long.class)
+            .setParameter("memberId", member.getId())
+            .setParameter("status", ReservationStatus.RESERVED)
+            .getResultList());
+    }
+
+    private void report(
+        ConcurrencyStrategy strategy, ContentionProfile profile, String phase,
+        LoadResult result, ConcurrencyMetrics.Snapshot metrics
+    ) {
+        String line = String.format("%s,%s,%s,%d,%d,%.1f,%.2f,%.2f,%d,%d,%.2f,%.2f,%d,%d",
+            strategy, profile, phase, result.success(), result.failure(), result.throughput(),
+            result.percentileMillis(0.5), result.percentileMillis(0.99),
+            metrics.lockAcquisitions(), metrics.lockTimeouts(),
+            metrics.averageLockWaitMillis(), metrics.maxLockWaitMillis(),
+            metrics.optimisticRetries(), metrics.optimisticFailures());
+        log.info("strategy,profile,phase,success,failure,ops/s,p50(ms),p99(ms),"
+            + "locks,lockTimeouts,avgLockWait(ms),maxLockWait(ms),retries,retryFailures\n{}", line);
+
+        try {
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, line + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("부하 테스트 결과를 저장하지 못했습니다. {}", e.getMessage());
+        }
+    }
+
+    private Member saveMember() {
+        return memberRepository.save(Member.builder()
+            .email(UUID.randomUUID() + "@mail.com")
+            .password("$10$ygrAExVYmFTkZn2d0.Pk3Ot5CNZwIBjZH5f.WW0AnUq4w4PtBi9Nm")
+            .name("load")
+            .phone("010-1234-1234")
+            .imageUrl("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .authority(Authority.ROLE_USER)
+            .build());
+    }
+
+    private Room saveRoom(int stockCount) {
+        Category category = categoryRepository.save(Category.builder()
+            .name("TOURIST_HOTEL")
+            .build());
+        Accommodation accommodation = accommodationRepository.save(Accommodation.builder()
+            .name("그랜드 하얏트 제주")
+            .address("제주특별자치도 제주시 노형동 925")
+            .detailAddress("")
+            .zipCode("63082")
+            .category(category)
+            .description("부하 테스트 숙소")
+            .thumbnail("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .rooms(new ArrayList<>())
+            .build());
+        Room room = roomRepository.save(Room.builder()
+            .accommodation(accommodation)
+            .name("65m² 킹룸")
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(stockCount)
+            .status(RoomStatus.SELLING)
+            .build());
+        roomPriceRepository.save(RoomPrice.builder()
+            .room(room)
+            .offWeekDaysMinFee(ROOM_PRICE)
+            .offWeekendMinFee(ROOM_PRICE)
+            .peakWeekDaysMinFee(ROOM_PRICE)
+            .peakWeekendMinFee(ROOM_PRICE)
+            .build());
+
+        List<RoomStock> roomStocks = new ArrayList<>();
+        for (int i = 0; i < STOCK_DAYS; i++) {
+            roomStocks.add(RoomStock.builder()
+                .room(room)
+                .date(TODAY.plusDays(i))
+                .count(stockCount)
+                .build());
+        }
+        roomStockRepository.saveAll(roomStocks);
+        return room;
+    }
+
+    private Coupon saveCoupon(Room room, int couponStock) {
+        return couponRepository.save(Coupon.builder()
+            .room(room)
+            .couponType(CouponType.ALL_DAYS)
+            .discountType(DiscountType.FLAT)
+            .couponStatus(CouponStatus.ENABLE)
+            .discount(COUPON_DISCOUNT)
+            .endDate(TODAY.plusMonths(1))
+            .dayLimit(-1)
+            .stock(couponStock)
+            .build());
+    }
+}
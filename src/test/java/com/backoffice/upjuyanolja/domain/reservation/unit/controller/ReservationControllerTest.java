@@ -12,11 +12,11 @@ import com.backoffice.upjuyanolja.domain.member.entity.Authority;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.member.service.MemberGetService;
 import com.backoffice.upjuyanolja.domain.payment.entity.PayMethod;
-import com.backoffice.upjuyanolja.domain.payment.entity.Payment;
 import com.backoffice.upjuyanolja.domain.reservation.controller.ReservationController;
 import com.backoffice.upjuyanolja.domain.reservation.dto.request.CreateReservationRequest;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetCanceledResponse;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetReservedResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHistoryQueryDto;
 import com.backoffice.upjuyanolja.domain.reservation.entity.Reservation;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationRoom;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
@@ -28,6 +28,7 @@ import com.backoffice.upjuyanolja.global.security.AuthenticationConfig;
 import com.backoffice.upjuyanolja.global.security.SecurityUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -176,14 +177,26 @@ class ReservationControllerTest {
         return reservation;
     }
 
-    private Payment createPayment(Reservation reservation) {
-        return Payment.builder()
-            .member(mockMember)
-            .reservation(reservation)
-            .payMethod(PayMethod.KAKAO_PAY)
+    private ReservationHistoryQueryDto createHistory(Reservation reservation) {
+        ReservationRoom reservationRoom = reservation.getReservationRoom();
+        Room room = reservationRoom.getRoom();
+        return ReservationHistoryQueryDto.builder()
+            .id(reservation.getId())
+            .createdAt(LocalDateTime.now())
+            .isCouponUsed(reservation.getIsCouponUsed())
+            .status(reservation.getStatus())
             .roomPrice(mockRoomPrice.getOffWeekDaysMinFee())
-            .discountAmount(0)
             .totalAmount(mockRoomPrice.getOffWeekDaysMinFee())
+            .accommodationId(room.getAccommodation().getId())
+            .accommodationName(room.getAccommodation().getName())
+            .roomId(room.getId())
+            .roomName(room.getName())
+            .checkInTime(room.getCheckInTime())
+            .checkOutTime(room.getCheckOutTime())
+            .defaultCapacity(room.getDefaultCapacity())
+            .maxCapacity(room.getMaxCapacity())
+            .startDate(reservationRoom.getStartDate())
+            .endDate(reservationRoom.getEndDate())
             .build();
     }
 
@@ -290,15 +303,12 @@ class ReservationControllerTest {
                 0, false, ReservationStatus.SERVICED
             ));
 
-            Page<Reservation> mockPage = new PageImpl<>(reservations, pageable,
+            List<ReservationHistoryQueryDto> histories = reservations.stream()
+                .map(reservation -> createHistory(reservation))
+                .toList();
+            Page<ReservationHistoryQueryDto> mockPage = new PageImpl<>(histories, pageable,
                 reservations.size());
-
-            List<Payment> mockPayments = new ArrayList<>();
-            for (Reservation reservation : reservations) {
-                Payment payment = createPayment(reservation);
-                mockPayments.add(payment);
-            }
-            GetReservedResponse mockResponse = new GetReservedResponse(mockPage, mockPayments);
+            GetReservedResponse mockResponse = new GetReservedResponse(mockPage);
 
             when(securityUtil.getCurrentMemberId()).thenReturn(1L);
             when(memberGetService.getMemberById(1L)).thenReturn(mockMember);
@@ -373,15 +383,12 @@ class ReservationControllerTest {
                 0, false, ReservationStatus.CANCELLED
             ));
 
-            Page<Reservation> mockPage = new PageImpl<>(reservations, pageable,
+            List<ReservationHistoryQueryDto> histories = reservations.stream()
+                .map(reservation -> createHistory(reservation))
+                .toList();
+            Page<ReservationHistoryQueryDto> mockPage = new PageImpl<>(histories, pageable,
                 reservations.size());
-
-            List<Payment> mockPayments = new ArrayList<>();
-            for (Reservation reservation : reservations) {
-                Payment payment = createPayment(reservation);
-                mockPayments.add(payment);
-            }
-            GetCanceledResponse mockResponse = new GetCanceledResponse(mockPage, mockPayments);
+            GetCanceledResponse mockResponse = new GetCanceledResponse(mockPage);
 
             when(securityUtil.getCurrentMemberId()).thenReturn(1L);
             when(memberGetService.getMemberById(1L)).thenReturn(mockMember);
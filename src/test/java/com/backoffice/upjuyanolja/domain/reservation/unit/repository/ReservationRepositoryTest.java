@@ -10,6 +10,8 @@ import com.backoffice.upjuyanolja.domain.accommodation.repository.CategoryReposi
 import com.backoffice.upjuyanolja.domain.member.entity.Authority;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.member.repository.MemberRepository;
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.ReservationCursor;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHistoryQueryDto;
 import com.backoffice.upjuyanolja.domain.reservation.entity.Reservation;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationRoom;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
@@ -20,6 +22,7 @@ import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomPriceRepository;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.global.config.JpaAuditConfiguration;
 import com.backoffice.upjuyanolja.global.config.QueryDslConfig;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -27,6 +30,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -43,7 +47,7 @@ import org.springframework.data.domain.Sort;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
-@Import(QueryDslConfig.class)
+@Import({QueryDslConfig.class, JpaAuditConfiguration.class})
 @DisplayName("ReservationRepository 단위 테스트")
 class ReservationRepositoryTest {
 
@@ -274,5 +278,32 @@ class ReservationRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("예약 내역 커서 조회")
+    class SearchReservationHistoryByCursor {
+
+        @Test
+        @DisplayName("커서 이후의 예약 내역을 (생성 일시, id) 내림차순으로 이어서 조회한다.")
+        void continueAfterCursor_findHistoriesByCursor() {
+            // given
+            setupDummy();
+            List<ReservationStatus> statuses = Arrays.asList(ReservationStatus.RESERVED,
+                ReservationStatus.SERVICED);
 
-}
\ No newline at end of file
+            // when
+            List<ReservationHistoryQueryDto> firstPage = reservationRepository
+                .findHistoriesByCursor(member.getId(), statuses, null, 2);
+            ReservationHistoryQueryDto last = firstPage.get(firstPage.size() - 1);
+            List<ReservationHistoryQueryDto> nextPage = reservationRepository
+                .findHistoriesByCursor(member.getId(), statuses,
+                    new ReservationCursor(last.createdAt(), last.id()), 2);
+
+            // then
+            assertEquals(List.of(3L, 2L),
+                firstPage.stream().map(ReservationHistoryQueryDto::id).toList());
+            assertEquals(List.of(1L),
+                nextPage.stream().map(ReservationHistoryQueryDto::id).toList());
+            assertEquals(room.getId(), nextPage.get(0).roomId());
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.backoffice.upjuyanolja.domain.reservation.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
+import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.coupon.exception.InsufficientCouponStockException;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponStockBuckets;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationSaga;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationSagaStatus;
+import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidCouponException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidReservationInfoException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationException;
+import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationSagaRepository;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationSagaExecutor;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationStockService;
+import com.backoffice.upjuyanolja.domain.reservation.service.RoomInventoryEngine;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.domain.room.service.usecase.RoomQueryUseCase;
+import com.backoffice.upjuyanolja.global.concurrency.annotation.ConcurrencyStrategy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationSagaExecutor 단위 테스트")
+class ReservationSagaExecutorTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final long SAGA_ID = 1L;
+
+    @Mock
+    ReservationSagaRepository sagaRepository;
+
+    @Mock
+    RoomRepository roomRepository;
+
+    @Mock
+    RoomQueryUseCase roomQueryUseCase;
+
+    @Mock
+    ReservationStockService stockService;
+
+    @Mock
+    RoomInventoryEngine inventoryEngine;
+
+    @Mock
+    CouponStockBuckets couponStockBuckets;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    ReservationSagaExecutor sagaExecutor;
+
+    static Room mockRoom;
+    static List<RoomStock> mockRoomStocks;
+    static Coupon mockCoupon;
+
+    @BeforeEach
+    public void initTest() {
+        sagaExecutor = new ReservationSagaExecutor(sagaRepository, roomRepository,
+            roomQueryUseCase, stockService, inventoryEngine, couponStockBuckets,
+            transactionManager, 1, 60, 30, 3, 1000);
+        ReflectionTestUtils.setField(sagaExecutor, "stockStrategy",
+            ConcurrencyStrategy.GUARDED_UPDATE);
+
+        mockRoom = Room.builder()
+            .id(1L)
+            .name("65m² 킹룸")
+            .status(RoomStatus.SELLING)
+            .build();
+        mockRoomStocks = List.of(
+            RoomStock.builder().id(1L).room(mockRoom).count(1).date(TODAY).build(),
+            RoomStock.builder().id(2L).room(mockRoom).count(1).date(TODAY.plusDays(1)).build()
+        );
+        mockCoupon = Coupon.builder()
+            .id(1L)
+            .room(mockRoom)
+            .couponType(CouponType.ALL_DAYS)
+            .discountType(DiscountType.FLAT)
+            .couponStatus(CouponStatus.ENABLE)
+            .discount(10000)
+            .endDate(TODAY.plusMonths(1))
+            .dayLimit(-1)
+            .stock(1)
+            .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sagaExecutor.shutdown();
+    }
+
+    private ReservationSaga createSaga(int reservedNights, boolean couponReserved) {
+        ReservationSaga saga = ReservationSaga.builder()
+            .id(SAGA_ID)
+            .roomId(mockRoom.getId())
+            .startDate(TODAY)
+            .endDate(TODAY.plusDays(1))
+            .couponId(mockCoupon.getId())
+            .status(ReservationSagaStatus.COMPENSATING)
+            .build();
+        ReflectionTestUtils.setField(saga, "reservedNights", reservedNights);
+        ReflectionTestUtils.setField(saga, "couponReserved", couponReserved);
+        return saga;
+    }
+
+    private void givenCompensationTarget(ReservationSaga saga) {
+        when(sagaRepository.claim(eq(SAGA_ID), eq(ReservationSagaStatus.COMPENSATING),
+            any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(1);
+        when(sagaRepository.findById(SAGA_ID)).thenReturn(Optional.of(saga));
+        when(roomRepository.getReferenceById(mockRoom.getId())).thenReturn(mockRoom);
+        when(roomQueryUseCase.getFilteredRoomStocksByDate(mockRoom, TODAY, TODAY.plusDays(1)))
+            .thenReturn(mockRoomStocks);
+    }
+
+    @Nested
+    @DisplayName("예약 사가 실행")
+    class ReserveSaga {
+
+        @Test
+        @DisplayName("쿠폰 재고 차감에 실패하면 차감된 객실 재고만 비동기로 복구한다.")
+        void compensateRoomStock_whenCouponStepFailed() {
+            // given
+            when(sagaRepository.save(any(ReservationSaga.class)))
+                .thenReturn(createSaga(0, false));
+            doThrow(new InvalidCouponException())
+                .when(stockService).decreaseCouponStockByCondition(mockCoupon.getId(), SAGA_ID);
+            givenCompensationTarget(createSaga(2, false));
+
+            // when
+            assertThrows(InvalidCouponException.class,
+                () -> sagaExecutor.reserve(mockRoom, mockRoomStocks, mockCoupon));
+
+            // then
+            verify(stockService, timeout(1000))
+                .increaseRoomStocks(mockRoom.getId(), List.of(1L, 2L));
+            verify(sagaRepository, timeout(1000)).updateStatus(SAGA_ID,
+                ReservationSagaStatus.COMPENSATING, ReservationSagaStatus.COMPENSATED, null);
+            verify(stockService, never()).increaseCouponStockByCondition(any());
+        }
+
+        @Test
+        @DisplayName("락 전략은 재고 서비스가 차감과 같은 트랜잭션에서 단계를 기록하므로 트랜잭션을 한 겹 더 열지 않는다.")
+        void recordStepInLockTransaction_whenRedisson() {
+            // given
+            ReflectionTestUtils.setField(sagaExecutor, "stockStrategy",
+                ConcurrencyStrategy.REDISSON);
+            when(sagaRepository.save(any(ReservationSaga.class)))
+                .thenReturn(createSaga(0, false));
+
+            // when
+            sagaExecutor.reserve(mockRoom, mockRoomStocks, mockCoupon);
+
+            // then
+            verify(stockService).decreaseStocks(List.of(1L, 2L), mockCoupon.getId(), SAGA_ID);
+            // 사가 저장 트랜잭션만 사용
+            verify(transactionManager, times(1)).getTransaction(any());
+            verify(sagaRepository, never()).updateReservedNights(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("재고 엔진 차감에 실패하면 먼저 기록한 단계를 지운다.")
+        void clearRecordedStep_whenInventoryReserveFailed() {
+            // given
+            when(inventoryEngine.isEnabled()).thenReturn(true);
+            when(sagaRepository.save(any(ReservationSaga.class)))
+                .thenReturn(createSaga(0, false));
+            doThrow(new InvalidReservationInfoException())
+                .when(inventoryEngine).reserve(mockRoom.getId(), List.of(TODAY, TODAY.plusDays(1)));
+
+            // when
+            assertThrows(InvalidReservationInfoException.class,
+                () -> sagaExecutor.reserve(mockRoom, mockRoomStocks, null));
+
+            // then
+            InOrder inOrder = inOrder(sagaRepository, inventoryEngine);
+            inOrder.verify(sagaRepository).updateReservedNights(SAGA_ID, 2);
+            inOrder.verify(inventoryEngine).reserve(mockRoom.getId(),
+                List.of(TODAY, TODAY.plusDays(1)));
+            inOrder.verify(sagaRepository).updateReservedNights(SAGA_ID, 0);
+        }
+
+        @Test
+        @DisplayName("쿠폰 재고 버킷을 사용하면 락 전략에서도 쿠폰 재고는 락 없이 버킷에서 차감한다.")
+        void decreaseCouponBucket_whenBucketsEnabled() {
+            // given
+            ReflectionTestUtils.setField(sagaExecutor, "stockStrategy",
+                ConcurrencyStrategy.REDISSON);
+            when(couponStockBuckets.isEnabled()).thenReturn(true);
+            when(sagaRepository.save(any(ReservationSaga.class)))
+                .thenReturn(createSaga(0, false));
+
+            // when
+            sagaExecutor.reserve(mockRoom, mockRoomStocks, mockCoupon);
+
+            // then
+            verify(stockService).decreaseStocks(List.of(1L, 2L), null, SAGA_ID);
+            // 버킷 차감 전에 단계를 기록
+            InOrder inOrder = inOrder(sagaRepository, couponStockBuckets);
+            inOrder.verify(sagaRepository).updateCouponReserved(SAGA_ID, true);
+            inOrder.verify(couponStockBuckets).decrease(mockCoupon.getId());
+            verify(sagaRepository, never()).updateCouponReserved(SAGA_ID, false);
+        }
+
+        @Test
+        @DisplayName("쿠폰 재고 버킷이 모두 소진되면 먼저 기록한 쿠폰 단계를 지운다.")
+        void clearCouponStep_whenBucketsExhausted() {
+            // given
+            when(couponStockBuckets.isEnabled()).thenReturn(true);
+            when(sagaRepository.save(any(ReservationSaga.class)))
+                .thenReturn(createSaga(0, false));
+            doThrow(new InsufficientCouponStockException())
+                .when(couponStockBuckets).decrease(mockCoupon.getId());
+
+            // when
+            assertThrows(InvalidCouponException.class,
+                () -> sagaExecutor.reserve(mockRoom, mockRoomStocks, mockCoupon));
+
+            // then
+            InOrder inOrder = inOrder(sagaRepository, couponStockBuckets);
+            inOrder.verify(sagaRepository).updateCouponReserved(SAGA_ID, true);
+            inOrder.verify(couponStockBuckets).decrease(mockCoupon.getId());
+            inOrder.verify(sagaRepository).updateCouponReserved(SAGA_ID, false);
+        }
+
+        @Test
+        @DisplayName("보상이 먼저 시작된 사가는 완료 처리할 수 없다.")
+        void InvalidReservationInfoException_alreadyCompensating() {
+            // given
+            when(sagaRepository.updateStatus(SAGA_ID, ReservationSagaStatus.PENDING,
+                ReservationSagaStatus.COMPLETED, null)).thenReturn(0);
+
+            // when
+            // then
+            assertThrows(InvalidReservationInfoException.class,
+                () -> sagaExecutor.complete(SAGA_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 사가 복구")
+    class RecoverSaga {
+
+        @Test
+        @DisplayName("보상에 실패하면 단계 기록을 되돌리고 재시도 시각을 기록한다.")
+        void scheduleRetry_whenCompensationFailed() {
+            // given
+            when(sagaRepository.findIdsByStatusAndNextRetryAtBefore(
+                eq(ReservationSagaStatus.COMPENSATING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(SAGA_ID));
+            givenCompensationTarget(createSaga(2, false));
+            doThrow(new NoSuchReservationException())
+                .when(stockService).increaseRoomStocks(mockRoom.getId(), List.of(1L, 2L));
+
+            // when
+            int recovered = sagaExecutor.recover(10);
+
+            // then
+            assertEquals(1, recovered);
+            verify(sagaRepository, timeout(1000)).updateReservedNights(SAGA_ID, 2);
+            verify(sagaRepository, timeout(1000)).updateFailure(eq(SAGA_ID),
+                eq(ReservationSagaStatus.COMPENSATING), any(LocalDateTime.class), any());
+        }
+    }
+}
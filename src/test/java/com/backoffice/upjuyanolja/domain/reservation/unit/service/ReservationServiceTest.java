@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
@@ -16,33 +19,48 @@ import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
 import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
 import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRedeemRepository;
 import com.backoffice.upjuyanolja.domain.coupon.repository.CouponRepository;
+import com.backoffice.upjuyanolja.domain.coupon.service.CouponDailyLimiter;
 import com.backoffice.upjuyanolja.domain.member.entity.Authority;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.payment.entity.PayMethod;
 import com.backoffice.upjuyanolja.domain.payment.entity.Payment;
 import com.backoffice.upjuyanolja.domain.payment.repository.PaymentRepository;
 import com.backoffice.upjuyanolja.domain.reservation.dto.request.CreateReservationRequest;
+import com.backoffice.upjuyanolja.domain.reservation.dto.request.ReservationCursor;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetCanceledResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetReservationCursorResponse;
 import com.backoffice.upjuyanolja.domain.reservation.dto.response.GetReservedResponse;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationHistoryQueryDto;
+import com.backoffice.upjuyanolja.domain.reservation.dto.response.ReservationQuoteResponse;
 import com.backoffice.upjuyanolja.domain.reservation.entity.Reservation;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationHold;
+import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationHoldStatus;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationRoom;
 import com.backoffice.upjuyanolja.domain.reservation.entity.ReservationStatus;
 import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidCouponException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidReservationCursorException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.InvalidReservationInfoException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.NoSuchReservationRoomException;
 import com.backoffice.upjuyanolja.domain.reservation.exception.PaymentFailureException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.ReservationAdmissionRequiredException;
+import com.backoffice.upjuyanolja.domain.reservation.exception.ReservationHoldExpiredException;
+import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationHoldRepository;
 import com.backoffice.upjuyanolja.domain.reservation.repository.ReservationRepository;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationAdmissionQueue;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationSagaExecutor;
 import com.backoffice.upjuyanolja.domain.reservation.service.ReservationService;
-import com.backoffice.upjuyanolja.domain.reservation.service.ReservationStockService;
+import com.backoffice.upjuyanolja.domain.reservation.service.RoomInventoryEngine;
 import com.backoffice.upjuyanolja.domain.room.entity.Room;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
 import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
 import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.domain.room.service.RoomPricingEngine;
 import com.backoffice.upjuyanolja.domain.room.service.RoomQueryService;
 import com.backoffice.upjuyanolja.domain.room.service.usecase.RoomCommandUseCase;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -56,6 +74,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -73,7 +92,16 @@ class ReservationServiceTest {
     ReservationService reservationService;
 
     @Mock
-    ReservationStockService stockService;
+    ReservationSagaExecutor sagaExecutor;
+
+    @Mock
+    RoomInventoryEngine inventoryEngine;
+
+    @Mock
+    ReservationAdmissionQueue admissionQueue;
+
+    @Mock
+    CouponDailyLimiter couponDailyLimiter;
 
     @Mock
     RoomCommandUseCase roomCommandUseCase;
@@ -81,6 +109,9 @@ class ReservationServiceTest {
     @Mock
     RoomQueryService roomQueryService;
 
+    @Spy
+    RoomPricingEngine pricingEngine = new RoomPricingEngine("07-15~08-31", "FRIDAY,SATURDAY");
+
     @Mock
     RoomRepository roomRepository;
 
@@ -93,6 +124,9 @@ class ReservationServiceTest {
     @Mock
     ReservationRepository reservationRepository;
 
+    @Mock
+    ReservationHoldRepository reservationHoldRepository;
+
     @Mock
     PaymentRepository paymentRepository;
 
@@ -120,6 +154,41 @@ class ReservationServiceTest {
         }
     }
 
+    private List<ReservationHistoryQueryDto> createHistories() {
+        List<ReservationHistoryQueryDto> histories = new ArrayList<>();
+        for (int i = 0; i < mockReservations.size(); i++) {
+            histories.add(createHistory(mockReservations.get(i), mockPayments.get(i)));
+        }
+        return histories;
+    }
+
+    private ReservationHistoryQueryDto createHistory(Reservation reservation, Payment payment) {
+        ReservationHistoryQueryDto.ReservationHistoryQueryDtoBuilder builder =
+            ReservationHistoryQueryDto.builder()
+                .id(reservation.getId())
+                .createdAt(LocalDateTime.now())
+                .isCouponUsed(reservation.getIsCouponUsed())
+                .status(reservation.getStatus())
+                .roomPrice(payment.getRoomPrice())
+                .totalAmount(payment.getTotalAmount());
+
+        ReservationRoom reservationRoom = reservation.getReservationRoom();
+        if (reservationRoom != null) {
+            Room room = reservationRoom.getRoom();
+            builder.accommodationId(room.getAccommodation().getId())
+                .accommodationName(room.getAccommodation().getName())
+                .roomId(room.getId())
+                .roomName(room.getName())
+                .checkInTime(room.getCheckInTime())
+                .checkOutTime(room.getCheckOutTime())
+                .defaultCapacity(room.getDefaultCapacity())
+                .maxCapacity(room.getMaxCapacity())
+                .startDate(reservationRoom.getStartDate())
+                .endDate(reservationRoom.getEndDate());
+        }
+        return builder.build();
+    }
+
     private static Member createMember(Long id) {
         return Member.builder()
             .id(id)
@@ -298,6 +367,24 @@ class ReservationServiceTest {
                 .build();
         }
 
+        @Test
+        @DisplayName("예약 대기열에 입장하지 않은 경우 ReservationAdmissionRequiredException")
+        void ReservationAdmissionRequiredException_notAdmitted() {
+            // given
+            CreateReservationRequest request = createRequest(defaultRoomId, defaultCouponId,
+                defaultTotalPrice);
+
+            doThrow(new ReservationAdmissionRequiredException()).when(admissionQueue)
+                .checkAdmitted(request.getRoomId(), mockMember.getId());
+
+            // when
+            // then
+            assertThrows(ReservationAdmissionRequiredException.class, () -> {
+                reservationService.create(mockMember, request);
+            });
+            verify(sagaExecutor, never()).reserve(any(), any(), any());
+        }
+
         @Test
         @DisplayName("RoomId가 유효한 경우 InvalidReservationInfoException")
         void RoomNotFoundException_invalidRoomId() {
@@ -592,6 +679,105 @@ class ReservationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("재고 선점 서비스")
+    class HoldReservation {
+
+        private ReservationHold createHold(Long id, Long sagaId) {
+            return ReservationHold.builder()
+                .id(id)
+                .memberId(mockMember.getId())
+                .sagaId(sagaId)
+                .roomId(mockRoom.getId())
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now())
+                .visitorName("홍길동")
+                .visitorPhone("010-1234-5678")
+                .payMethod(PayMethod.KAKAO_PAY)
+                .roomPrice(100000)
+                .totalAmount(100000)
+                .status(ReservationHoldStatus.HOLDING)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+        }
+
+        @Test
+        @DisplayName("만료된 선점을 확정하는 경우 ReservationHoldExpiredException")
+        void ReservationHoldExpiredException_expiredHold() {
+            // given
+            ReservationHold hold = createHold(1L, 1L);
+            when(reservationHoldRepository.findByIdAndMemberId(hold.getId(), mockMember.getId()))
+                .thenReturn(Optional.of(hold));
+            when(reservationHoldRepository.updateStatusBeforeExpiry(eq(hold.getId()),
+                eq(ReservationHoldStatus.HOLDING), eq(ReservationHoldStatus.CONFIRMED),
+                any(LocalDateTime.class))).thenReturn(0);
+
+            // when
+            // then
+            assertThrows(ReservationHoldExpiredException.class, () -> {
+                reservationService.confirm(mockMember, hold.getId());
+            });
+            verify(sagaExecutor, never()).complete(any());
+        }
+
+        @Test
+        @DisplayName("만료된 선점은 만료 처리 후 사가 보상으로 재고를 복구한다.")
+        void cancelSaga_expireHolds() {
+            // given
+            List<ReservationHold> holds = List.of(createHold(1L, 10L), createHold(2L, 20L));
+            when(reservationHoldRepository.findAllByStatusAndExpiresAtBefore(
+                eq(ReservationHoldStatus.HOLDING), any(LocalDateTime.class), any()))
+                .thenReturn(holds);
+
+            // when
+            int expired = reservationService.expireHolds(10);
+
+            // then
+            assertEquals(2, expired);
+            verify(reservationHoldRepository).updateStatusAfterExpiry(eq(List.of(1L, 2L)),
+                eq(ReservationHoldStatus.HOLDING), eq(ReservationHoldStatus.EXPIRED),
+                any(LocalDateTime.class));
+            verify(sagaExecutor).cancel(10L);
+            verify(sagaExecutor).cancel(20L);
+        }
+    }
+
+    @Nested
+    @DisplayName("숙박 가격 조회 서비스")
+    class QuoteReservation {
+
+        @Test
+        @DisplayName("숙박 기간 합계에 쿠폰 할인을 한 번 적용한 결제 금액을 반환한다.")
+        void returnTotalAmount_quote() {
+            // given
+            LocalDate startDate = LocalDate.of(2024, 3, 4);
+            LocalDate endDate = LocalDate.of(2024, 3, 6);
+            when(roomRepository.findById(mockRoom.getId())).thenReturn(Optional.of(mockRoom));
+            when(couponRepository.findByIdAndRoom(mockCoupon.getId(), mockRoom))
+                .thenReturn(Optional.of(mockCoupon));
+            when(roomQueryService.findRoomPriceByRoom(mockRoom)).thenReturn(mockRoomPrice);
+
+            // when
+            ReservationQuoteResponse response = reservationService.quote(mockRoom.getId(),
+                startDate, endDate, mockCoupon.getId());
+
+            // then
+            assertEquals(300000, response.roomPrice());
+            assertEquals(290000, response.totalAmount());
+        }
+
+        @Test
+        @DisplayName("퇴실 일자가 입실 일자보다 이른 경우 InvalidReservationInfoException")
+        void InvalidReservationInfoException_invalidPeriod() {
+            // when
+            // then
+            assertThrows(InvalidReservationInfoException.class, () -> {
+                reservationService.quote(mockRoom.getId(), LocalDate.of(2024, 3, 6),
+                    LocalDate.of(2024, 3, 4), null);
+            });
+        }
+    }
+
     @Nested
     @DisplayName("예약 내역 조회 서비스")
     class SearchReservation {
@@ -607,16 +793,12 @@ class ReservationServiceTest {
 
             Collection<ReservationStatus> statuses = Arrays.asList(ReservationStatus.RESERVED,
                 ReservationStatus.SERVICED);
-            when(reservationRepository.findAllByMemberAndStatusIn(
-                eq(mockMember),
+            List<ReservationHistoryQueryDto> histories = createHistories();
+            when(reservationRepository.findHistories(
+                eq(mockMember.getId()),
                 eq(statuses),
                 eq(pageable)
-            )).thenReturn(new PageImpl<>(mockReservations, pageable, mockReservations.size()));
-            for (int i = 0; i < mockReservations.size(); i++) {
-                when(paymentRepository.findByReservation(
-                    eq(mockReservations.get(i))
-                )).thenReturn(Optional.ofNullable(mockPayments.get(i)));
-            }
+            )).thenReturn(new PageImpl<>(histories, pageable, histories.size()));
 
             // when
             // then
@@ -634,16 +816,12 @@ class ReservationServiceTest {
             Pageable pageable = (Pageable) PageRequest.of(pageNumber, pageSize, sort);
 
             Collection<ReservationStatus> statuses = List.of(ReservationStatus.CANCELLED);
-            when(reservationRepository.findAllByMemberAndStatusIn(
-                eq(mockMember),
+            List<ReservationHistoryQueryDto> histories = createHistories();
+            when(reservationRepository.findHistories(
+                eq(mockMember.getId()),
                 eq(statuses),
                 eq(pageable)
-            )).thenReturn(new PageImpl<>(mockReservations, pageable, mockReservations.size()));
-            for (int i = 0; i < mockReservations.size(); i++) {
-                when(paymentRepository.findByReservation(
-                    eq(mockReservations.get(i))
-                )).thenReturn(Optional.ofNullable(mockPayments.get(i)));
-            }
+            )).thenReturn(new PageImpl<>(histories, pageable, histories.size()));
 
             // when
             // then
@@ -673,16 +851,12 @@ class ReservationServiceTest {
 
             Collection<ReservationStatus> statuses = Arrays.asList(ReservationStatus.RESERVED,
                 ReservationStatus.SERVICED);
-            when(reservationRepository.findAllByMemberAndStatusIn(
-                eq(mockMember),
+            List<ReservationHistoryQueryDto> histories = createHistories();
+            when(reservationRepository.findHistories(
+                eq(mockMember.getId()),
                 eq(statuses),
                 eq(pageable)
-            )).thenReturn(new PageImpl<>(mockReservations, pageable, mockReservations.size()));
-            for (int i = 0; i < mockReservations.size(); i++) {
-                when(paymentRepository.findByReservation(
-                    eq(mockReservations.get(i))
-                )).thenReturn(Optional.ofNullable(mockPayments.get(i)));
-            }
+            )).thenReturn(new PageImpl<>(histories, pageable, histories.size()));
 
             // when
             // then
@@ -713,16 +887,12 @@ class ReservationServiceTest {
             mockReservations.add(wrongReservation);
 
             Collection<ReservationStatus> statuses = Arrays.asList(ReservationStatus.CANCELLED);
-            when(reservationRepository.findAllByMemberAndStatusIn(
-                eq(mockMember),
+            List<ReservationHistoryQueryDto> histories = createHistories();
+            when(reservationRepository.findHistories(
+                eq(mockMember.getId()),
                 eq(statuses),
                 eq(pageable)
-            )).thenReturn(new PageImpl<>(mockReservations, pageable, mockReservations.size()));
-            for (int i = 0; i < mockReservations.size(); i++) {
-                when(paymentRepository.findByReservation(
-                    eq(mockReservations.get(i))
-                )).thenReturn(Optional.ofNullable(mockPayments.get(i)));
-            }
+            )).thenReturn(new PageImpl<>(histories, pageable, histories.size()));
 
             // when
             // then
@@ -731,5 +901,41 @@ class ReservationServiceTest {
             });
             assertEquals("예약 숙소 정보를 찾을 수 없습니다.", exception.getMessage());
         }
+
+        @Test
+        @DisplayName("getReservationsByCursor()를 호출 시 초과 조회된 내역이 있으면 다음 커서 반환")
+        void returnNextCursor_call_getReservationsByCursor() {
+            // given
+            int size = 2;
+            List<ReservationHistoryQueryDto> histories = createHistories();
+            when(reservationRepository.findHistoriesByCursor(
+                eq(mockMember.getId()),
+                eq(List.of(ReservationStatus.RESERVED, ReservationStatus.SERVICED)),
+                eq(null),
+                eq(size + 1)
+            )).thenReturn(histories.subList(0, size + 1));
+
+            // when
+            GetReservationCursorResponse response = reservationService.getReservationsByCursor(
+                mockMember, ReservationStatus.RESERVED, null, size);
+
+            // then
+            ReservationHistoryQueryDto last = histories.get(size - 1);
+            assertEquals(size, response.getReservations().size());
+            assertEquals(true, response.getHasNext());
+            assertEquals(new ReservationCursor(last.createdAt(), last.id()),
+                ReservationCursor.decode(response.getNextCursor()));
+        }
+
+        @Test
+        @DisplayName("잘못된 커서로 getReservationsByCursor()를 호출 시 InvalidReservationCursorException")
+        void InvalidReservationCursorException_wrongCursor_getReservationsByCursor() {
+            // given
+            // when
+            // then
+            assertThrows(InvalidReservationCursorException.class, () ->
+                reservationService.getReservationsByCursor(
+                    mockMember, ReservationStatus.RESERVED, "wrong-cursor", 3));
+        }
     }
 }
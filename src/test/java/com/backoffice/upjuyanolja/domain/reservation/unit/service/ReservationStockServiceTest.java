@@ -24,6 +24,7 @@ import jakarta.persistence.PersistenceContext;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -165,6 +166,37 @@ class ReservationStockServiceTest {
             RoomStock actual = roomStockRepository.findById(roomStock.getId()).get();
             assertEquals(0, actual.getCount(), "재고는 0이다");
         }
+
+        @Test
+        @DisplayName("조건부 UPDATE 로 재고100 일때 150명이 요청 하면 재고는 0이어야 한다")
+        void success_guarded_update_stock_100_request_150() throws InterruptedException {
+            // given
+            int numberOfStock = 100;
+            int numberOfThreads = 150;
+
+            RoomStock roomStock = createRoomStock(numberOfStock);
+            ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+            CountDownLatch latch = new CountDownLatch(numberOfThreads);
+            // when
+            for (int i = 0; i < numberOfThreads; i++) {
+                executorService.submit(() -> {
+                    try {
+                        stockService.decreaseRoomStocks(
+                            room.getId(), List.of(roomStock.getId()));
+                    } catch (InvalidReservationInfoException e) {
+                        log.info(e.getClass().getName());
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+
+            // then
+            RoomStock actual = roomStockRepository.findById(roomStock.getId()).get();
+            assertEquals(0, actual.getCount(), "재고는 0이다");
+        }
     }
 
     @Nested
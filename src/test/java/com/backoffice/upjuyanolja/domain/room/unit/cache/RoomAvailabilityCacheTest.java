@@ -0,0 +1,152 @@
+package com.backoffice.upjuyanolja.domain.room.unit.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.backoffice.upjuyanolja.domain.room.cache.RoomAvailability;
+import com.backoffice.upjuyanolja.domain.room.cache.RoomAvailabilityCache;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.event.RoomStockEvent;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RoomAvailabilityCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+    @Mock
+    private RoomStockRepository roomStockRepository;
+
+    private RoomAvailabilityCache roomAvailabilityCache;
+
+    private Room room;
+
+    @BeforeEach
+    public void setUp() {
+        roomAvailabilityCache = new RoomAvailabilityCache(roomStockRepository, 100, 60);
+        room = Room.builder()
+            .id(1L)
+            .name("65m² 킹룸")
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(10)
+            .status(RoomStatus.SELLING)
+            .build();
+    }
+
+    private RoomStock createRoomStock(LocalDate date, int count) {
+        return RoomStock.builder()
+            .room(room)
+            .date(date)
+            .count(count)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("getAvailabilities()는")
+    class Context_getAvailabilities {
+
+        @Test
+        @DisplayName("30일 구간 안의 조회는 캐시를 사용해 DB 를 다시 조회하지 않는다.")
+        void _willUseCache() {
+            // given
+            given(roomStockRepository.findAllByAccommodationIdAndDateBetween(
+                anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of(
+                    createRoomStock(TODAY, 5),
+                    createRoomStock(TODAY.plusDays(1), 2),
+                    createRoomStock(TODAY.plusDays(2), 7)
+                ));
+
+            // when
+            roomAvailabilityCache.getAvailabilities(
+                1L, List.of(room.getId()), TODAY, TODAY.plusDays(2));
+            Map<Long, RoomAvailability> result = roomAvailabilityCache.getAvailabilities(
+                1L, List.of(room.getId()), TODAY, TODAY.plusDays(2));
+
+            // then
+            RoomAvailability availability = result.get(room.getId());
+            assertThat(availability.getMinStock(TODAY, TODAY.plusDays(2))).isEqualTo(2);
+            assertThat(availability.hasStock(TODAY, TODAY.plusDays(2))).isTrue();
+            assertThat(availability.hasStock(TODAY.plusDays(3), TODAY.plusDays(5))).isFalse();
+            verify(roomStockRepository, times(1)).findAllByAccommodationIdAndDateBetween(
+                anyLong(), any(LocalDate.class), any(LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("재고 변경 이벤트를 받으면 다시 조회한다.")
+        void _willReloadAfterEvent() {
+            // given
+            given(roomStockRepository.findAllByAccommodationIdAndDateBetween(
+                anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of(createRoomStock(TODAY, 5)));
+
+            // when
+            roomAvailabilityCache.getAvailabilities(1L, List.of(room.getId()), TODAY, TODAY);
+            roomAvailabilityCache.handleRoomStockEvent(RoomStockEvent.of(room.getId()));
+            roomAvailabilityCache.getAvailabilities(1L, List.of(room.getId()), TODAY, TODAY);
+
+            // then
+            verify(roomStockRepository, times(2)).findAllByAccommodationIdAndDateBetween(
+                anyLong(), any(LocalDate.class), any(LocalDate.class));
+        }
+
+        @Test
+        @DisplayName("적재하는 동안 재고 변경 이벤트를 받으면 적재한 재고를 캐시에 넣지 않는다.")
+        void _willNotCacheInvalidatedDuringLoad() {
+            // given
+            given(roomStockRepository.findAllByAccommodationIdAndDateBetween(
+                anyLong(), any(LocalDate.class), any(LocalDate.class)))
+                .willAnswer(invocation -> {
+                    roomAvailabilityCache.handleRoomStockEvent(RoomStockEvent.of(room.getId()));
+                    return List.of(createRoomStock(TODAY, 5));
+                })
+                .willReturn(List.of(createRoomStock(TODAY, 0)));
+
+            // when
+            roomAvailabilityCache.getAvailabilities(1L, List.of(room.getId()), TODAY, TODAY);
+            Map<Long, RoomAvailability> result = roomAvailabilityCache.getAvailabilities(
+                1L, List.of(room.getId()), TODAY, TODAY);
+
+            // then
+            assertThat(result.get(room.getId()).getMinStock(TODAY, TODAY)).isZero();
+            verify(roomStockRepository, times(2)).findAllByAccommodationIdAndDateBetween(
+                anyLong(), any(LocalDate.class), any(LocalDate.class));
+        }
+    
+
+        @Test
+        @DisplayName("종료일이 시작일보다 앞서면 DB 를 조회하지 않고 재고가 없는 결과를 돌려준다.")
+        void _willReturnEmptyForReversedRange() {
+            // when
+            Map<Long, RoomAvailability> result = roomAvailabilityCache.getAvailabilities(
+                1L, List.of(room.getId()), TODAY.plusDays(40), TODAY.plusDays(35));
+
+            // then
+            assertThat(result.get(room.getId())
+                .hasStock(TODAY.plusDays(40), TODAY.plusDays(35))).isFalse();
+            verifyNoInteractions(roomStockRepository);
+        }
+    }
+}
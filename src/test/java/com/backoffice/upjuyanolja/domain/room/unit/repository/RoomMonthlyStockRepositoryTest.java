@@ -0,0 +1,134 @@
+package com.backoffice.upjuyanolja.domain.room.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.CategoryRepository;
+import com.backoffice.upjuyanolja.domain.room.dto.response.RoomMonthlyStockQueryDto;
+import com.backoffice.upjuyanolja.domain.room.entity.PackedDailyCounts;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomMonthlyStock;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomMonthlyStockRepository;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.global.config.QueryDslConfig;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(QueryDslConfig.class)
+public class RoomMonthlyStockRepositoryTest {
+
+    private static final YearMonth START_MONTH = YearMonth.of(2024, 1);
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomMonthlyStockRepository roomMonthlyStockRepository;
+
+    private Room room;
+
+    @BeforeEach
+    public void setUp() {
+        Accommodation accommodation = accommodationRepository.save(Accommodation.builder()
+            .name("그랜드 하얏트 제주")
+            .address("제주특별자치도 제주시 노형동 925")
+            .detailAddress("")
+            .zipCode("63082")
+            .category(categoryRepository.save(Category.builder()
+                .name("TOURIST_HOTEL")
+                .build()))
+            .description("제주 숙소")
+            .thumbnail("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .rooms(new ArrayList<>())
+            .build());
+
+        room = roomRepository.save(Room.builder()
+            .accommodation(accommodation)
+            .name("65m² 킹룸")
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(10)
+            .status(RoomStatus.SELLING)
+            .build());
+
+        for (int i = 0; i < 12; i++) {
+            roomMonthlyStockRepository.save(RoomMonthlyStock.builder()
+                .room(room)
+                .month(START_MONTH.plusMonths(i))
+                .counts(PackedDailyCounts.filled(START_MONTH.plusMonths(i), 10))
+                .build());
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllByRoomIdAndMonthBetween()은")
+    class Context_findAllByRoomIdAndMonthBetween {
+
+        @Test
+        @DisplayName("기간에 포함된 달의 재고만 월 순으로 조회할 수 있다.")
+        void _willReturnMonthsInRange() {
+            // when
+            List<RoomMonthlyStockQueryDto> result = roomMonthlyStockRepository
+                .findAllByRoomIdAndMonthBetween(
+                    room.getId(), START_MONTH.plusMonths(9), START_MONTH.plusMonths(10));
+
+            // then
+            assertThat(result).extracting(RoomMonthlyStockQueryDto::month)
+                .containsExactly(START_MONTH.plusMonths(9), START_MONTH.plusMonths(10));
+            assertThat(result.get(1).dailyCounts().days()).isEqualTo(30);
+        }
+    }
+
+    @Nested
+    @DisplayName("compareAndSetCounts()는")
+    class Context_compareAndSetCounts {
+
+        @Test
+        @DisplayName("읽은 버전이 그대로일 때만 재고를 변경할 수 있다.")
+        void _willUpdateOnlyWithSameVersion() {
+            // given
+            RoomMonthlyStockQueryDto stock = roomMonthlyStockRepository
+                .findAllByRoomIdAndMonthBetween(room.getId(), START_MONTH, START_MONTH).get(0);
+            byte[] updated = stock.dailyCounts().add(1, 2, -1).toBytes();
+
+            // when
+            int first = roomMonthlyStockRepository.compareAndSetCounts(
+                stock.id(), stock.version(), updated);
+            int second = roomMonthlyStockRepository.compareAndSetCounts(
+                stock.id(), stock.version(), updated);
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            PackedDailyCounts result = roomMonthlyStockRepository
+                .findAllByRoomIdAndMonthBetween(room.getId(), START_MONTH, START_MONTH).get(0)
+                .dailyCounts();
+            assertThat(result.get(1)).isEqualTo(9);
+            assertThat(result.get(3)).isEqualTo(10);
+        }
+    }
+}
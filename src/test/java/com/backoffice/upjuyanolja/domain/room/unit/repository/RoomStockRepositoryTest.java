@@ -0,0 +1,178 @@
+package com.backoffice.upjuyanolja.domain.room.unit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.CategoryRepository;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
+import com.backoffice.upjuyanolja.global.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(QueryDslConfig.class)
+public class RoomStockRepositoryTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomStockRepository roomStockRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Accommodation accommodation;
+
+    private Room room;
+
+    private Room otherRoom;
+
+    @BeforeEach
+    public void setUp() {
+        accommodation = accommodationRepository.save(Accommodation.builder()
+            .name("그랜드 하얏트 제주")
+            .address("제주특별자치도 제주시 노형동 925")
+            .detailAddress("")
+            .zipCode("63082")
+            .category(categoryRepository.save(Category.builder()
+                .name("TOURIST_HOTEL")
+                .build()))
+            .description("제주 숙소")
+            .thumbnail("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .rooms(new ArrayList<>())
+            .build());
+
+        room = saveRoom("65m² 킹룸");
+        otherRoom = saveRoom("65m² 트윈룸");
+
+        for (int i = 0; i < 30; i++) {
+            saveRoomStock(room, START_DATE.plusDays(i), 10 + i);
+            saveRoomStock(otherRoom, START_DATE.plusDays(i), 5);
+        }
+    }
+
+    private Room saveRoom(String name) {
+        return roomRepository.save(Room.builder()
+            .accommodation(accommodation)
+            .name(name)
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(10)
+            .status(RoomStatus.SELLING)
+            .build());
+    }
+
+    private void saveRoomStock(Room room, LocalDate date, int count) {
+        roomStockRepository.save(RoomStock.builder()
+            .room(room)
+            .date(date)
+            .count(count)
+            .build());
+    }
+
+    @Nested
+    @DisplayName("findAllByRoomAndDateBetweenOrderByDateAsc()는")
+    class Context_findAllByRoomAndDateBetweenOrderByDateAsc {
+
+        @Test
+        @DisplayName("기간에 포함된 객실 재고만 날짜 순으로 조회할 수 있다.")
+        void _willReturnStocksInRange() {
+            // when
+            List<RoomStock> result = roomStockRepository.findAllByRoomAndDateBetweenOrderByDateAsc(
+                room, START_DATE.plusDays(3), START_DATE.plusDays(5));
+
+            // then
+            assertThat(result).extracting(RoomStock::getDate)
+                .containsExactly(
+                    START_DATE.plusDays(3), START_DATE.plusDays(4), START_DATE.plusDays(5));
+            assertThat(result).extracting(RoomStock::getCount)
+                .containsExactly(13, 14, 15);
+        }
+    }
+
+    @Nested
+    @DisplayName("findAllByAccommodationIdAndDateBetween()은")
+    class Context_findAllByAccommodationIdAndDateBetween {
+
+        @Test
+        @DisplayName("숙소의 모든 객실 재고를 기간 단위로 한 번에 조회할 수 있다.")
+        void _willReturnStocksOfAllRooms() {
+            // when
+            List<RoomStock> result = roomStockRepository.findAllByAccommodationIdAndDateBetween(
+                accommodation.getId(), START_DATE, START_DATE.plusDays(1));
+
+            // then
+            assertThat(result).hasSize(4);
+            assertThat(result).extracting(stock -> stock.getRoom().getId())
+                .containsOnly(room.getId(), otherRoom.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("shiftCountByRoomIdAndDateFrom()은")
+    class Context_shiftCountByRoomIdAndDateFrom {
+
+        @Test
+        @DisplayName("시작일 이후 재고를 한 번에 조정하고, 0 보다 작아지면 0 으로 맞춘다.")
+        void _willShiftStocksFromStartDate() {
+            // when
+            int updated = roomStockRepository.shiftCountByRoomIdAndDateFrom(
+                room.getId(), START_DATE.plusDays(27), -38);
+            em.clear();
+
+            // then
+            assertThat(updated).isEqualTo(3);
+            List<RoomStock> result = roomStockRepository.findAllByRoomIdAndDateIn(room.getId(),
+                List.of(START_DATE.plusDays(26), START_DATE.plusDays(27),
+                    START_DATE.plusDays(29)));
+            assertThat(result).extracting(RoomStock::getCount)
+                .containsExactlyInAnyOrder(36, 0, 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("sumShortageByRoomIdAndDateFrom()은")
+    class Context_sumShortageByRoomIdAndDateFrom {
+
+        @Test
+        @DisplayName("시작일 이후 남은 재고보다 많이 줄이는 수량의 합을 구할 수 있다.")
+        void _willReturnShortage() {
+            // when
+            long shortage = roomStockRepository.sumShortageByRoomIdAndDateFrom(
+                room.getId(), START_DATE.plusDays(27), -40);
+
+            // then
+            assertThat(shortage).isEqualTo(3 + 2 + 1);
+        }
+    }
+}
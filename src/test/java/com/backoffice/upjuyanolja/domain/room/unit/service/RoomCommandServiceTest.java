@@ -18,6 +18,7 @@ import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationR
 import com.backoffice.upjuyanolja.domain.member.entity.Authority;
 import com.backoffice.upjuyanolja.domain.member.entity.Member;
 import com.backoffice.upjuyanolja.domain.member.service.MemberGetService;
+import com.backoffice.upjuyanolja.domain.reservation.service.ReservationStockService;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomImageAddRequest;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomImageDeleteRequest;
 import com.backoffice.upjuyanolja.domain.room.dto.request.RoomImageRequest;
@@ -51,6 +52,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 @Transactional
@@ -81,6 +83,9 @@ public class RoomCommandServiceTest {
     @Mock
     private RoomStockRepository roomStockRepository;
 
+    @Mock
+    private ReservationStockService reservationStockService;
+
     @Mock
     private AccommodationRepository accommodationRepository;
 
@@ -90,6 +95,9 @@ public class RoomCommandServiceTest {
     @Mock
     private EntityManager em;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     @DisplayName("registerRoom()은")
     class Context_registerRoom {
@@ -0,0 +1,124 @@
+package com.backoffice.upjuyanolja.domain.room.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.backoffice.upjuyanolja.domain.room.dto.response.RoomMonthlyStockQueryDto;
+import com.backoffice.upjuyanolja.domain.room.entity.PackedDailyCounts;
+import com.backoffice.upjuyanolja.domain.room.exception.RoomStockShortageException;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomMonthlyStockRepository;
+import com.backoffice.upjuyanolja.domain.room.service.RoomMonthlyStockService;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class RoomMonthlyStockServiceTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2024, 2);
+
+    @InjectMocks
+    private RoomMonthlyStockService roomMonthlyStockService;
+
+    @Mock
+    private RoomMonthlyStockRepository roomMonthlyStockRepository;
+
+    private RoomMonthlyStockQueryDto createStock(
+        Long id, YearMonth month, PackedDailyCounts counts, long version
+    ) {
+        return new RoomMonthlyStockQueryDto(id, month, counts.toBytes(), version);
+    }
+
+    @Nested
+    @DisplayName("isAvailable()은")
+    class Context_isAvailable {
+
+        @Test
+        @DisplayName("월을 넘는 기간도 두 행만 읽어 재고를 확인할 수 있다.")
+        void _willCheckTwoMonths() {
+            // given
+            when(roomMonthlyStockRepository.findAllByRoomIdAndMonthBetween(
+                ROOM_ID, JANUARY, FEBRUARY)).thenReturn(List.of(
+                createStock(1L, JANUARY, PackedDailyCounts.filled(JANUARY, 1), 0),
+                createStock(2L, FEBRUARY,
+                    PackedDailyCounts.filled(FEBRUARY, 1).set(3, 3, 0), 0)));
+
+            // when
+            boolean available = roomMonthlyStockService.isAvailable(
+                ROOM_ID, LocalDate.of(2024, 1, 30), LocalDate.of(2024, 2, 2), 1);
+            boolean unavailable = roomMonthlyStockService.isAvailable(
+                ROOM_ID, LocalDate.of(2024, 1, 30), LocalDate.of(2024, 2, 3), 1);
+
+            // then
+            assertThat(available).isTrue();
+            assertThat(unavailable).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("decrease()는")
+    class Context_decrease {
+
+        @Test
+        @DisplayName("다른 요청과 겹쳐 갱신에 실패하면 다시 읽어 기간의 재고만 차감한다.")
+        void _willRetryOnConflict() {
+            // given
+            when(roomMonthlyStockRepository.findAllByRoomIdAndMonthBetween(
+                ROOM_ID, JANUARY, JANUARY)).thenReturn(
+                List.of(createStock(1L, JANUARY, PackedDailyCounts.filled(JANUARY, 2), 0)),
+                List.of(createStock(1L, JANUARY, PackedDailyCounts.filled(JANUARY, 2), 1)));
+            when(roomMonthlyStockRepository.compareAndSetCounts(eq(1L), eq(0L), any()))
+                .thenReturn(0);
+            when(roomMonthlyStockRepository.compareAndSetCounts(eq(1L), eq(1L), any()))
+                .thenReturn(1);
+
+            // when
+            roomMonthlyStockService.decrease(
+                ROOM_ID, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11), 1);
+
+            // then
+            ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+            verify(roomMonthlyStockRepository, times(2))
+                .compareAndSetCounts(eq(1L), anyLong(), captor.capture());
+            PackedDailyCounts result = PackedDailyCounts.from(captor.getValue());
+            assertThat(result.get(9)).isEqualTo(2);
+            assertThat(result.get(10)).isEqualTo(1);
+            assertThat(result.get(11)).isEqualTo(1);
+            assertThat(result.get(12)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("재고가 부족한 날짜가 있으면 RoomStockShortageException")
+        void RoomStockShortageException_notEnoughStock() {
+            // given
+            when(roomMonthlyStockRepository.findAllByRoomIdAndMonthBetween(
+                ROOM_ID, JANUARY, JANUARY)).thenReturn(List.of(createStock(1L, JANUARY,
+                PackedDailyCounts.filled(JANUARY, 1).set(11, 11, 0), 0)));
+
+            // when
+            // then
+            assertThrows(RoomStockShortageException.class,
+                () -> roomMonthlyStockService.decrease(
+                    ROOM_ID, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11), 1));
+            verify(roomMonthlyStockRepository, never())
+                .compareAndSetCounts(anyLong(), anyLong(), any());
+        }
+    }
+}
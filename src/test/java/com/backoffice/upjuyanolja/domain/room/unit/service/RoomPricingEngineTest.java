@@ -0,0 +1,90 @@
+package com.backoffice.upjuyanolja.domain.room.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backoffice.upjuyanolja.domain.coupon.entity.DiscountType;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomPrice;
+import com.backoffice.upjuyanolja.domain.room.service.RoomPricingEngine;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class RoomPricingEngineTest {
+
+    private final RoomPricingEngine pricingEngine = new RoomPricingEngine(
+        "07-15~08-31, 12-24~01-01", "FRIDAY,SATURDAY");
+
+    private final RoomPrice roomPrice = RoomPrice.builder()
+        .offWeekDaysMinFee(100000)
+        .offWeekendMinFee(130000)
+        .peakWeekDaysMinFee(150000)
+        .peakWeekendMinFee(180000)
+        .build();
+
+    @Nested
+    @DisplayName("quote()는")
+    class Context_quote {
+
+        @Test
+        @DisplayName("숙박일마다 성수기, 주말 여부에 맞는 가격을 합산한다.")
+        void _willSumTierPerNight() {
+            // given
+            // 2024-07-12(금), 13(토) 비수기 주말, 14(일) 비수기 주중, 15(월) 성수기 주중
+            LocalDate startDate = LocalDate.of(2024, 7, 12);
+            LocalDate endDate = LocalDate.of(2024, 7, 15);
+
+            // when
+            int result = pricingEngine.quote(roomPrice, startDate, endDate);
+
+            // then
+            assertThat(result).isEqualTo(130000 + 130000 + 100000 + 150000);
+        }
+
+        @Test
+        @DisplayName("연말에서 연초로 이어지는 성수기 기간을 적용한다.")
+        void _willApplySeasonAcrossYear() {
+            // given
+            // 2023-12-31(일), 2024-01-01(월) 성수기 주중, 01-02(화) 비수기 주중
+            LocalDate startDate = LocalDate.of(2023, 12, 31);
+            LocalDate endDate = LocalDate.of(2024, 1, 2);
+
+            // when
+            int result = pricingEngine.quote(roomPrice, startDate, endDate);
+
+            // then
+            assertThat(result).isEqualTo(150000 + 150000 + 100000);
+        }
+
+        @Test
+        @DisplayName("쿠폰 할인은 숙박 가격 합계에 한 번 적용한다.")
+        void _willApplyCouponToTotal() {
+            // given
+            LocalDate startDate = LocalDate.of(2024, 7, 12);
+            LocalDate endDate = LocalDate.of(2024, 7, 15);
+
+            // when
+            int rate = pricingEngine.quote(
+                roomPrice, startDate, endDate, DiscountType.RATE, 10);
+            int flat = pricingEngine.quote(
+                roomPrice, startDate, endDate, DiscountType.FLAT, 10000);
+
+            // then
+            assertThat(rate).isEqualTo(459000);
+            assertThat(flat).isEqualTo(500000);
+        }
+
+        @Test
+        @DisplayName("종료일이 시작일보다 이르면 0을 반환한다.")
+        void _willReturnZeroForEmptyRange() {
+            // given
+            LocalDate startDate = LocalDate.of(2024, 7, 12);
+
+            // when
+            int result = pricingEngine.quote(roomPrice, startDate, startDate.minusDays(1));
+
+            // then
+            assertThat(result).isZero();
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.backoffice.upjuyanolja.domain.room.unit.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -11,7 +10,7 @@ import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
 import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationOwnershipRepository;
 import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
-import com.backoffice.upjuyanolja.domain.coupon.dto.response.CouponDetailResponse;
+import com.backoffice.upjuyanolja.domain.coupon.cache.RoomCoupons;
 import com.backoffice.upjuyanolja.domain.coupon.entity.Coupon;
 import com.backoffice.upjuyanolja.domain.coupon.entity.CouponStatus;
 import com.backoffice.upjuyanolja.domain.coupon.entity.CouponType;
@@ -199,26 +198,6 @@ public class RoomQueryServiceTest {
                     .dayLimit(10)
                     .build()
             );
-            List<CouponDetailResponse> flatCoupons = List.of(
-                CouponDetailResponse.builder()
-                    .id(1L)
-                    .name("10000원 할인")
-                    .price(90000)
-                    .build(),
-                CouponDetailResponse.builder()
-                    .id(3L)
-                    .name("15000원 할인")
-                    .price(95000)
-                    .build()
-            );
-            List<CouponDetailResponse> rateCoupons = List.of(
-                CouponDetailResponse.builder()
-                    .id(2L)
-                    .name("20% 할인")
-                    .price(80000)
-                    .build()
-            );
-
             given(memberGetService.getMemberById(any(Long.TYPE))).willReturn(member);
             given(accommodationRepository.findById(any(Long.TYPE)))
                 .willReturn(Optional.of(accommodation));
@@ -234,17 +213,8 @@ public class RoomQueryServiceTest {
                 .willReturn(Optional.of(savedRoomOption));
             given(roomPriceRepository.findByRoom(savedRoom))
                 .willReturn(Optional.of(savedRoomPrice));
-            given(couponService.getCouponInRoom(any(Room.class))).willReturn(coupons);
-            given(couponService.getSortedDiscountTypeCouponResponseInRoom(
-                any(Room.class),
-                any((Integer.TYPE)),
-                any(List.class),
-                eq(DiscountType.FLAT))).willReturn(flatCoupons);
-            given(couponService.getSortedDiscountTypeCouponResponseInRoom(
-                any(Room.class),
-                any((Integer.TYPE)),
-                any(List.class),
-                eq(DiscountType.RATE))).willReturn(rateCoupons);
+            given(couponService.getRoomCoupons(any(Room.class), any(Integer.TYPE)))
+                .willReturn(RoomCoupons.of(coupons, 100000));
 
             // when
             RoomPageResponse result = roomQueryService.getRooms(1L, 1L, roomPageRequest.of());
@@ -278,17 +248,7 @@ public class RoomQueryServiceTest {
                 );
             verify(roomRepository, times(1))
                 .findAllByAccommodation(any(Long.TYPE), any(Pageable.class));
-            verify(couponService, times(1)).getCouponInRoom(any(Room.class));
-            verify(couponService, times(1)).getSortedDiscountTypeCouponResponseInRoom(
-                any(Room.class),
-                any((Integer.TYPE)),
-                any(List.class),
-                eq(DiscountType.FLAT));
-            verify(couponService, times(1)).getSortedDiscountTypeCouponResponseInRoom(
-                any(Room.class),
-                any((Integer.TYPE)),
-                any(List.class),
-                eq(DiscountType.RATE));
+            verify(couponService, times(1)).getRoomCoupons(any(Room.class), any(Integer.TYPE));
         }
     }
 
@@ -0,0 +1,117 @@
+package com.backoffice.upjuyanolja.domain.room.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.CategoryRepository;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
+import com.backoffice.upjuyanolja.domain.room.service.RoomStockArchiver;
+import com.backoffice.upjuyanolja.global.config.QueryDslConfig;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(QueryDslConfig.class)
+@DisplayName("RoomStockArchiver 단위 테스트")
+class RoomStockArchiverTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomStockRepository roomStockRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private RoomStockArchiver roomStockArchiver;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        roomStockArchiver = new RoomStockArchiver(new NamedParameterJdbcTemplate(dataSource));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Accommodation accommodation = accommodationRepository.save(Accommodation.builder()
+            .name("그랜드 하얏트 제주")
+            .address("제주특별자치도 제주시 노형동 925")
+            .detailAddress("")
+            .zipCode("63082")
+            .category(categoryRepository.save(Category.builder()
+                .name("TOURIST_HOTEL")
+                .build()))
+            .description("제주 숙소")
+            .thumbnail("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .rooms(new ArrayList<>())
+            .build());
+        Room room = roomRepository.save(Room.builder()
+            .accommodation(accommodation)
+            .name("65m² 킹룸")
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(10)
+            .status(RoomStatus.SELLING)
+            .build());
+
+        List<RoomStock> stocks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            stocks.add(RoomStock.builder()
+                .room(room)
+                .date(START_DATE.plusDays(i))
+                .count(10)
+                .build());
+        }
+        roomStockRepository.saveAllAndFlush(stocks);
+    }
+
+    @Test
+    @DisplayName("기준일 이전 재고만 배치 크기만큼 보관 테이블로 옮긴다.")
+    void archive_movesExpiredStocksInBatches() {
+        // given
+        LocalDate cutoff = START_DATE.plusDays(5);
+
+        // when
+        int first = roomStockArchiver.archive(cutoff, 3);
+        int second = roomStockArchiver.archive(cutoff, 3);
+        int third = roomStockArchiver.archive(cutoff, 3);
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly(3, 2, 0);
+        assertThat(jdbcTemplate.queryForObject(
+            "select min(date) from room_stock", LocalDate.class)).isEqualTo(cutoff);
+        assertThat(jdbcTemplate.queryForObject(
+            "select count(*) from room_stock_archive where date < ?", Long.class, cutoff))
+            .isEqualTo(5L);
+    }
+}
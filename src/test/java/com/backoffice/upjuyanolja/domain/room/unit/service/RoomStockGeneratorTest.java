@@ -0,0 +1,152 @@
+package com.backoffice.upjuyanolja.domain.room.unit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Accommodation;
+import com.backoffice.upjuyanolja.domain.accommodation.entity.Category;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.AccommodationRepository;
+import com.backoffice.upjuyanolja.domain.accommodation.repository.CategoryRepository;
+import com.backoffice.upjuyanolja.domain.room.entity.Room;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStatus;
+import com.backoffice.upjuyanolja.domain.room.entity.RoomStock;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomRepository;
+import com.backoffice.upjuyanolja.domain.room.repository.RoomStockRepository;
+import com.backoffice.upjuyanolja.domain.room.service.RoomStockGenerator;
+import com.backoffice.upjuyanolja.domain.room.service.RoomStockGenerator.RoomStockGenerationResult;
+import com.backoffice.upjuyanolja.global.config.QueryDslConfig;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+ * 생성기는 워커 스레드에서 별도 트랜잭션으로 INSERT 하므로
+ * 테스트 트랜잭션 없이 커밋된 데이터로 검증하고 직접 정리한다.
+ * */
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(QueryDslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("RoomStockGenerator 단위 테스트")
+class RoomStockGeneratorTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = START_DATE.plusDays(9);
+
+    @Autowired
+    private AccommodationRepository accommodationRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomStockRepository roomStockRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RoomStockGenerator roomStockGenerator;
+
+    private Accommodation accommodation;
+
+    @BeforeEach
+    public void setUp() {
+        // 청크 크기보다 객실이 많아야 여러 청크가 병렬로 처리됨
+        roomStockGenerator = new RoomStockGenerator(
+            new NamedParameterJdbcTemplate(dataSource), transactionManager, 2, 2);
+
+        accommodation = accommodationRepository.save(Accommodation.builder()
+            .name("그랜드 하얏트 제주")
+            .address("제주특별자치도 제주시 노형동 925")
+            .detailAddress("")
+            .zipCode("63082")
+            .category(categoryRepository.save(Category.builder()
+                .name("TOURIST_HOTEL")
+                .build()))
+            .description("제주 숙소")
+            .thumbnail("http://tong.visitkorea.or.kr/cms/resource/83/2876783_image2_1.jpg")
+            .rooms(new ArrayList<>())
+            .build());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        roomStockGenerator.shutdown();
+        roomStockRepository.deleteAllInBatch();
+        roomRepository.deleteAllInBatch();
+        accommodationRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+    }
+
+    private Room saveRoom(String name, int amount) {
+        return roomRepository.save(Room.builder()
+            .accommodation(accommodation)
+            .name(name)
+            .defaultCapacity(2)
+            .maxCapacity(3)
+            .checkInTime(LocalTime.of(15, 0, 0))
+            .checkOutTime(LocalTime.of(11, 0, 0))
+            .amount(amount)
+            .status(RoomStatus.SELLING)
+            .build());
+    }
+
+    @Test
+    @DisplayName("빠진 날짜만 객실 수량으로 생성하고, 다시 실행해도 중복 생성하지 않는다.")
+    void generate_fillsOnlyMissingDates() {
+        // given
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rooms.add(saveRoom("객실 " + i, 10 + i));
+        }
+        roomStockRepository.save(RoomStock.builder()
+            .room(rooms.get(0))
+            .date(START_DATE.plusDays(3))
+            .count(1)
+            .build());
+
+        Room deletedRoom = saveRoom("삭제된 객실", 10);
+        deletedRoom.delete(LocalDateTime.now());
+        roomRepository.save(deletedRoom);
+
+        // when
+        RoomStockGenerationResult first = roomStockGenerator.generate(START_DATE, END_DATE);
+        RoomStockGenerationResult second = roomStockGenerator.generate(START_DATE, END_DATE);
+
+        // then
+        assertThat(first.rooms()).isEqualTo(5);
+        assertThat(first.inserted()).isEqualTo(5 * 10 - 1);
+        assertThat(second.inserted()).isZero();
+
+        List<RoomStock> stocks = roomStockRepository.findAllByRoomAndDateBetweenOrderByDateAsc(
+            rooms.get(1), START_DATE, END_DATE);
+        assertThat(stocks).hasSize(10);
+        assertThat(stocks).extracting(RoomStock::getCount).containsOnly(11);
+        assertThat(roomStockRepository.findAllByRoomAndDateBetweenOrderByDateAsc(
+            rooms.get(0), START_DATE.plusDays(3), START_DATE.plusDays(3)))
+            .extracting(RoomStock::getCount).containsExactly(1);
+        assertThat(roomStockRepository.findAllByRoomAndDateBetweenOrderByDateAsc(
+            deletedRoom, START_DATE, END_DATE)).isEmpty();
+    }
+}
@@ -0,0 +1,247 @@
+package com.backoffice.upjuyanolja.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.backoffice.upjuyanolja.global.exception.IdempotencyKeyReusedException;
+import com.backoffice.upjuyanolja.global.exception.IdempotencyRequestInProgressException;
+import com.backoffice.upjuyanolja.global.idempotency.annotation.Idempotent;
+import com.backoffice.upjuyanolja.global.idempotency.aspect.IdempotencyAspect;
+import com.backoffice.upjuyanolja.global.idempotency.store.IdempotencyRecord;
+import com.backoffice.upjuyanolja.global.idempotency.store.IdempotencyRecord.State;
+import com.backoffice.upjuyanolja.global.idempotency.store.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyAspect 단위 테스트")
+class IdempotencyAspectTest {
+
+    @Mock
+    IdempotencyStore idempotencyStore;
+
+    @Mock
+    ProceedingJoinPoint joinPoint;
+
+    @Mock
+    MethodSignature signature;
+
+    @Mock
+    ScheduledFuture<?> renewal;
+
+    IdempotencyAspect idempotencyAspect;
+
+    Idempotent idempotent;
+
+    MockHttpServletRequest request;
+
+    record SampleRequest(String name) {
+
+    }
+
+    record SampleResponse(Long id) {
+
+    }
+
+    static class SampleController {
+
+        @Idempotent(name = "sample")
+        public ResponseEntity<SampleResponse> create(@RequestBody SampleRequest request) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(new SampleResponse(1L));
+        }
+    }
+
+    @BeforeEach
+    public void initTest() throws NoSuchMethodException {
+        idempotencyAspect = new IdempotencyAspect(idempotencyStore, new ObjectMapper());
+        idempotent = SampleController.class.getMethod("create", SampleRequest.class)
+            .getAnnotation(Idempotent.class);
+
+        request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void givenJoinPoint(SampleRequest sampleRequest) throws NoSuchMethodException {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod())
+            .thenReturn(SampleController.class.getMethod("create", SampleRequest.class));
+        when(joinPoint.getArgs()).thenReturn(new Object[]{sampleRequest});
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더가 없으면 저장소를 거치지 않고 처리한다.")
+    void proceed_withoutHeader() throws Throwable {
+        // given
+        when(joinPoint.proceed()).thenReturn(ResponseEntity.ok().build());
+
+        // when
+        idempotencyAspect.handleIdempotency(joinPoint, idempotent);
+
+        // then
+        verify(joinPoint).proceed();
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("처음 받은 키는 처리 결과를 저장한다.")
+    void complete_firstRequest() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.HEADER_NAME, "key-1");
+        givenJoinPoint(new SampleRequest("a"));
+        ArgumentCaptor<IdempotencyRecord> markerCaptor = ArgumentCaptor.forClass(
+            IdempotencyRecord.class);
+        when(idempotencyStore.start(anyString(), markerCaptor.capture()))
+            .thenReturn(Optional.empty());
+        doReturn(renewal).when(idempotencyStore).keepAlive(anyString(), any());
+        when(joinPoint.proceed())
+            .thenReturn(ResponseEntity.status(HttpStatus.CREATED).body(new SampleResponse(1L)));
+
+        // when
+        idempotencyAspect.handleIdempotency(joinPoint, idempotent);
+
+        // then
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(
+            IdempotencyRecord.class);
+        verify(idempotencyStore).complete(anyString(), eq(markerCaptor.getValue()),
+            captor.capture());
+        assertThat(captor.getValue().state()).isEqualTo(State.COMPLETED);
+        assertThat(captor.getValue().status()).isEqualTo(201);
+        assertThat(captor.getValue().body()).isEqualTo("{\"id\":1}");
+        verify(renewal).cancel(false);
+    }
+
+    @Test
+    @DisplayName("처리 중 서버 오류가 발생하면 선점한 처리 중 표시만 해제하고 연장을 멈춘다.")
+    void release_serverError() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.HEADER_NAME, "key-1");
+        givenJoinPoint(new SampleRequest("a"));
+        ArgumentCaptor<IdempotencyRecord> markerCaptor = ArgumentCaptor.forClass(
+            IdempotencyRecord.class);
+        when(idempotencyStore.start(anyString(), markerCaptor.capture()))
+            .thenReturn(Optional.empty());
+        doReturn(renewal).when(idempotencyStore).keepAlive(anyString(), any());
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException());
+
+        // when
+        assertThrows(IllegalStateException.class,
+            () -> idempotencyAspect.handleIdempotency(joinPoint, idempotent));
+
+        // then
+        assertThat(markerCaptor.getValue().token()).isNotNull();
+        verify(idempotencyStore).release(anyString(), eq(markerCaptor.getValue()));
+        verify(idempotencyStore, never()).complete(anyString(), any(), any());
+        verify(renewal).cancel(false);
+    }
+
+    @Test
+    @DisplayName("서비스가 처리를 마친 뒤 결과 저장이 실패해도 키를 해제하지 않고 응답을 돌려준다.")
+    void keepKey_completeFailed() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.HEADER_NAME, "key-1");
+        givenJoinPoint(new SampleRequest("a"));
+        when(idempotencyStore.start(anyString(), any(IdempotencyRecord.class)))
+            .thenReturn(Optional.empty());
+        doReturn(renewal).when(idempotencyStore).keepAlive(anyString(), any());
+        ResponseEntity<SampleResponse> response = ResponseEntity.status(HttpStatus.CREATED)
+            .body(new SampleResponse(1L));
+        when(joinPoint.proceed()).thenReturn(response);
+        doThrow(new IllegalStateException()).when(idempotencyStore)
+            .complete(anyString(), any(), any());
+
+        // when
+        Object result = idempotencyAspect.handleIdempotency(joinPoint, idempotent);
+
+        // then
+        assertThat(result).isEqualTo(response);
+        verify(idempotencyStore, never()).release(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 키로 재시도하면 서비스를 호출하지 않고 저장된 응답을 돌려준다.")
+    void replay_completedRequest() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.HEADER_NAME, "key-1");
+        givenJoinPoint(new SampleRequest("a"));
+        when(idempotencyStore.start(anyString(), any(IdempotencyRecord.class)))
+            .thenAnswer(invocation -> Optional.of(IdempotencyRecord.builder()
+                .state(State.COMPLETED)
+                .fingerprint(invocation.<IdempotencyRecord>getArgument(1).fingerprint())
+                .status(201)
+                .body("{\"id\":1}")
+                .build()));
+
+        // when
+        Object result = idempotencyAspect.handleIdempotency(joinPoint, idempotent);
+
+        // then
+        verify(joinPoint, never()).proceed();
+        ResponseEntity<?> response = (ResponseEntity<?>) result;
+        assertThat(response.getStatusCode().value()).isEqualTo(201);
+        assertThat(response.getBody()).isEqualTo(new SampleResponse(1L));
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 재시도하면 IdempotencyRequestInProgressException")
+    void IdempotencyRequestInProgressException_inProgress() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.HEADER_NAME, "key-1");
+        givenJoinPoint(new SampleRequest("a"));
+        when(idempotencyStore.start(anyString(), any(IdempotencyRecord.class)))
+            .thenAnswer(invocation -> Optional.of(IdempotencyRecord.inProgress(
+                invocation.<IdempotencyRecord>getArgument(1).fingerprint())));
+
+        // when
+        // then
+        assertThrows(IdempotencyRequestInProgressException.class,
+            () -> idempotencyAspect.handleIdempotency(joinPoint, idempotent));
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 IdempotencyKeyReusedException")
+    void IdempotencyKeyReusedException_differentBody() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.HEADER_NAME, "key-1");
+        givenJoinPoint(new SampleRequest("b"));
+        when(idempotencyStore.start(anyString(), any(IdempotencyRecord.class)))
+            .thenReturn(Optional.of(IdempotencyRecord.inProgress("other")));
+
+        // when
+        // then
+        assertThrows(IdempotencyKeyReusedException.class,
+            () -> idempotencyAspect.handleIdempotency(joinPoint, idempotent));
+        verify(idempotencyStore, never()).complete(anyString(), any(), any());
+    }
+}